@@ -0,0 +1,100 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Quantity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Measures formatting and parsing of single quantities by {@link SimpleQuantityFormat} and
+ * {@link NumberDelimiterQuantityFormat}, appending to a reused {@link StringBuilder} like a metrics exporter does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuantityFormatBenchmark {
+
+  @Param({ "12.5", "1500", "0.1234567", "6.02214076E23" })
+  public String value;
+
+  private Quantity<?> quantity;
+  private String text;
+  private SimpleQuantityFormat simpleFormat;
+  private NumberDelimiterQuantityFormat delimiterFormat;
+  private final StringBuilder dest = new StringBuilder();
+
+  @Setup
+  public void setUp() {
+    final Number number = value.indexOf('.') < 0 ? (Number) Long.valueOf(value) : (Number) Double.valueOf(value);
+    quantity = Quantities.getQuantity(number, Units.METRE);
+    simpleFormat = SimpleQuantityFormat.getInstance();
+    delimiterFormat = NumberDelimiterQuantityFormat.getInstance(FormatBehavior.LOCALE_NEUTRAL);
+    text = delimiterFormat.format(quantity);
+  }
+
+  @Benchmark
+  public StringBuilder formatSimple() throws IOException {
+    dest.setLength(0);
+    simpleFormat.format(quantity, dest);
+    return dest;
+  }
+
+  @Benchmark
+  public StringBuilder formatNumberDelimiter() throws IOException {
+    dest.setLength(0);
+    delimiterFormat.format(quantity, dest);
+    return dest;
+  }
+
+  @Benchmark
+  public Quantity<?> parseNumberDelimiter() {
+    return delimiterFormat.parse(text);
+  }
+}
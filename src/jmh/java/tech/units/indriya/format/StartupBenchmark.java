@@ -0,0 +1,100 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.format.UnitFormat;
+import javax.measure.spi.FormatService;
+import javax.measure.spi.ServiceProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * Measures the time to the first parse in a fresh JVM, including the initialization of the units, the unit formats and
+ * their symbol tables. Every fork runs a single invocation, so each result is one cold start.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+  @Benchmark
+  public Unit<?> simpleUnitFormat() {
+    return SimpleUnitFormat.getInstance().parse("km/h");
+  }
+
+  @Benchmark
+  public Unit<?> ebnfUnitFormat() {
+    return EBNFUnitFormat.getInstance().parse("km/h");
+  }
+
+  @Benchmark
+  public Unit<?> localUnitFormat() {
+    return LocalUnitFormat.getInstance().parse("km/h");
+  }
+
+  @Benchmark
+  public FormatService formatServiceLookup() {
+    return ServiceProvider.current().getFormatService();
+  }
+
+  @Benchmark
+  public UnitFormat firstUnitFormat() {
+    return ServiceProvider.current().getFormatService().getUnitFormat();
+  }
+
+  @Benchmark
+  public UnitFormat firstLocalUnitFormat() {
+    return ServiceProvider.current().getFormatService().getUnitFormat("LOCAL");
+  }
+
+  @Benchmark
+  public Unit<?> formatService() {
+    return ServiceProvider.current().getFormatService().getUnitFormat().parse("km/h");
+  }
+
+  @Benchmark
+  public Quantity<?> quantity() {
+    return Quantities.getQuantity("12 km/h");
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static javax.measure.MetricPrefix.MILLI;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Unit;
+import javax.measure.format.UnitFormat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * Measures parsing and formatting of units by {@link SimpleUnitFormat} (both flavors), {@link EBNFUnitFormat} and {@link LocalUnitFormat}, for a
+ * named unit, a prefixed unit and a product unit. Each format parses the text it formats.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitFormatBenchmark {
+
+  @Param({ "Simple", "SimpleASCII", "EBNF", "Local" })
+  public String formatType;
+
+  @Param({ "named", "prefixed", "product" })
+  public String unitType;
+
+  private UnitFormat format;
+  private Unit<?> unit;
+  private String text;
+  private final StringBuilder dest = new StringBuilder();
+
+  @Setup
+  public void setUp() {
+    switch (formatType) {
+    case "Simple":
+      format = SimpleUnitFormat.getInstance();
+      break;
+    case "SimpleASCII":
+      format = SimpleUnitFormat.getInstance(SimpleUnitFormat.Flavor.ASCII);
+      break;
+    case "EBNF":
+      format = EBNFUnitFormat.getInstance();
+      break;
+    default:
+      format = LocalUnitFormat.getInstance();
+    }
+    switch (unitType) {
+    case "named":
+      unit = Units.NEWTON;
+      break;
+    case "prefixed":
+      unit = MILLI(Units.GRAM);
+      break;
+    default:
+      unit = Units.KILOGRAM.multiply(Units.METRE.pow(2)).divide(Units.SECOND.pow(3).multiply(Units.KELVIN));
+    }
+    text = format.format(unit);
+  }
+
+  @Benchmark
+  public Unit<?> parse() {
+    return format.parse(text);
+  }
+
+  @Benchmark
+  public StringBuilder format() throws IOException {
+    dest.setLength(0);
+    format.format(unit, dest);
+    return dest;
+  }
+}
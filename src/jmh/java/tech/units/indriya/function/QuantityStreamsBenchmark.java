@@ -0,0 +1,111 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static javax.measure.MetricPrefix.CENTI;
+import static javax.measure.MetricPrefix.KILO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+import tech.uom.lib.common.function.QuantityFunctions;
+
+/**
+ * Measures collecting and reducing streams of quantities in mixed units with {@link QuantityStreams} and {@link QuantityFunctions}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuantityStreamsBenchmark {
+
+  @Param({ "100", "10000" })
+  public int size;
+
+  private List<Quantity<Length>> quantities;
+
+  @Setup
+  public void setUp() {
+    @SuppressWarnings("unchecked")
+    final Unit<Length>[] units = new Unit[] { Units.METRE, KILO(Units.METRE), CENTI(Units.METRE) };
+    quantities = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      quantities.add(Quantities.getQuantity(i % 2 == 0 ? (Number) i : (Number) (i + 0.5), units[i % units.length]));
+    }
+  }
+
+  @Benchmark
+  public QuantitySummaryStatistics<Length> summarize() {
+    return quantities.stream().collect(QuantityStreams.summarizeQuantity(Units.METRE));
+  }
+
+  @Benchmark
+  public Quantity<Length> sum() {
+    return quantities.stream().reduce(QuantityFunctions.sum(Units.METRE)).get();
+  }
+
+  @Benchmark
+  public Quantity<Length> min() {
+    return quantities.stream().reduce(QuantityFunctions.min()).get();
+  }
+
+  @Benchmark
+  public List<Quantity<Length>> sort() {
+    return quantities.stream().sorted(QuantityFunctions.sortNumber()).collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public Map<Unit<Length>, List<Quantity<Length>>> groupByUnit() {
+    return quantities.stream().collect(Collectors.groupingBy(QuantityFunctions.groupByUnit()));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.MetricPrefix;
+import javax.measure.UnitConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link UnitConverter#convert(Number)} and {@link UnitConverter#convert(double)} for each converter class, and for a composition of
+ * converters as obtained between units of different systems.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitConverterBenchmark {
+
+  @Param({ "Add", "Rational", "DoubleMultiply", "PowerOfInt", "PowerOfPi", "Exp", "Log", "Composite" })
+  public String converterType;
+
+  @Param({ "int", "double", "BigDecimal" })
+  public String numberType;
+
+  private UnitConverter converter;
+  private Number value;
+  private double doubleValue;
+
+  @Setup
+  public void setUp() {
+    switch (converterType) {
+    case "Add":
+      converter = new AddConverter(273.15);
+      break;
+    case "Rational":
+      converter = RationalConverter.of(1609344, 1000);
+      break;
+    case "DoubleMultiply":
+      converter = DoubleMultiplyConverter.of(0.3048);
+      break;
+    case "PowerOfInt":
+      converter = PowerOfIntConverter.of(MetricPrefix.KILO);
+      break;
+    case "PowerOfPi":
+      converter = PowerOfPiConverter.of(1);
+      break;
+    case "Exp":
+      converter = new ExpConverter(10);
+      break;
+    case "Log":
+      converter = new LogConverter(10);
+      break;
+    default:
+      converter = new AddConverter(459.67).concatenate(RationalConverter.of(5, 9)).concatenate(PowerOfIntConverter.of(MetricPrefix.MILLI));
+    }
+    switch (numberType) {
+    case "int":
+      value = 42;
+      break;
+    case "double":
+      value = 42.5;
+      break;
+    default:
+      value = new BigDecimal("42.125");
+    }
+    doubleValue = value.doubleValue();
+  }
+
+  @Benchmark
+  public Number convertNumber() {
+    return converter.convert(value);
+  }
+
+  @Benchmark
+  public double convertDouble() {
+    return converter.convert(doubleValue);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.quantity;
+
+import static javax.measure.MetricPrefix.KILO;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Measures {@link Quantity#add(Quantity)}, {@link Quantity#multiply(Quantity)} and {@link Quantity#to(javax.measure.Unit)} for each number type the
+ * quantities may hold.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuantityArithmeticBenchmark {
+
+  @Param({ "int", "long", "double", "BigInteger", "BigDecimal", "RationalNumber" })
+  public String numberType;
+
+  private Quantity<Length> metres;
+  private Quantity<Length> otherMetres;
+  private Quantity<Length> kilometres;
+  private Number factor;
+
+  @Setup
+  public void setUp() {
+    metres = Quantities.getQuantity(number(1200), Units.METRE);
+    otherMetres = Quantities.getQuantity(number(34), Units.METRE);
+    kilometres = Quantities.getQuantity(number(3), KILO(Units.METRE));
+    factor = number(7);
+  }
+
+  private Number number(int value) {
+    switch (numberType) {
+    case "int":
+      return value;
+    case "long":
+      return (long) value;
+    case "double":
+      return value + 0.5;
+    case "BigInteger":
+      return BigInteger.valueOf(value);
+    case "BigDecimal":
+      return BigDecimal.valueOf(value).add(new BigDecimal("0.25"));
+    default:
+      return RationalNumber.of(2 * value + 1, 3);
+    }
+  }
+
+  @Benchmark
+  public Quantity<Length> add() {
+    return metres.add(otherMetres);
+  }
+
+  @Benchmark
+  public Quantity<Length> addMixedUnits() {
+    return metres.add(kilometres);
+  }
+
+  @Benchmark
+  public Quantity<?> multiply() {
+    return metres.multiply(otherMetres);
+  }
+
+  @Benchmark
+  public Quantity<Length> multiplyByNumber() {
+    return metres.multiply(factor);
+  }
+
+  @Benchmark
+  public Quantity<Length> to() {
+    return metres.to(KILO(Units.METRE));
+  }
+}
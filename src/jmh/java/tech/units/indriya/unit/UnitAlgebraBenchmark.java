@@ -0,0 +1,111 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.unit;
+
+import static javax.measure.MetricPrefix.KILO;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Dimension;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Speed;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the unit algebra: products, quotients, powers and prefixes of units, and the converters and dimensions derived from them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitAlgebraBenchmark {
+
+  private Unit<?> newtonMetre;
+  private Unit<Speed> kilometrePerHour;
+
+  @Setup
+  public void setUp() {
+    newtonMetre = Units.NEWTON.multiply(Units.METRE);
+    kilometrePerHour = Units.KILOMETRE_PER_HOUR;
+  }
+
+  @Benchmark
+  public Unit<?> multiply() {
+    return Units.NEWTON.multiply(Units.METRE);
+  }
+
+  @Benchmark
+  public Unit<?> divide() {
+    return KILO(Units.METRE).divide(Units.HOUR);
+  }
+
+  @Benchmark
+  public Unit<?> pow() {
+    return Units.METRE.pow(3);
+  }
+
+  @Benchmark
+  public Unit<?> root() {
+    return Units.SQUARE_METRE.root(2);
+  }
+
+  @Benchmark
+  public Unit<?> prefix() {
+    return KILO(Units.WATT);
+  }
+
+  @Benchmark
+  public UnitConverter getConverterTo() {
+    return kilometrePerHour.getConverterTo(Units.METRE_PER_SECOND);
+  }
+
+  @Benchmark
+  public boolean isCompatible() {
+    return newtonMetre.isCompatible(Units.JOULE);
+  }
+
+  @Benchmark
+  public Dimension getDimension() {
+    return newtonMetre.getDimension();
+  }
+}
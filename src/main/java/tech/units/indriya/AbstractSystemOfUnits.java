@@ -33,6 +33,8 @@ import tech.units.indriya.format.SimpleUnitFormat;
 import tech.units.indriya.format.UnitStyle;
 import tech.uom.lib.common.function.Nameable;
 
+import org.apiguardian.api.API;
+
 import javax.measure.Dimension;
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -42,6 +44,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import static org.apiguardian.api.API.Status.INTERNAL;
 import static tech.units.indriya.format.UnitStyle.*;
 
 /**
@@ -50,16 +53,16 @@ import static tech.units.indriya.format.UnitStyle.*;
  * </p>
  *
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.3, November 23, 2024
+ * @version 2.5, October 19, 2026
  * @since 1.0
  */
 public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	protected static final Logger logger = Logger.getLogger(AbstractSystemOfUnits.class.getName());
 	
 	/**
-	 * Holds the units.
+	 * Holds the units, indexed by symbol, name, string representation and dimension.
 	 */
-	protected final Set<Unit<?>> units = new HashSet<>();
+	protected final Set<Unit<?>> units = new UnitIndex();
 	
 	/**
 	 * Holds the mapping quantity to unit.
@@ -84,8 +87,19 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 
 	@Override
 	public Set<? extends Unit<?>> getUnits(Dimension dimension) {
-		return this.getUnits().stream().filter(unit -> dimension.equals(unit.getDimension()))
-				.collect(Collectors.toSet());
+		return ((UnitIndex) units).getByDimension(dimension);
+	}
+
+	/**
+	 * Returns the modification count of the units of this system, which changes whenever a unit is added or removed,
+	 * so that data derived from the units can tell whether it is outdated.
+	 *
+	 * @return the modification count.
+	 * @since 2.2.3
+	 */
+	@API(status = INTERNAL)
+	public int getModificationCount() {
+		return ((UnitIndex) units).version();
 	}
 
 	/*
@@ -107,11 +121,8 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	@Override
 	public Unit<?> getUnit(String string) {
 		Objects.requireNonNull(string);
-        return this.getUnits().stream()
-            .filter((u) -> string.equals(u.toString()))
-            .findAny()
-            .orElse(null);
-    }
+		return ((UnitIndex) units).getByString(string);
+	}
 
 	/**
 	 * Returns a unit with the given {@linkplain String string} representation in a
@@ -120,8 +131,8 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	 * <p>
 	 * <b>NOTE:</b> Use {@code ignoreCase} carefully, as it will find the
 	 * <b>FIRST</b> unit for a particular string, e.g. the symbol of {@code SECOND}
-	 * and {@code SIEMENS} would be the same without case, but the UPPERCASE letter
-	 * sorted first.
+	 * and {@code SIEMENS} would be the same without case. An exact match is
+	 * always preferred, otherwise the unit added first to this system is returned.
 	 * </p>
 	 *
 	 * @param string     the string representation of a unit, not {@code null}.
@@ -132,21 +143,12 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	 */
 	public Unit<?> getUnit(String string, UnitStyle style, boolean ignoreCase) {
 		Objects.requireNonNull(string);
+		final UnitIndex index = (UnitIndex) units;
 		switch (style) {
 			case NAME:
-				if (ignoreCase) {
-					return this.getUnits().stream().filter((u) -> string.equalsIgnoreCase(u.getName())).findFirst()
-							.orElse(null);
-				} else {
-					return this.getUnits().stream().filter((u) -> string.equals(u.getName())).findFirst().orElse(null);
-				}
+				return index.getByName(string, ignoreCase);
 			case SYMBOL:
-				if (ignoreCase) {
-					return this.getUnits().stream().filter((u) -> string.equalsIgnoreCase(u.getSymbol())).findFirst()
-							.orElse(null);
-				} else {
-					return this.getUnits().stream().filter((u) -> string.equals(u.getSymbol())).findFirst().orElse(null);
-				}
+				return index.getBySymbol(string, ignoreCase);
 			default:
 				return getUnit(string);
 		}
@@ -174,6 +176,9 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	protected static class Helper {
 		static Set<Unit<?>> getUnitsOfDimension(final Set<Unit<?>> units, Dimension dimension) {
 			if (dimension != null) {
+				if (units instanceof UnitIndex) {
+					return ((UnitIndex) units).getByDimension(dimension);
+				}
 				return units.stream().filter(u -> dimension.equals(u.getDimension())).collect(Collectors.toSet());
 
 			}
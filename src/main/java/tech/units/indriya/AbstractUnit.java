@@ -35,8 +35,9 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.measure.Dimension;
 import javax.measure.IncommensurableException;
@@ -58,7 +59,11 @@ import tech.units.indriya.function.AddConverter;
 import tech.units.indriya.function.Calculus;
 import tech.units.indriya.function.MultiplyConverter;
 import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.internal.format.FormatCache;
 import tech.units.indriya.internal.function.Calculator;
+import tech.units.indriya.internal.unit.ConverterCache;
+import tech.units.indriya.internal.spi.FlightRecording;
+import tech.units.indriya.internal.unit.PrefixTable;
 import tech.units.indriya.spi.DimensionalModel;
 import tech.units.indriya.unit.AlternateUnit;
 import tech.units.indriya.unit.AnnotatedUnit;
@@ -90,7 +95,7 @@ import tech.uom.lib.common.function.SymbolSupplier;
  *      International System of Units</a>
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 4.1, October 4, 2024
+ * @version 4.7, October 19, 2026
  * @since 1.0
  */
 public abstract class AbstractUnit<Q extends Quantity<Q>>
@@ -124,13 +129,19 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 	
     /**
      * Holds the measurement scale
+     * 
+     * @deprecated The scale is a parameter of {@link #getConverterTo(Unit, Scale)} and
+     *             {@link #getConverterToAny(Unit, Scale)}, it is no longer written by this class.
      */
+	@Deprecated
 	protected Scale scale = ABSOLUTE;
 
 	/**
-	 * Holds the unique symbols collection (base units or alternate units).
+	 * Holds the unique symbols collection (base units or alternate units). The map is concurrent, so it can be
+	 * written from several threads at once, and like any {@link ConcurrentHashMap} it does not accept
+	 * <code>null</code> symbols or units.
 	 */
-	protected static final transient Map<String, Unit<?>> SYMBOL_TO_UNIT = new HashMap<>();
+	protected static final transient Map<String, Unit<?>> SYMBOL_TO_UNIT = new ConcurrentHashMap<>();
 
 	/**
 	 * Default constructor.
@@ -178,6 +189,23 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 	 * @see #toSystemUnit
 	 */
 	public abstract UnitConverter getSystemConverter();
+
+	/**
+	 * Returns the converter from this unit to its unscaled {@link #toSystemUnit
+	 * System Unit} unit in the given measurement scale.
+	 * <p>
+	 * By default this is the same as {@link #getSystemConverter()}, units whose system converter
+	 * depends on the scale (e.g. products of non-linear units) override this method.
+	 * </p>
+	 *
+	 * @param scale the measurement scale.
+	 * @return the system converter in the given {@code scale}.
+	 * @see #getSystemConverter()
+	 * @since 2.2.3
+	 */
+	protected UnitConverter getSystemConverter(Scale scale) {
+		return getSystemConverter();
+	}
 	
 	/**
 	 * Returns the unscaled {@link SI} unit from which this unit is derived.
@@ -317,12 +345,15 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 	}
 
 	protected void setSymbol(String s) {
-		this.symbol = s;
+		if (!Objects.equals(symbol, s)) {
+			this.symbol = s;
+			FormatCache.symbolsChanged();
+		}
 	}
 
 	@Override
 	public final UnitConverter getConverterTo(Unit<Q> that) throws UnconvertibleException {
-		return internalGetConverterTo(that, true);
+		return getConverterTo(that, ABSOLUTE);
 	}
 
 	@Override
@@ -345,8 +376,15 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
      */
 	@API(status=EXPERIMENTAL)
 	public final UnitConverter getConverterTo(Unit<Q> that, Scale scale) throws UnconvertibleException {
-		this.scale = scale;
-		return getConverterTo(that);
+		if (this == that || this.equals(that))
+			return AbstractConverter.IDENTITY;
+		final UnitConverter cached = ConverterCache.get(this, that, scale, false);
+		if (cached != null)
+			return cached;
+		final Object event = FlightRecording.beginConversion();
+		final UnitConverter converter = internalGetConverterTo(that, true, scale);
+		FlightRecording.endConversion(event, this, that);
+		return ConverterCache.put(this, that, scale, false, converter);
 	}
 	
 	/**
@@ -372,19 +410,24 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 	@API(status=EXPERIMENTAL)
 	@SuppressWarnings("rawtypes")
 	public final UnitConverter getConverterToAny(Unit<?> that, Scale scale) throws IncommensurableException, UnconvertibleException {
+		final UnitConverter cached = ConverterCache.get(this, that, scale, true);
+		if (cached != null)
+			return cached; // Only converters of compatible units are cached.
 		if (!isCompatible(that))
 			throw new IncommensurableException(this + " is not compatible with " + that);
-		this.scale = scale;
 		final AbstractUnit thatAbstr = (AbstractUnit) that; // Since both units are
 		// compatible they must both be abstract units.
+		final Object event = FlightRecording.beginConversion();
 		final DimensionalModel model = DimensionalModel.current();
 		Unit thisSystemUnit = this.getSystemUnit();
 		UnitConverter thisToDimension = model.getDimensionalTransform(thisSystemUnit.getDimension())
-				.concatenate(this.getSystemConverter());
+				.concatenate(this.getSystemConverter(scale));
 		Unit thatSystemUnit = thatAbstr.getSystemUnit();
 		UnitConverter thatToDimension = model.getDimensionalTransform(thatSystemUnit.getDimension())
-				.concatenate(thatAbstr.getSystemConverter());
-		return thatToDimension.inverse().concatenate(thisToDimension);
+				.concatenate(thatAbstr.getSystemConverter(scale));
+		final UnitConverter converter = thatToDimension.inverse().concatenate(thisToDimension);
+		FlightRecording.endConversion(event, this, that);
+		return ConverterCache.put(this, that, scale, true, converter);
 	}
 
 	@Override
@@ -459,6 +502,11 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 
 	protected final UnitConverter internalGetConverterTo(Unit<Q> that, boolean useEquals)
 			throws UnconvertibleException {
+		return internalGetConverterTo(that, useEquals, ABSOLUTE);
+	}
+
+	private UnitConverter internalGetConverterTo(Unit<Q> that, boolean useEquals, Scale scale)
+			throws UnconvertibleException {
 		if (useEquals) {
 			if (this == that || this.equals(that))
 				return AbstractConverter.IDENTITY;
@@ -470,12 +518,13 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 		Unit<Q> thatSystemUnit = that.getSystemUnit();
 		if (!thisSystemUnit.equals(thatSystemUnit))
 			try {
-				return getConverterToAny(that);
+				return getConverterToAny(that, scale);
 			} catch (IncommensurableException e) {
 				throw new UnconvertibleException(e);
 			}
-		UnitConverter thisToSI = this.getSystemConverter();
-		UnitConverter thatToSI = that.getConverterTo(thatSystemUnit);
+		UnitConverter thisToSI = this.getSystemConverter(scale);
+		UnitConverter thatToSI = that instanceof AbstractUnit ? ((AbstractUnit<Q>) that).getSystemConverter(scale)
+				: that.getConverterTo(thatSystemUnit);
 		return thatToSI.inverse().concatenate(thisToSI);
 	}
 
@@ -573,9 +622,18 @@ public abstract class AbstractUnit<Q extends Quantity<Q>>
 			return ONE.divide(this.pow(-n));
 	}
 
+	/**
+	 * Returns this unit prefixed with the given prefix. A new unit is returned
+	 * on every call, while the converters of the
+	 * {@link javax.measure.MetricPrefix} and {@link javax.measure.BinaryPrefix}
+	 * prefixes are shared.
+	 *
+	 * @param prefix the prefix to apply.
+	 * @return the prefixed unit.
+	 */
 	@Override
 	public Unit<Q> prefix(Prefix prefix) {
-		return this.transform(MultiplyConverter.ofPrefix(prefix));
+		return this.transform(PrefixTable.converterOf(prefix));
 	}
 	
 	/**
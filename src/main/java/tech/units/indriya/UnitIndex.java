@@ -0,0 +1,326 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.measure.Dimension;
+import javax.measure.Unit;
+
+import tech.units.indriya.internal.format.FormatCache;
+
+/**
+ * <p>
+ * A set of units which maintains hash indexes by symbol, name, string
+ * representation and dimension, so that {@link AbstractSystemOfUnits} lookups
+ * are hash probes rather than scans over all units.
+ * </p>
+ * <p>
+ * Symbol and name are indexed whenever a unit is added (also when it is added
+ * again, e.g. after {@link AbstractSystemOfUnits.Helper} has set its name). The
+ * string representation depends on the labels of
+ * {@link tech.units.indriya.format.SimpleUnitFormat} and on the symbols of
+ * units, hence that index is built lazily on first use and rebuilt whenever
+ * units are added or removed, labels or aliases change or a symbol changes.
+ * The dimension index is built the same way, so that computing the dimensions
+ * of product units does not slow down the initialization of a system of units.
+ * </p>
+ *
+ * @version 1.5, October 19, 2026
+ * @since 2.2.3
+ */
+final class UnitIndex extends AbstractSet<Unit<?>> {
+
+	private final Set<Unit<?>> units = new HashSet<>();
+	private final Map<String, Unit<?>> bySymbol = new HashMap<>();
+	private final Map<String, Unit<?>> byName = new HashMap<>();
+	private final Map<String, Unit<?>> bySymbolIgnoreCase = new HashMap<>();
+	private final Map<String, Unit<?>> byNameIgnoreCase = new HashMap<>();
+
+	/**
+	 * Modification count, used to detect a stale string index.
+	 */
+	private volatile int version;
+
+	/**
+	 * Lazily built index of the string representation.
+	 */
+	private volatile StringIndex byString;
+
+	/**
+	 * Lazily built index of the dimension.
+	 */
+	private volatile DimensionIndex byDimension;
+
+	@Override
+	public boolean add(Unit<?> unit) {
+		Objects.requireNonNull(unit);
+		final boolean added = units.add(unit);
+		index(bySymbol, Unit::getSymbol, unit);
+		index(byName, Unit::getName, unit);
+		index(bySymbolIgnoreCase, u -> fold(u.getSymbol()), unit);
+		index(byNameIgnoreCase, u -> fold(u.getName()), unit);
+		version++;
+		return added;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (!units.remove(o)) {
+			return false;
+		}
+		unindex((Unit<?>) o);
+		version++;
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		units.clear();
+		bySymbol.clear();
+		byName.clear();
+		bySymbolIgnoreCase.clear();
+		byNameIgnoreCase.clear();
+		version++;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return units.contains(o);
+	}
+
+	@Override
+	public Iterator<Unit<?>> iterator() {
+		final Iterator<Unit<?>> it = units.iterator();
+		return new Iterator<Unit<?>>() {
+			private Unit<?> current;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public Unit<?> next() {
+				return current = it.next();
+			}
+
+			@Override
+			public void remove() {
+				it.remove();
+				unindex(current);
+				version++;
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return units.size();
+	}
+
+	/**
+	 * Returns the modification count, incremented whenever units are added or removed.
+	 */
+	int version() {
+		return version;
+	}
+
+	/**
+	 * Returns the unit with the given symbol or {@code null} if none.
+	 */
+	Unit<?> getBySymbol(String symbol, boolean ignoreCase) {
+		final Unit<?> unit = bySymbol.get(symbol);
+		if (unit != null && symbol.equals(unit.getSymbol())) {
+			return unit;
+		}
+		if (ignoreCase) {
+			final Unit<?> folded = bySymbolIgnoreCase.get(fold(symbol));
+			if (folded != null && symbol.equalsIgnoreCase(folded.getSymbol())) {
+				return folded;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the unit with the given name or {@code null} if none.
+	 */
+	Unit<?> getByName(String name, boolean ignoreCase) {
+		final Unit<?> unit = byName.get(name);
+		if (unit != null && name.equals(unit.getName())) {
+			return unit;
+		}
+		if (ignoreCase) {
+			final Unit<?> folded = byNameIgnoreCase.get(fold(name));
+			if (folded != null && name.equalsIgnoreCase(folded.getName())) {
+				return folded;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the unit with the given string representation or {@code null} if none.
+	 */
+	Unit<?> getByString(String string) {
+		StringIndex index = byString;
+		final long labelsVersion = FormatCache.labelsVersion();
+		final long symbolsVersion = FormatCache.symbolsVersion();
+		if (index == null || index.version != version || index.labelsVersion != labelsVersion
+				|| index.symbolsVersion != symbolsVersion) {
+			index = new StringIndex(version, labelsVersion, symbolsVersion, units);
+			byString = index;
+		}
+		return index.units.get(string);
+	}
+
+	/**
+	 * Returns the units of the given dimension, never {@code null}.
+	 */
+	Set<Unit<?>> getByDimension(Dimension dimension) {
+		DimensionIndex index = byDimension;
+		if (index == null || index.version != version) {
+			index = new DimensionIndex(version, units);
+			byDimension = index;
+		}
+		final Set<Unit<?>> result = index.units.get(dimension);
+		return result != null ? Collections.unmodifiableSet(result) : Collections.emptySet();
+	}
+
+	private void unindex(Unit<?> unit) {
+		unindex(bySymbol, Unit::getSymbol, unit);
+		unindex(byName, Unit::getName, unit);
+		unindex(bySymbolIgnoreCase, u -> fold(u.getSymbol()), unit);
+		unindex(byNameIgnoreCase, u -> fold(u.getName()), unit);
+	}
+
+	/**
+	 * Removes the keys of a removed unit, and indexes another remaining unit
+	 * under each of them, if any.
+	 */
+	private void unindex(Map<String, Unit<?>> index, Function<Unit<?>, String> keyOf, Unit<?> unit) {
+		final List<String> keys = new ArrayList<>(1);
+		for (Iterator<Map.Entry<String, Unit<?>>> it = index.entrySet().iterator(); it.hasNext();) {
+			final Map.Entry<String, Unit<?>> entry = it.next();
+			if (entry.getValue().equals(unit)) {
+				keys.add(entry.getKey());
+				it.remove();
+			}
+		}
+		for (String key : keys) {
+			for (Unit<?> remaining : units) {
+				if (key.equals(keyOf.apply(remaining))) {
+					index.put(key, remaining);
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Keeps the first unit registered for a key, unless that unit no longer
+	 * matches the key because its name or symbol was changed afterwards.
+	 */
+	private static void index(Map<String, Unit<?>> index, Function<Unit<?>, String> keyOf, Unit<?> unit) {
+		final String key = keyOf.apply(unit);
+		if (key != null) {
+			index.merge(key, unit,
+					(existing, added) -> key.equals(keyOf.apply(existing)) && !existing.equals(added) ? existing : added);
+		}
+	}
+
+	/**
+	 * Case folding consistent with {@link String#equalsIgnoreCase(String)}.
+	 */
+	static String fold(String s) {
+		if (s == null) {
+			return null;
+		}
+		final StringBuilder sb = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			sb.append(Character.toLowerCase(Character.toUpperCase(s.charAt(i))));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Immutable snapshot of string representations, tagged with the versions of
+	 * the units, labels and symbols it was built from.
+	 */
+	private static final class StringIndex {
+		private final int version;
+		private final long labelsVersion;
+		private final long symbolsVersion;
+		private final Map<String, Unit<?>> units;
+
+		private StringIndex(int version, long labelsVersion, long symbolsVersion, Set<Unit<?>> source) {
+			this.version = version;
+			this.labelsVersion = labelsVersion;
+			this.symbolsVersion = symbolsVersion;
+			final Map<String, Unit<?>> map = new HashMap<>(source.size() * 2);
+			for (Unit<?> u : source) {
+				map.putIfAbsent(u.toString(), u);
+			}
+			this.units = map;
+		}
+	}
+
+	/**
+	 * Immutable snapshot of units by dimension, tagged with the version it was
+	 * built from.
+	 */
+	private static final class DimensionIndex {
+		private final int version;
+		private final Map<Dimension, Set<Unit<?>>> units;
+
+		private DimensionIndex(int version, Set<Unit<?>> source) {
+			this.version = version;
+			final Map<Dimension, Set<Unit<?>>> map = new HashMap<>();
+			for (Unit<?> u : source) {
+				final Dimension dimension = u.getDimension();
+				if (dimension != null) {
+					map.computeIfAbsent(dimension, d -> new HashSet<>()).add(u);
+				}
+			}
+			this.units = map;
+		}
+	}
+}
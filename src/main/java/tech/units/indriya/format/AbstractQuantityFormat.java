@@ -29,6 +29,8 @@
  */
 package tech.units.indriya.format;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
 import java.io.IOException;
 import java.text.FieldPosition;
 import java.text.Format;
@@ -39,6 +41,9 @@ import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.format.MeasurementParseException;
 import javax.measure.format.QuantityFormat;
+
+import org.apiguardian.api.API;
+
 import tech.units.indriya.ComparableQuantity;
 import tech.units.indriya.quantity.MixedQuantity;
 import tech.uom.lib.common.function.Parser;
@@ -50,7 +55,7 @@ import tech.uom.lib.common.function.Parser;
  *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.1, $Date: 2023-06-05 $
+ * @version 2.2, October 19, 2026
  * @since 1.0
  * 
  */
@@ -120,6 +125,25 @@ public abstract class AbstractQuantityFormat extends Format implements QuantityF
      */
     protected abstract Quantity<?> parse(CharSequence csq, int index) throws IllegalArgumentException, MeasurementParseException;
 
+    /**
+     * Parses the specified <code>CharSequence</code> like {@link #parse(CharSequence)}, but reports invalid input through the result instead of
+     * throwing an exception.
+     *
+     * @param csq
+     *            the <code>CharSequence</code> to parse.
+     * @return the parsed quantity, or the reason and position of the error.
+     * @since 2.2.3
+     */
+    @API(status = EXPERIMENTAL)
+    public ParseResult<Quantity<?>> tryParse(CharSequence csq) {
+        final ParsePosition cursor = new ParsePosition(0);
+        try {
+            return ParseResult.of(parse(csq, cursor));
+        } catch (IllegalArgumentException | MeasurementParseException e) {
+            return ParseResult.error(e, Math.max(cursor.getErrorIndex(), 0));
+        }
+    }
+
     @Override
     public final StringBuffer format(Object obj, final StringBuffer toAppendTo, FieldPosition pos) {
     	if (obj instanceof MixedQuantity<?>) {
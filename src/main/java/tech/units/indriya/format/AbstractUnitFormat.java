@@ -29,13 +29,18 @@
  */
 package tech.units.indriya.format;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
 import java.io.IOException;
 import java.text.ParsePosition;
 
 import javax.measure.MeasurementException;
 import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
 import javax.measure.format.UnitFormat;
 
+import org.apiguardian.api.API;
+
 import tech.units.indriya.AbstractUnit;
 
 /**
@@ -53,7 +58,7 @@ import tech.units.indriya.AbstractUnit;
  *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.0, $Date: 2020-03-02 $
+ * @version 2.1, October 19, 2026
  * @since 1.0
  * 
  */
@@ -134,6 +139,25 @@ public abstract class AbstractUnitFormat implements UnitFormat {
    */
   protected abstract Unit<?> parse(CharSequence csq, int index) throws IllegalArgumentException;
 
+  /**
+   * Parses the specified <code>CharSequence</code> like {@link #parse(CharSequence)}, but reports invalid input through
+   * the result instead of throwing an exception.
+   *
+   * @param csq
+   *          the <code>CharSequence</code> to parse.
+   * @return the parsed unit, or the reason and position of the error.
+   * @since 2.2.3
+   */
+  @API(status = EXPERIMENTAL)
+  public ParseResult<Unit<?>> tryParse(CharSequence csq) {
+    final ParsePosition cursor = new ParsePosition(0);
+    try {
+      return ParseResult.of(parse(csq, cursor));
+    } catch (MeasurementParseException | IllegalArgumentException e) {
+      return ParseResult.error(e, Math.max(cursor.getErrorIndex(), 0));
+    }
+  }
+
   /**
    * Convenience method equivalent to {@link #format(AbstractUnit, Appendable)} except it does not raise an IOException.
    *
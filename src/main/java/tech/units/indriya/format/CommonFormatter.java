@@ -52,7 +52,7 @@ import tech.units.indriya.quantity.Quantities;
  * Common helper class that handles internals of formatting in {@link SimpleQuantityFormat}, {@link NumberDelimiterQuantityFormat}
  * 
  * @author keilw
- * @version 2.1
+ * @version 2.2
  * @since 2.0
  */
 @API(status=INTERNAL)
@@ -174,7 +174,52 @@ abstract class CommonFormatter {
         return parseMixedAsPrimary(str, numberFormat, unitFormat, primaryUnit, delimiter, 0);
     }
     
+    /**
+     * Returns the start of the section of <code>str</code> after the first <code>delimiter</code> at or after
+     * <code>position</code>, like <code>str.substring(position).split(delimiter)[1]</code> finds it, but searching by
+     * index when the delimiter is a literal.
+     *
+     * @return the index of the section, or <code>-1</code> if there is none.
+     */
+    static int sectionStart(final String str, final String delimiter, final int position) {
+        if (delimiter.isEmpty() || containsRegexCharacter(delimiter)) {
+            final String[] parts = str.substring(position).split(delimiter);
+            return parts.length < 2 ? -1 : str.indexOf(parts[1], position + parts[0].length());
+        }
+        final int first = str.indexOf(delimiter, position);
+        if (first < 0) {
+            return -1;
+        }
+        final int start = first + delimiter.length();
+        int next = start;
+        while (str.startsWith(delimiter, next)) {
+            next += delimiter.length();
+        }
+        return next == str.length() ? -1 : start; // split() drops trailing empty sections
+    }
+
+    /**
+     * Returns the end of the section of <code>str</code> starting at <code>start</code>, which is the next
+     * <code>delimiter</code> or the end of <code>str</code>.
+     */
+    static int sectionEnd(final String str, final String delimiter, final int start) {
+        if (delimiter.isEmpty() || containsRegexCharacter(delimiter)) {
+            return start + str.substring(start).split(delimiter, 2)[0].length();
+        }
+        final int end = str.indexOf(delimiter, start);
+        return end < 0 ? str.length() : end;
+    }
+
     // Private helpers
+
+    private static boolean containsRegexCharacter(final String delimiter) {
+        for (int i = 0; i < delimiter.length(); i++) {
+            if (".$|()[]{}^?*+\\".indexOf(delimiter.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
     
     private static final <Q extends Quantity<Q>> Unit<Q> getLeadingUnit(final MixedQuantity<Q> comp) {
         Objects.requireNonNull(comp);
@@ -37,6 +37,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 import javax.measure.format.QuantityFormat;
 import javax.measure.format.UnitFormat;
@@ -47,9 +50,13 @@ import tech.uom.lib.common.function.IntPrioritySupplier;
 
 /**
  * Default format service.
+ * <p>
+ * Formats are registered by name as suppliers and only instantiated the first time they are requested, so obtaining the
+ * service does not initialize formats the application never uses.
+ * </p>
  *
  * @author Werner Keil
- * @version 2.3, November 26, 2020
+ * @version 2.4, October 19, 2026
  * @since 2.0
  */
 public class DefaultFormatService implements FormatService, IntPrioritySupplier {
@@ -64,43 +71,66 @@ public class DefaultFormatService implements FormatService, IntPrioritySupplier
 	private static final String DEFAULT_UNIT_FORMAT_NAME = SIMPLE_KEY + "_DEFAULT";
 	private static final String ASCII_UNIT_FORMAT_NAME = SIMPLE_KEY + "_ASCII";
 	
-	private final Map<String, QuantityFormat> quantityFormats = new HashMap<>();
-	private final Map<String, UnitFormat> unitFormats = new HashMap<>();
+	private final Map<String, Supplier<QuantityFormat>> quantityFormatSuppliers = new HashMap<>();
+	private final Map<String, Supplier<UnitFormat>> unitFormatSuppliers = new HashMap<>();
+
+	private final ConcurrentMap<String, QuantityFormat> quantityFormats = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, UnitFormat> unitFormats = new ConcurrentHashMap<>();
 
 	private final Map<String, String> unitFormatAliases = new HashMap<>();
 	private final Map<String, String> quantityFormatAliases = new HashMap<>();
 
 	/**
-	 * Holds the default format instance (EBNFUnitFormat).
+	 * Holds the default format instance (EBNFUnitFormat), created on first use.
 	 */
-	private static final NumberDelimiterQuantityFormat EBNF_QUANTITY_FORMAT = new NumberDelimiterQuantityFormat.Builder()
-			.setNumberFormat(NumberFormat.getInstance(Locale.ROOT)).setUnitFormat(EBNFUnitFormat.getInstance()).build();
+	private static final class EBNFQuantityFormat {
+		private static final NumberDelimiterQuantityFormat INSTANCE = new NumberDelimiterQuantityFormat.Builder()
+				.setNumberFormat(NumberFormat.getInstance(Locale.ROOT)).setUnitFormat(EBNFUnitFormat.getInstance()).build();
+	}
 
 	public DefaultFormatService() {
-		unitFormats.put(DEFAULT_UNIT_FORMAT_NAME, SimpleUnitFormat.getInstance());
-		unitFormats.put(ASCII_UNIT_FORMAT_NAME, SimpleUnitFormat.getInstance(Flavor.ASCII));
-		unitFormats.put(EBNF_KEY, EBNFUnitFormat.getInstance());
-		unitFormats.put(LOCAL_KEY, LocalUnitFormat.getInstance());
+		unitFormatSuppliers.put(DEFAULT_UNIT_FORMAT_NAME, SimpleUnitFormat::getInstance);
+		unitFormatSuppliers.put(ASCII_UNIT_FORMAT_NAME, () -> SimpleUnitFormat.getInstance(Flavor.ASCII));
+		unitFormatSuppliers.put(EBNF_KEY, EBNFUnitFormat::getInstance);
+		unitFormatSuppliers.put(LOCAL_KEY, LocalUnitFormat::getInstance);
 
 		unitFormatAliases.put("DEFAULT", DEFAULT_UNIT_FORMAT_NAME);
 		unitFormatAliases.put("ASCII", ASCII_UNIT_FORMAT_NAME);
 		
-		quantityFormats.put(DEFAULT_QUANTITY_FORMAT_NAME, SimpleQuantityFormat.getInstance());
-		quantityFormats.put("NUMBERDELIMITER", NumberDelimiterQuantityFormat.getInstance());
-		quantityFormats.put(EBNF_KEY, EBNF_QUANTITY_FORMAT);
-		quantityFormats.put(LOCAL_KEY, NumberDelimiterQuantityFormat.getInstance(LOCALE_SENSITIVE));
+		quantityFormatSuppliers.put(DEFAULT_QUANTITY_FORMAT_NAME, SimpleQuantityFormat::getInstance);
+		quantityFormatSuppliers.put("NUMBERDELIMITER", NumberDelimiterQuantityFormat::getInstance);
+		quantityFormatSuppliers.put(EBNF_KEY, () -> EBNFQuantityFormat.INSTANCE);
+		quantityFormatSuppliers.put(LOCAL_KEY, () -> NumberDelimiterQuantityFormat.getInstance(LOCALE_SENSITIVE));
 
 		quantityFormatAliases.put("NUMBERSPACE", "NUMBERDELIMITER");
 	}
 
+	/**
+	 * Returns the format registered under the given name, materializing it on first request. A supplier may run more
+	 * than once under contention, but all callers observe the first instance stored.
+	 */
+	private static <T> T materialize(String name, Map<String, Supplier<T>> suppliers, ConcurrentMap<String, T> formats) {
+		final T format = formats.get(name);
+		if (format != null) {
+			return format;
+		}
+		final Supplier<T> supplier = suppliers.get(name);
+		if (supplier == null) {
+			return null;
+		}
+		final T created = supplier.get();
+		final T previous = formats.putIfAbsent(name, created);
+		return previous != null ? previous : created;
+	}
+
 	@Override
 	public QuantityFormat getQuantityFormat(String key) {
 		Objects.requireNonNull(key, "Format name or alias required");
 		String alias = quantityFormatAliases.get(key.toUpperCase());
 		if (alias != null && alias.length() > 0) {
-			return quantityFormats.get(alias.toUpperCase());
+			return materialize(alias.toUpperCase(), quantityFormatSuppliers, quantityFormats);
 		}
-		return quantityFormats.get(key.toUpperCase());
+		return materialize(key.toUpperCase(), quantityFormatSuppliers, quantityFormats);
 	}
 
 	@Override
@@ -112,9 +142,9 @@ public class DefaultFormatService implements FormatService, IntPrioritySupplier
 	public Set<String> getAvailableFormatNames(FormatType type) {
 		switch (type) {
 		case QUANTITY_FORMAT:
-			return quantityFormats.keySet();
+			return quantityFormatSuppliers.keySet();
 		default:
-			return unitFormats.keySet();
+			return unitFormatSuppliers.keySet();
 		}
 	}
 
@@ -128,9 +158,9 @@ public class DefaultFormatService implements FormatService, IntPrioritySupplier
 		Objects.requireNonNull(key, "Format name or alias required");
 		String alias = unitFormatAliases.get(key.toUpperCase());
 		if (alias != null && alias.length() > 0) {
-			return unitFormats.get(alias);
+			return materialize(alias, unitFormatSuppliers, unitFormats);
 		}
-		return unitFormats.get(key.toUpperCase());
+		return materialize(key.toUpperCase(), unitFormatSuppliers, unitFormats);
 	}
 
 	/*
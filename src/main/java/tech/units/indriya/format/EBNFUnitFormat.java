@@ -34,14 +34,19 @@ import javax.measure.Unit;
 import javax.measure.format.MeasurementParseException;
 
 import tech.units.indriya.AbstractUnit;
-import tech.units.indriya.internal.format.UnitFormatParser;
+import tech.units.indriya.internal.format.ParseCache;
+import tech.units.indriya.internal.format.UnitExpressionParser;
+import tech.units.indriya.internal.spi.FlightRecording;
+import tech.units.indriya.internal.spi.Instrumentations;
+import tech.units.indriya.spi.Instrumentation.Event;
 import tech.units.indriya.unit.AnnotatedUnit;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.text.ParsePosition;
-import java.util.Locale;
-import java.util.ResourceBundle;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
 
 /**
  * <p>
@@ -143,7 +148,7 @@ import java.util.ResourceBundle;
  * 
  * @author <a href="mailto:eric-r@northwestern.edu">Eric Russell</a>
  * @author <a href="mailto:werner@uom.tech">Werner Keil</a>
- * @version 2.2, October 12, 2024
+ * @version 2.8, October 19, 2026
  * @since 1.0
  */
 public class EBNFUnitFormat extends AbstractUnitFormat {
@@ -158,20 +163,17 @@ public class EBNFUnitFormat extends AbstractUnitFormat {
   // private static final long serialVersionUID = 8968559300292910840L;
 
   /**
-   * Name of the resource bundle
-   */
-  private static final String BUNDLE_NAME = "tech.units.indriya.format.messages"; //$NON-NLS-1$
-
-  /**
-   * Default locale instance. If the default locale is changed after the class is initialized, this instance will no longer be used.
+   * Default locale instance, created on first use. If the default locale is changed after that, this instance will no longer be used.
    */
-  private static final EBNFUnitFormat DEFAULT_INSTANCE = new EBNFUnitFormat();
+  private static final class DefaultInstance {
+    private static final EBNFUnitFormat DEFAULT_INSTANCE = new EBNFUnitFormat();
+  }
 
   /**
    * Returns the instance for the current default locale (non-ascii characters are allowed)
    */
   public static EBNFUnitFormat getInstance() {
-    return DEFAULT_INSTANCE;
+    return DefaultInstance.DEFAULT_INSTANCE;
   }
 
   /** Returns a new instance for the given symbol map. */
@@ -199,6 +201,11 @@ public class EBNFUnitFormat extends AbstractUnitFormat {
    */
   private final transient SymbolMap symbolMap;
 
+  /**
+   * Holds the opt-in parse cache, <code>null</code> if disabled.
+   */
+  private volatile ParseCache parseCache;
+
   // ////////////////
   // Constructors //
   // ////////////////
@@ -208,7 +215,7 @@ public class EBNFUnitFormat extends AbstractUnitFormat {
    */
   EBNFUnitFormat() {
     // TODO try to use MultiPropertyResourceBundle with at least one extension point in a package other than tech.units.indriya.format for additional resources.
-    this(SymbolMap.of(ResourceBundle.getBundle(BUNDLE_NAME, Locale.ROOT)));
+    this(SymbolMap.ofDefaults());
   }
 
   /**
@@ -279,33 +286,124 @@ public class EBNFUnitFormat extends AbstractUnitFormat {
 
   @Override
   public Unit<? extends Quantity<?>> parse(CharSequence csq, ParsePosition cursor) throws MeasurementParseException {
+    final Object event = FlightRecording.beginParse();
+    Unit<? extends Quantity<?>> unit = null;
+    try {
+      unit = parseUnit(csq, cursor);
+      return unit;
+    } catch (UnitExpressionParser.LexicalException e) {
+      Instrumentations.increment(Event.PARSE_FAILURE);
+      throw new IllegalArgumentException(e.getMessage());
+    } catch (MeasurementParseException | IllegalArgumentException e) {
+      Instrumentations.increment(Event.PARSE_FAILURE);
+      throw e;
+    } finally {
+      FlightRecording.endParse(event, this, csq, unit);
+    }
+  }
+
+  @Override
+  public ParseResult<Unit<?>> tryParse(CharSequence csq) {
+    final ParsePosition cursor = new ParsePosition(0);
+    final Object event = FlightRecording.beginParse();
+    Unit<? extends Quantity<?>> unit = null;
+    try {
+      unit = parseUnit(csq, cursor);
+      return ParseResult.of(unit);
+    } catch (MeasurementParseException | IllegalArgumentException e) {
+      Instrumentations.increment(Event.PARSE_FAILURE);
+      return ParseResult.error(e, Math.max(cursor.getErrorIndex(), 0));
+    } finally {
+      FlightRecording.endParse(event, this, csq, unit);
+    }
+  }
+
+  private Unit<? extends Quantity<?>> parseUnit(CharSequence csq, ParsePosition cursor) throws MeasurementParseException {
     // Parsing reads the whole character sequence from the parse position.
     int start = cursor != null ? cursor.getIndex() : 0;
     int end = csq.length();
     if (end <= start) {
       return AbstractUnit.ONE;
     }
-    String source = csq.subSequence(start, end).toString().trim();
-    if (source.length() == 0) {
+    int from = start;
+    int to = end;
+    while (from < to && csq.charAt(from) <= ' ') {
+      from++;
+    }
+    while (to > from && csq.charAt(to - 1) <= ' ') {
+      to--;
+    }
+    if (from == to) {
       return AbstractUnit.ONE;
     }
+    final ParseCache cache = parseCache;
+    final long version = symbolMap.getVersion();
+    final String source = cache != null ? csq.subSequence(from, to).toString() : null;
+    if (cache != null) {
+      final Unit<?> cached = cache.get(source, version);
+      if (cached != null) {
+        if (cursor != null)
+          cursor.setIndex(end);
+        return cached;
+      }
+    }
+    final UnitExpressionParser parser = new UnitExpressionParser(symbolMap, csq, from, to);
     try {
-      UnitFormatParser parser = new UnitFormatParser(symbolMap, new StringReader(source));
       Unit<?> result = parser.parseUnit();
       if (cursor != null)
         cursor.setIndex(end);
+      if (cache != null)
+        cache.put(source, version, result);
       return result;
-    } catch (TokenException e) {
-      if (e.currentToken != null) {
-        cursor.setErrorIndex(start + e.currentToken.endColumn);
-      } else {
-        cursor.setErrorIndex(start);
-      }
-      throw new MeasurementParseException(e);
-    } catch (TokenMgrError e) {
-      cursor.setErrorIndex(start);
-      throw new IllegalArgumentException(e.getMessage());
+    } catch (MeasurementParseException | IllegalArgumentException e) {
+      if (cursor != null)
+        cursor.setErrorIndex(parser.getErrorIndex() >= 0 ? parser.getErrorIndex() : start);
+      throw e;
+    }
+  }
+
+  /**
+   * Enables or disables the cache of parsed units for this format instance. Recurring input strings are then looked up
+   * instead of parsed again; the cache is invalidated whenever a label or alias is added to the {@link SymbolMap}.
+   *
+   * @param maxSize
+   *          the maximum number of cached input strings, <code>0</code> to disable the cache.
+   * @throws IllegalArgumentException
+   *           if <code>maxSize</code> is negative.
+   * @since 2.2.3
+   */
+  @API(status = EXPERIMENTAL)
+  public void setParseCacheSize(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
     }
+    parseCache = maxSize == 0 ? null : new ParseCache(maxSize);
+  }
+
+  /**
+   * Returns the number of parse requests answered from the parse cache since it was enabled.
+   *
+   * @return the number of cache hits, <code>0</code> if the cache is disabled.
+   * @see #setParseCacheSize(int)
+   * @since 2.2.3
+   */
+  @API(status = EXPERIMENTAL)
+  public long getParseCacheHits() {
+    final ParseCache cache = parseCache;
+    return cache != null ? cache.getHitCount() : 0;
+  }
+
+  /**
+   * Returns the number of parse requests not answered from the parse cache since it was enabled.
+   *
+   * @return the number of cache misses, <code>0</code> if the cache is disabled.
+   * @see #setParseCacheSize(int)
+   * @since 2.2.3
+   */
+  @API(status = EXPERIMENTAL)
+  public long getParseCacheMisses() {
+    final ParseCache cache = parseCache;
+    return cache != null ? cache.getMissCount() : 0;
   }
 
   @Override
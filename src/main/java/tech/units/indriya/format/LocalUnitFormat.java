@@ -37,7 +37,11 @@ import javax.measure.Unit;
 import javax.measure.UnitConverter;
 import javax.measure.format.MeasurementParseException;
 import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.internal.format.FormatCache;
 import tech.units.indriya.internal.format.UnitFormatParser;
+import tech.units.indriya.internal.spi.FlightRecording;
+import tech.units.indriya.internal.spi.Instrumentations;
+import tech.units.indriya.spi.Instrumentation.Event;
 import tech.units.indriya.unit.AlternateUnit;
 import tech.units.indriya.unit.AnnotatedUnit;
 import tech.units.indriya.unit.BaseUnit;
@@ -55,6 +59,8 @@ import java.text.ParsePosition;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>
@@ -156,7 +162,7 @@ import java.util.ResourceBundle;
  *
  * @author <a href="mailto:eric-r@northwestern.edu">Eric Russell</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 1.7, February 9, 2025
+ * @version 1.12, October 19, 2026
  * @since 1.0
  */
 public class LocalUnitFormat extends AbstractUnitFormat {
@@ -165,10 +171,26 @@ public class LocalUnitFormat extends AbstractUnitFormat {
   // Class variables                                  //
   //////////////////////////////////////////////////////
   /**
-   * DefaultQuantityFactory locale instance. If the default locale is changed after the class is initialized, this instance will no longer be used.
+   * Default locale instance, created on first use. If the default locale is changed after that, this instance will no longer be used.
    */
-  private static final LocalUnitFormat DEFAULT_INSTANCE = new LocalUnitFormat(SymbolMap.of(ResourceBundle.getBundle(LocalUnitFormat.class
-      .getPackage().getName() + ".messages")));
+  private static final class DefaultInstance {
+    private static final LocalUnitFormat DEFAULT_INSTANCE = getInstance(Locale.getDefault());
+  }
+
+  /**
+   * Holds the instance for the locale of each resource bundle, shared by all locales resolving to that bundle.
+   */
+  private static final ConcurrentMap<Locale, LocalUnitFormat> BUNDLE_INSTANCES = new ConcurrentHashMap<>();
+
+  /**
+   * Holds the instances for the requested locales, up to {@link #MAX_CACHED_LOCALES}.
+   */
+  private static final ConcurrentMap<Locale, LocalUnitFormat> LOCALE_INSTANCES = new ConcurrentHashMap<>();
+
+  /**
+   * The number of requested locales remembered, beyond which the resource bundle is resolved on each call.
+   */
+  private static final int MAX_CACHED_LOCALES = 256;
 
   // /////////////////
   // Class methods //
@@ -177,16 +199,25 @@ public class LocalUnitFormat extends AbstractUnitFormat {
    * Returns the instance for the current default locale (non-ascii characters are allowed)
    */
   public static LocalUnitFormat getInstance() {
-    return DEFAULT_INSTANCE;
+    return DefaultInstance.DEFAULT_INSTANCE;
   }
 
   /**
-   * Returns an instance for the given locale.
+   * Returns the instance for the given locale. Instances are cached, so the resource bundle for a locale is only read once.
    * 
    * @param locale the locale to use
    */
   public static LocalUnitFormat getInstance(Locale locale) {
-    return new LocalUnitFormat(SymbolMap.of(ResourceBundle.getBundle(LocalUnitFormat.class.getPackage().getName() + ".messages", locale)));
+    LocalUnitFormat format = LOCALE_INSTANCES.get(locale);
+    if (format == null) {
+      final ResourceBundle bundle = ResourceBundle.getBundle(LocalUnitFormat.class.getPackage().getName() + ".messages", locale);
+      format = BUNDLE_INSTANCES.computeIfAbsent(bundle.getLocale(),
+          bundleLocale -> new LocalUnitFormat(Locale.ROOT.equals(bundleLocale) ? SymbolMap.ofDefaults() : SymbolMap.of(bundle)));
+      if (LOCALE_INSTANCES.size() < MAX_CACHED_LOCALES) {
+        LOCALE_INSTANCES.putIfAbsent(locale, format);
+      }
+    }
+    return format;
   }
 
   /** Returns an instance for the given symbol map. */
@@ -202,6 +233,11 @@ public class LocalUnitFormat extends AbstractUnitFormat {
    */
   private final transient SymbolMap symbolMap;
 
+  /**
+   * Holds the formatted text of recently formatted units.
+   */
+  private final transient FormatCache formatCache = new FormatCache();
+
   // ////////////////
   // Constructors //
   // ////////////////
@@ -242,8 +278,15 @@ public class LocalUnitFormat extends AbstractUnitFormat {
       // intrinsic toString()
       // method)
     }
-    formatInternal(unit, appendable);
-    return appendable;
+    final long version = symbolMap.getVersion();
+    String text = formatCache.get(unit, version);
+    if (text == null) {
+      final StringBuilder buffer = new StringBuilder();
+      formatInternal(unit, buffer);
+      text = buffer.toString();
+      formatCache.put(unit, version, text);
+    }
+    return appendable.append(text);
   }
 
   public boolean isLocaleSensitive() {
@@ -265,12 +308,15 @@ public class LocalUnitFormat extends AbstractUnitFormat {
     if (source.length() == 0) {
       return AbstractUnit.ONE;
     }
+    final Object event = FlightRecording.beginParse();
+    Unit<?> result = null;
     try {
       UnitFormatParser parser = new UnitFormatParser(symbolMap, new StringReader(source));
-      Unit<?> result = parser.parseUnit();
+      result = parser.parseUnit();
       cursor.setIndex(end);
       return result;
     } catch (TokenException e) {
+      Instrumentations.increment(Event.PARSE_FAILURE);
       if (e.currentToken != null) {
         cursor.setErrorIndex(start + e.currentToken.endColumn);
       } else {
@@ -280,8 +326,11 @@ public class LocalUnitFormat extends AbstractUnitFormat {
       // ParserException here,
       // too?
     } catch (TokenMgrError e) {
+      Instrumentations.increment(Event.PARSE_FAILURE);
       cursor.setErrorIndex(start);
       throw new MeasurementParseException(e);
+    } finally {
+      FlightRecording.endParse(event, this, source, result);
     }
   }
 
@@ -32,6 +32,8 @@ package tech.units.indriya.format;
 import static tech.units.indriya.format.FormatBehavior.LOCALE_NEUTRAL;
 import static tech.units.indriya.format.CommonFormatter.parseMixedAsLeading;
 import static tech.units.indriya.format.CommonFormatter.parseMixedAsPrimary;
+import static tech.units.indriya.format.CommonFormatter.sectionEnd;
+import static tech.units.indriya.format.CommonFormatter.sectionStart;
 
 import java.io.IOException;
 import java.text.NumberFormat;
@@ -45,17 +47,24 @@ import javax.measure.format.MeasurementParseException;
 import javax.measure.format.UnitFormat;
 
 import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.internal.format.NumberWriter;
+import tech.units.indriya.internal.format.SharedNumberFormat;
+import tech.units.indriya.internal.format.StacklessIllegalArgumentException;
 import tech.units.indriya.quantity.MixedQuantity;
 import tech.units.indriya.quantity.Quantities;
 
 /**
  * An implementation of {@link javax.measure.format.QuantityFormat QuantityFormat} combining {@linkplain NumberFormat} and {@link UnitFormat}
  * separated by a delimiter.
+ * <p>
+ * Instances are immutable and safe for use by multiple threads: the {@linkplain NumberFormat} passed to the {@link Builder} is copied, and
+ * each thread works on its own copy of it.
+ * </p>
  *
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author <a href="mailto:thodoris.bais@gmail.com">Thodoris Bais</a>
  *
- * @version 2.9, $Date: 2024-10-12 $
+ * @version 2.12, $Date: 2026-10-19 $
  * @since 2.0
  */
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -80,15 +89,22 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
      */
     private static final long serialVersionUID = 3546952599885869402L;
 
-    private transient NumberFormat numberFormat;
-    private transient UnitFormat unitFormat;
-    private transient Unit primaryUnit;
-    private String delimiter;
-    private String mixDelimiter;
-    private boolean localeSensitive;
+    private final transient SharedNumberFormat numberFormat;
+    private final transient UnitFormat unitFormat;
+    private final transient Unit primaryUnit;
+    private final String delimiter;
+    private final String mixDelimiter;
+    private final boolean localeSensitive;
 
     /** private constructor */
-    private NumberDelimiterQuantityFormat() { }
+    private NumberDelimiterQuantityFormat(Builder builder) {
+        this.numberFormat = builder.numberFormat != null ? SharedNumberFormat.of(builder.numberFormat) : null;
+        this.unitFormat = builder.unitFormat;
+        this.primaryUnit = builder.primaryUnit;
+        this.delimiter = builder.delimiter;
+        this.mixDelimiter = builder.mixedRadixDelimiter;
+        this.localeSensitive = builder.localeSensitive;
+    }
 
     /**
      * A fluent Builder to easily create new instances of <code>NumberDelimiterQuantityFormat</code>.
@@ -175,14 +191,7 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
         }
 
         public NumberDelimiterQuantityFormat build() {
-            NumberDelimiterQuantityFormat quantityFormat = new NumberDelimiterQuantityFormat();
-            quantityFormat.numberFormat = this.numberFormat;
-            quantityFormat.unitFormat = this.unitFormat;
-            quantityFormat.primaryUnit = this.primaryUnit;
-            quantityFormat.delimiter = this.delimiter;
-            quantityFormat.mixDelimiter = this.mixedRadixDelimiter;
-            quantityFormat.localeSensitive = this.localeSensitive;
-            return quantityFormat;
+            return new NumberDelimiterQuantityFormat(this);
         }
     }
 
@@ -297,10 +306,7 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
             if (quantity != null && quantity.getValue() != null) {
                 fract = getFractionDigitsCount(quantity.getValue().doubleValue());
             }
-            if (fract > 1) {
-                numberFormat.setMaximumFractionDigits(fract + 1);
-            }
-            dest.append(numberFormat.format(quantity.getValue()));
+            numberFormat.format(quantity.getValue(), fract > 1 ? fract + 1 : -1, dest);
             if (quantity.getUnit().equals(AbstractUnit.ONE))
                 return dest;
             dest.append(delimiter);
@@ -314,25 +320,25 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
         final int index = cursor.getIndex();
         if (mixDelimiter != null && !mixDelimiter.equals(delimiter)) {
             if (primaryUnit != null) {
-                return parseMixedAsPrimary(str, numberFormat, unitFormat, primaryUnit, delimiter, mixDelimiter, index);
+                return parseMixedAsPrimary(str, numberFormat.get(), unitFormat, primaryUnit, delimiter, mixDelimiter, index);
             } else {
-                return parseMixedAsLeading(str, numberFormat, unitFormat, delimiter, mixDelimiter, index);
+                return parseMixedAsLeading(str, numberFormat.get(), unitFormat, delimiter, mixDelimiter, index);
             }
         } else if (mixDelimiter != null && mixDelimiter.equals(delimiter)) {
             if (primaryUnit != null) {
-                return parseMixedAsPrimary(str, numberFormat, unitFormat, primaryUnit, delimiter, index);
+                return parseMixedAsPrimary(str, numberFormat.get(), unitFormat, primaryUnit, delimiter, index);
             } else {
-                return parseMixedAsLeading(str, numberFormat, unitFormat, delimiter, index);
+                return parseMixedAsLeading(str, numberFormat.get(), unitFormat, delimiter, index);
             }
         }
         final Number number = numberFormat.parse(str, cursor);
         if (number == null)
-            throw new IllegalArgumentException("Number cannot be parsed");
-        final String[] parts = str.substring(index).split(delimiter);
-        if (parts.length < 2) {
-            throw new IllegalArgumentException("No Unit found");
+            throw new StacklessIllegalArgumentException("Number cannot be parsed");
+        final int unitStart = sectionStart(str, delimiter, index);
+        if (unitStart < 0) {
+            throw new StacklessIllegalArgumentException("No Unit found");
         }
-        final Unit unit = unitFormat.parse(parts[1]);
+        final Unit unit = unitFormat.parse(str.substring(unitStart, sectionEnd(str, delimiter, unitStart)));
         return Quantities.getQuantity(number, unit);
     }
 
@@ -346,6 +352,33 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
         return parse(csq, 0);
     }
 
+    @Override
+    public ParseResult<Quantity<?>> tryParse(CharSequence csq) {
+        if (mixDelimiter != null || !(unitFormat instanceof AbstractUnitFormat)) {
+            return super.tryParse(csq);
+        }
+        final String str = csq.toString();
+        final ParsePosition cursor = new ParsePosition(0);
+        final Number number = numberFormat.parse(str, cursor);
+        if (number == null) {
+            return ParseResult.error("Number cannot be parsed", Math.max(cursor.getErrorIndex(), 0));
+        }
+        final int unitStart = sectionStart(str, delimiter, 0);
+        if (unitStart < 0) {
+            return ParseResult.error("No Unit found", str.length());
+        }
+        final ParseResult<Unit<?>> unit = ((AbstractUnitFormat) unitFormat).tryParse(str.substring(unitStart,
+                sectionEnd(str, delimiter, unitStart)));
+        if (!unit.isSuccess()) {
+            return ParseResult.error(unit.getReason(), unitStart + unit.getErrorIndex());
+        }
+        try {
+            return ParseResult.of(Quantities.getQuantity(number, unit.get()));
+        } catch (IllegalArgumentException e) {
+            return ParseResult.error(e, 0);
+        }
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
@@ -374,18 +407,18 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
         final String str = csq.toString();
         final int index = cursor.getIndex();
         if (mixDelimiter != null && !mixDelimiter.equals(delimiter)) {
-                return CommonFormatter.parseMixed(str, numberFormat, unitFormat, delimiter, mixDelimiter, index);
+                return CommonFormatter.parseMixed(str, numberFormat.get(), unitFormat, delimiter, mixDelimiter, index);
         } else if (mixDelimiter != null && mixDelimiter.equals(delimiter)) {
-                return CommonFormatter.parseMixed(str, numberFormat, unitFormat, delimiter, index);
+                return CommonFormatter.parseMixed(str, numberFormat.get(), unitFormat, delimiter, index);
         }
         final Number number = numberFormat.parse(str, cursor);
         if (number == null)
-            throw new IllegalArgumentException("Number cannot be parsed");
-        final String[] parts = str.substring(index).split(delimiter);
-        if (parts.length < 2) {
-            throw new IllegalArgumentException("No Unit found");
+            throw new StacklessIllegalArgumentException("Number cannot be parsed");
+        final int unitStart = sectionStart(str, delimiter, index);
+        if (unitStart < 0) {
+            throw new StacklessIllegalArgumentException("No Unit found");
         }
-        final Unit unit = unitFormat.parse(parts[1]);
+        final Unit unit = unitFormat.parse(str.substring(unitStart, sectionEnd(str, delimiter, unitStart)));
         return MixedQuantity.of(Quantities.getQuantity(number, unit));
     }
 
@@ -400,19 +433,6 @@ public class NumberDelimiterQuantityFormat extends AbstractQuantityFormat {
     // Private helper methods
 
     private static int getFractionDigitsCount(double d) {
-        if (d >= 1) { // we only need the fraction digits
-            d = d - (long) d;
-        }
-        if (d == 0) { // nothing to count
-            return 0;
-        }
-        d *= 10; // shifts 1 digit to left
-        int count = 1;
-        while (d - (long) d != 0) { // keeps shifting until there are no more
-            // fractions
-            d *= 10;
-            count++;
-        }
-        return count;
+        return NumberWriter.fractionDigits(d); // counts the digits of the shortest decimal, not of repeated multiplications
     }
 }
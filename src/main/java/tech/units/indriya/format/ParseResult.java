@@ -0,0 +1,170 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Objects;
+
+import javax.measure.format.MeasurementParseException;
+
+import org.apiguardian.api.API;
+
+/**
+ * The outcome of a non-throwing parse operation such as {@link AbstractUnitFormat#tryParse(CharSequence)}: either the
+ * parsed value, or the reason and position of the error.
+ * <p>
+ * This lets callers validate large amounts of possibly malformed input without paying for exceptions.
+ * </p>
+ *
+ * @param <T>
+ *          the type of the parsed value.
+ * @version 1.0, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = EXPERIMENTAL)
+public final class ParseResult<T> {
+
+  private final T value;
+  private final String reason;
+  private final int errorIndex;
+
+  private ParseResult(T value, String reason, int errorIndex) {
+    this.value = value;
+    this.reason = reason;
+    this.errorIndex = errorIndex;
+  }
+
+  /**
+   * Returns a successful result.
+   *
+   * @param <T>
+   *          the type of the parsed value.
+   * @param value
+   *          the parsed value, not <code>null</code>.
+   * @return the result holding the value.
+   */
+  public static <T> ParseResult<T> of(T value) {
+    return new ParseResult<>(Objects.requireNonNull(value), null, -1);
+  }
+
+  /**
+   * Returns a failed result.
+   *
+   * @param <T>
+   *          the type of the value that could not be parsed.
+   * @param reason
+   *          the description of the error.
+   * @param errorIndex
+   *          the index of the character where the error was found.
+   * @return the result holding the error.
+   */
+  public static <T> ParseResult<T> error(String reason, int errorIndex) {
+    return new ParseResult<>(null, String.valueOf(reason), errorIndex);
+  }
+
+  /**
+   * Returns a failed result for the specified exception.
+   *
+   * @param <T>
+   *          the type of the value that could not be parsed.
+   * @param e
+   *          the exception signaling the error.
+   * @param errorIndex
+   *          the index of the character where the error was found, used if the exception does not provide a position.
+   * @return the result holding the error.
+   */
+  static <T> ParseResult<T> error(RuntimeException e, int errorIndex) {
+    if (e instanceof MeasurementParseException) {
+      final int position = ((MeasurementParseException) e).getPosition();
+      if (position >= 0) {
+        errorIndex = position;
+      }
+    }
+    return error(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName(), errorIndex);
+  }
+
+  /**
+   * Indicates whether parsing succeeded.
+   *
+   * @return <code>true</code> if this result holds a value, <code>false</code> if it holds an error.
+   */
+  public boolean isSuccess() {
+    return reason == null;
+  }
+
+  /**
+   * Returns the parsed value.
+   *
+   * @return the parsed value.
+   * @throws MeasurementParseException
+   *           if parsing failed.
+   */
+  public T get() {
+    if (reason != null) {
+      throw new MeasurementParseException(reason, null, errorIndex);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the parsed value, or <code>other</code> if parsing failed.
+   *
+   * @param other
+   *          the value to return if parsing failed.
+   * @return the parsed value or <code>other</code>.
+   */
+  public T orElse(T other) {
+    return reason == null ? value : other;
+  }
+
+  /**
+   * Returns the description of the error.
+   *
+   * @return the reason parsing failed, or <code>null</code> if it succeeded.
+   */
+  public String getReason() {
+    return reason;
+  }
+
+  /**
+   * Returns the index of the character where the error was found.
+   *
+   * @return the error index, or <code>-1</code> if parsing succeeded.
+   */
+  public int getErrorIndex() {
+    return errorIndex;
+  }
+
+  @Override
+  public String toString() {
+    return reason == null ? "ParseResult[" + value + "]" : "ParseResult[error at " + errorIndex + ": " + reason + "]";
+  }
+}
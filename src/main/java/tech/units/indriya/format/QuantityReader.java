@@ -0,0 +1,688 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.measure.IncommensurableException;
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.format.UnitFormat;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.internal.format.MappedFileReader;
+import tech.units.indriya.internal.format.NumberScanner;
+import tech.units.indriya.internal.function.Calculator;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * Reads quantities from delimited text, like CSV files or files with one quantity per line, one record at a time.
+ * <p>
+ * Each column read holds a quantity the way {@link SimpleQuantityFormat} writes it, e.g. <code>12.5 kW</code>: a
+ * decimal or rational literal, whitespace and a unit, or the literal alone for dimensionless quantities. Other columns,
+ * like timestamps, are skipped. Fields may be enclosed in double quotes, to contain the delimiter.
+ * </p>
+ * <p>
+ * Lines are scanned in place in a character buffer and numbers are parsed by index, without creating a
+ * {@link String} per cell. The units of a column are parsed once per distinct text and kept in a small cache of the
+ * column, together with the converter to the unit of the column. Values are returned in that unit, which is either
+ * the unit given for the column or the unit of its first value.
+ * </p>
+ *
+ * <pre>
+ * try (QuantityReader reader = new QuantityReader.Builder().setSkipLines(1).addColumn(1, KILO(WATT)).addColumn(2)
+ *     .open(path)) {
+ *   while (reader.next()) {
+ *     double power = reader.getValue(1);
+ *     Quantity&lt;?&gt; voltage = reader.getQuantity(2);
+ *   }
+ * }
+ * </pre>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @version 1.0, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = EXPERIMENTAL)
+public final class QuantityReader implements Closeable {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /** The number of distinct unit texts kept per column. */
+  private static final int UNIT_CACHE_SIZE = 8;
+
+  private static final char QUOTE = '"';
+
+  /**
+   * A column read, with the last units parsed from it.
+   */
+  private static final class Column {
+    final int index;
+    Unit<?> unit;
+    final String[] texts = new String[UNIT_CACHE_SIZE];
+    final Unit<?>[] units = new Unit<?>[UNIT_CACHE_SIZE];
+    final UnitConverter[] converters = new UnitConverter[UNIT_CACHE_SIZE];
+    int size;
+    int next;
+
+    Column(int index, Unit<?> unit) {
+      this.index = index;
+      this.unit = unit;
+    }
+  }
+
+  private final Reader source;
+  private final char delimiter;
+  private final int skipLines;
+  private final UnitFormat unitFormat;
+  private final Column[] columns;
+  private final Column[] columnsByIndex;
+  private final int[] fieldStarts;
+  private final int[] fieldEnds;
+
+  private char[] buffer = new char[BUFFER_SIZE];
+  private CharBuffer text = CharBuffer.wrap(buffer);
+  private int limit;
+  private boolean endOfInput;
+  private int nextLineStart;
+  private int lineStart;
+  private int lineEnd;
+  private long lineNumber;
+  private int fieldCount;
+
+  // the bounds of the cell located last
+  private int numberStart;
+  private int numberEnd;
+  private int divisionIndex;
+  private int unitStart;
+  private int unitEnd;
+
+  private QuantityReader(Builder builder, Reader source) {
+    this.source = source;
+    this.delimiter = builder.delimiter;
+    this.skipLines = builder.skipLines;
+    this.unitFormat = builder.unitFormat != null ? builder.unitFormat : SimpleUnitFormat.getInstance();
+    this.columns = new Column[builder.columns.size()];
+    int maxIndex = -1;
+    int i = 0;
+    for (Map.Entry<Integer, Unit<?>> entry : builder.columns.entrySet()) {
+      columns[i++] = new Column(entry.getKey(), entry.getValue());
+      maxIndex = Math.max(maxIndex, entry.getKey());
+    }
+    this.columnsByIndex = new Column[maxIndex + 1];
+    for (Column column : columns) {
+      columnsByIndex[column.index] = column;
+    }
+    this.fieldStarts = new int[maxIndex + 1];
+    this.fieldEnds = new int[maxIndex + 1];
+  }
+
+  /**
+   * Advances to the next record, skipping blank lines.
+   *
+   * @return <code>true</code> if there is a record, <code>false</code> at the end of the input.
+   * @throws IOException
+   *           if the input cannot be read.
+   */
+  public boolean next() throws IOException {
+    while (readLine()) {
+      if (lineNumber > skipLines && lineEnd > lineStart) {
+        splitFields();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the number of the line of the current record, counting from 1.
+   *
+   * @return the line number.
+   */
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * Returns the value of the specified column of the current record, in the unit of the column.
+   *
+   * @param index
+   *          the index of the column, counting from 0.
+   * @return the value in the unit of the column.
+   * @throws IllegalArgumentException
+   *           if the column was not added to the builder.
+   * @throws MeasurementParseException
+   *           if the cell does not hold a quantity.
+   * @throws UnconvertibleException
+   *           if the unit of the cell is not convertible to the unit of the column.
+   */
+  public double getValue(int index) {
+    return value(column(index));
+  }
+
+  /**
+   * Returns the quantity of the specified column of the current record, in the unit it is written in.
+   *
+   * @param index
+   *          the index of the column, counting from 0.
+   * @return the quantity.
+   * @throws IllegalArgumentException
+   *           if the column was not added to the builder.
+   * @throws MeasurementParseException
+   *           if the cell does not hold a quantity.
+   */
+  public Quantity<?> getQuantity(int index) {
+    final Column column = column(index);
+    locate(column);
+    final Number number;
+    if (divisionIndex < 0) {
+      final BigDecimal literal = NumberScanner.parseLiteral(text, numberStart, numberEnd);
+      if (literal == null) {
+        throw parseError("Invalid number literal", numberStart);
+      }
+      number = Calculator.of(literal).peek();
+    } else {
+      number = rational();
+    }
+    return Quantities.getQuantity(number, column.units[unit(column)]);
+  }
+
+  /**
+   * Returns the unit of the specified column of the current record, as it is written.
+   *
+   * @param index
+   *          the index of the column, counting from 0.
+   * @return the unit of the cell.
+   * @throws IllegalArgumentException
+   *           if the column was not added to the builder.
+   * @throws MeasurementParseException
+   *           if the cell does not hold a quantity.
+   */
+  public Unit<?> getUnit(int index) {
+    final Column column = column(index);
+    locate(column);
+    return column.units[unit(column)];
+  }
+
+  /**
+   * Returns the unit values of the specified column are returned in: the unit given for the column, or the unit of its
+   * first value.
+   *
+   * @param index
+   *          the index of the column, counting from 0.
+   * @return the unit of the column, or <code>null</code> if none was given and no value was read yet.
+   * @throws IllegalArgumentException
+   *           if the column was not added to the builder.
+   */
+  public Unit<?> getColumnUnit(int index) {
+    return column(index).unit;
+  }
+
+  /**
+   * Reads the values of up to <code>length</code> records into primitive column buffers, in the units of the columns.
+   * The values of the n-th column added to the builder are stored in <code>values[n]</code>, starting at
+   * <code>offset</code>.
+   *
+   * @param values
+   *          the buffers, one per column added to the builder.
+   * @param offset
+   *          the index in the buffers to store the values of the first record at.
+   * @param length
+   *          the maximum number of records to read.
+   * @return the number of records read, or <code>-1</code> at the end of the input.
+   * @throws IOException
+   *           if the input cannot be read.
+   * @throws IllegalArgumentException
+   *           if there is not one buffer per column.
+   * @throws MeasurementParseException
+   *           if a cell does not hold a quantity.
+   * @throws UnconvertibleException
+   *           if the unit of a cell is not convertible to the unit of its column.
+   */
+  public int read(double[][] values, int offset, int length) throws IOException {
+    if (values.length != columns.length) {
+      throw new IllegalArgumentException("Expected " + columns.length + " buffers, got " + values.length);
+    }
+    int records = 0;
+    while (records < length && next()) {
+      for (int i = 0; i < columns.length; i++) {
+        values[i][offset + records] = value(columns[i]);
+      }
+      records++;
+    }
+    return records == 0 && length > 0 ? -1 : records;
+  }
+
+  @Override
+  public void close() throws IOException {
+    source.close();
+  }
+
+  private Column column(int index) {
+    final Column column = index >= 0 && index < columnsByIndex.length ? columnsByIndex[index] : null;
+    if (column == null) {
+      throw new IllegalArgumentException("Column " + index + " is not read");
+    }
+    return column;
+  }
+
+  private double value(Column column) {
+    locate(column);
+    final double value;
+    if (divisionIndex < 0) {
+      try {
+        value = NumberScanner.parseDoubleLiteral(text, numberStart, numberEnd);
+      } catch (NumberFormatException e) {
+        throw parseError(e.getMessage(), numberStart);
+      }
+    } else {
+      value = rational().doubleValue();
+    }
+    final int slot = unit(column);
+    final UnitConverter converter = column.converters[slot];
+    if (converter == null) {
+      throw new UnconvertibleException(
+          "Line " + lineNumber + ": " + column.units[slot] + " is not convertible to " + column.unit);
+    }
+    return converter.convert(value);
+  }
+
+  private RationalNumber rational() {
+    try {
+      return RationalNumber.of(new BigInteger(text.subSequence(numberStart, divisionIndex).toString()),
+          new BigInteger(text.subSequence(divisionIndex + 1, numberEnd).toString()));
+    } catch (ArithmeticException | NumberFormatException e) {
+      throw parseError("Invalid rational number", numberStart);
+    }
+  }
+
+  /**
+   * Returns the slot of the unit of the located cell in the cache of its column, parsing the unit on a miss.
+   */
+  private int unit(Column column) {
+    final int length = unitEnd - unitStart;
+    for (int slot = 0; slot < column.size; slot++) {
+      if (regionMatches(column.texts[slot], unitStart, length)) {
+        return slot;
+      }
+    }
+    final String unitText = new String(buffer, unitStart, length);
+    final Unit<?> unit;
+    try {
+      unit = length == 0 ? AbstractUnit.ONE : unitFormat.parse(unitText);
+    } catch (MeasurementParseException e) {
+      throw parseError("Invalid unit '" + unitText + "'", unitStart + Math.max(e.getPosition(), 0));
+    }
+    if (column.unit == null) {
+      column.unit = unit;
+    }
+    UnitConverter converter;
+    try {
+      converter = unit.getConverterToAny(column.unit);
+    } catch (IncommensurableException e) {
+      converter = null; // reported by value(Column) only, the quantity itself is fine
+    }
+    final int slot = column.next;
+    column.texts[slot] = unitText;
+    column.units[slot] = unit;
+    column.converters[slot] = converter;
+    column.next = (slot + 1) % UNIT_CACHE_SIZE;
+    column.size = Math.max(column.size, slot + 1);
+    return slot;
+  }
+
+  private boolean regionMatches(String cached, int start, int length) {
+    if (cached.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (cached.charAt(i) != buffer[start + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Locates the number and the unit of a cell of the current record.
+   */
+  private void locate(Column column) {
+    if (column.index >= fieldCount) {
+      throw parseError("Missing column " + column.index, lineEnd);
+    }
+    int position = fieldStarts[column.index];
+    int end = fieldEnds[column.index];
+    while (position < end && Character.isWhitespace(buffer[position])) {
+      position++;
+    }
+    while (end > position && Character.isWhitespace(buffer[end - 1])) {
+      end--;
+    }
+    if (position == end) {
+      throw parseError("Missing quantity in column " + column.index, position);
+    }
+    numberStart = position;
+    divisionIndex = -1;
+    for (; position < end && !Character.isWhitespace(buffer[position]); position++) {
+      if (buffer[position] == RationalNumber.DIVISION_CHARACTER && divisionIndex < 0) {
+        divisionIndex = position;
+      }
+    }
+    numberEnd = position;
+    while (position < end && Character.isWhitespace(buffer[position])) {
+      position++;
+    }
+    unitStart = position;
+    unitEnd = end;
+  }
+
+  private MeasurementParseException parseError(String message, int position) {
+    return new MeasurementParseException("Line " + lineNumber + ": " + message,
+        new String(buffer, lineStart, lineEnd - lineStart), position - lineStart);
+  }
+
+  /**
+   * Splits the current line into the fields up to the last column read.
+   */
+  private void splitFields() {
+    int position = lineStart;
+    int field = 0;
+    while (field < fieldStarts.length) {
+      if (position < lineEnd && buffer[position] == QUOTE) {
+        int end = position + 1;
+        while (end < lineEnd) {
+          if (buffer[end] == QUOTE) {
+            if (end + 1 == lineEnd || buffer[end + 1] != QUOTE) {
+              break;
+            }
+            end++; // an escaped quote
+          }
+          end++;
+        }
+        fieldStarts[field] = position + 1;
+        fieldEnds[field] = end;
+        position = end;
+        while (position < lineEnd && buffer[position] != delimiter) {
+          position++;
+        }
+      } else {
+        fieldStarts[field] = position;
+        while (position < lineEnd && buffer[position] != delimiter) {
+          position++;
+        }
+        fieldEnds[field] = position;
+      }
+      field++;
+      if (position == lineEnd) {
+        break;
+      }
+      position++;
+    }
+    fieldCount = field;
+  }
+
+  /**
+   * Reads the next line into the buffer, compacting or growing it as needed.
+   *
+   * @return <code>false</code> at the end of the input.
+   */
+  private boolean readLine() throws IOException {
+    int position = nextLineStart;
+    for (;;) {
+      for (; position < limit; position++) {
+        if (buffer[position] == '\n') {
+          setLine(nextLineStart, position);
+          nextLineStart = position + 1;
+          return true;
+        }
+      }
+      if (endOfInput) {
+        if (nextLineStart == limit) {
+          return false;
+        }
+        setLine(nextLineStart, limit);
+        nextLineStart = limit;
+        return true;
+      }
+      if (nextLineStart > 0) {
+        System.arraycopy(buffer, nextLineStart, buffer, 0, limit - nextLineStart);
+        limit -= nextLineStart;
+        position -= nextLineStart;
+        nextLineStart = 0;
+      } else if (limit == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        text = CharBuffer.wrap(buffer);
+      }
+      final int count = source.read(buffer, limit, buffer.length - limit);
+      if (count < 0) {
+        endOfInput = true;
+      } else {
+        limit += count;
+      }
+    }
+  }
+
+  private void setLine(int start, int end) {
+    lineStart = start;
+    lineEnd = end > start && buffer[end - 1] == '\r' ? end - 1 : end;
+    lineNumber++;
+  }
+
+  /**
+   * Builder for a {@link QuantityReader}: the columns to read, the delimiter and the input.
+   */
+  public static final class Builder {
+
+    private char delimiter = ',';
+    private int skipLines;
+    private UnitFormat unitFormat;
+    private Charset charset = StandardCharsets.UTF_8;
+    private boolean memoryMapped;
+    private final Map<Integer, Unit<?>> columns = new LinkedHashMap<>();
+
+    /**
+     * Sets the delimiter between the fields of a line, a comma by default.
+     *
+     * @param delimiter
+     *          the delimiter.
+     * @return this {@code QuantityReader.Builder}
+     */
+    public Builder setDelimiter(char delimiter) {
+      this.delimiter = delimiter;
+      return this;
+    }
+
+    /**
+     * Sets the number of lines to skip at the start of the input, like a header line.
+     *
+     * @param skipLines
+     *          the number of lines to skip.
+     * @return this {@code QuantityReader.Builder}
+     * @throws IllegalArgumentException
+     *           if {@code skipLines} is negative
+     */
+    public Builder setSkipLines(int skipLines) {
+      if (skipLines < 0) {
+        throw new IllegalArgumentException("Negative number of lines to skip: " + skipLines);
+      }
+      this.skipLines = skipLines;
+      return this;
+    }
+
+    /**
+     * Sets the format to parse units with, {@link SimpleUnitFormat#getInstance()} by default.
+     *
+     * @param unitFormat
+     *          the {@link UnitFormat}
+     * @return this {@code QuantityReader.Builder}
+     * @throws NullPointerException
+     *           if {@code unitFormat} is {@code null}
+     */
+    public Builder setUnitFormat(UnitFormat unitFormat) {
+      this.unitFormat = Objects.requireNonNull(unitFormat);
+      return this;
+    }
+
+    /**
+     * Sets the encoding of files and channels, UTF-8 by default.
+     *
+     * @param charset
+     *          the encoding.
+     * @return this {@code QuantityReader.Builder}
+     * @throws NullPointerException
+     *           if {@code charset} is {@code null}
+     */
+    public Builder setCharset(Charset charset) {
+      this.charset = Objects.requireNonNull(charset);
+      return this;
+    }
+
+    /**
+     * Sets whether files opened with {@link #open(Path)} are read through a memory map, instead of a stream.
+     *
+     * @param memoryMapped
+     *          <code>true</code> to map files into memory.
+     * @return this {@code QuantityReader.Builder}
+     */
+    public Builder setMemoryMapped(boolean memoryMapped) {
+      this.memoryMapped = memoryMapped;
+      return this;
+    }
+
+    /**
+     * Adds a column to read, with values in the unit of its first value.
+     *
+     * @param index
+     *          the index of the column, counting from 0.
+     * @return this {@code QuantityReader.Builder}
+     * @throws IllegalArgumentException
+     *           if {@code index} is negative
+     */
+    public Builder addColumn(int index) {
+      return addColumn(index, null);
+    }
+
+    /**
+     * Adds a column to read, with values converted to the specified unit.
+     *
+     * @param index
+     *          the index of the column, counting from 0.
+     * @param unit
+     *          the unit of the values, or <code>null</code> for the unit of its first value.
+     * @return this {@code QuantityReader.Builder}
+     * @throws IllegalArgumentException
+     *           if {@code index} is negative
+     */
+    public Builder addColumn(int index, Unit<?> unit) {
+      if (index < 0) {
+        throw new IllegalArgumentException("Negative column index: " + index);
+      }
+      columns.put(index, unit);
+      return this;
+    }
+
+    /**
+     * Opens a reader on the specified characters.
+     *
+     * @param reader
+     *          the input, closed with the {@link QuantityReader}.
+     * @return the {@link QuantityReader}
+     * @throws NullPointerException
+     *           if {@code reader} is {@code null}
+     * @throws IllegalStateException
+     *           if no column was added
+     */
+    public QuantityReader open(Reader reader) {
+      Objects.requireNonNull(reader);
+      if (columns.isEmpty()) {
+        throw new IllegalStateException("No column to read");
+      }
+      return new QuantityReader(this, reader);
+    }
+
+    /**
+     * Opens a reader on the specified file, mapping it into memory if {@link #setMemoryMapped(boolean) configured}.
+     *
+     * @param path
+     *          the file.
+     * @return the {@link QuantityReader}
+     * @throws IOException
+     *           if the file cannot be opened.
+     * @throws IllegalStateException
+     *           if no column was added
+     */
+    public QuantityReader open(Path path) throws IOException {
+      if (columns.isEmpty()) {
+        throw new IllegalStateException("No column to read");
+      }
+      return open(memoryMapped ? new MappedFileReader(path, charset)
+          : new InputStreamReader(Files.newInputStream(path), charset));
+    }
+
+    /**
+     * Opens a reader on the specified channel.
+     *
+     * @param channel
+     *          the input, closed with the {@link QuantityReader}.
+     * @return the {@link QuantityReader}
+     * @throws IllegalStateException
+     *           if no column was added
+     */
+    public QuantityReader open(ReadableByteChannel channel) {
+      return open(Channels.newReader(channel, charset.newDecoder(), -1));
+    }
+  }
+}
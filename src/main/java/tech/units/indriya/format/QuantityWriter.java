@@ -0,0 +1,620 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.format.UnitFormat;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.internal.format.NumberWriter;
+
+/**
+ * Writes quantities as CSV or JSON, one record at a time.
+ * <p>
+ * In {@link Syntax#CSV CSV}, a quantity is written the way {@link SimpleQuantityFormat} does, e.g.
+ * <code>12.5 kW</code>, and can be read back with {@link QuantityReader}. In {@link Syntax#JSON JSON}, the output is
+ * an array of records, each an array of its cells, and a quantity is written as an object like
+ * <code>{"value":12.5,"unit":"kW"}</code>.
+ * </p>
+ * <p>
+ * Output is collected in a character buffer and written in batches. Numbers are written straight into that buffer, a
+ * <code>double</code> with the shortest decimal that rounds to it, and each distinct unit is formatted once and kept
+ * in a small cache, together with the text written around the number. Writing <code>double</code> values, like the
+ * columns of {@link #writeColumns(double[][], Unit[], int, int)}, allocates nothing per value.
+ * </p>
+ *
+ * <pre>
+ * try (QuantityWriter writer = new QuantityWriter.Builder().open(path)) {
+ *   writer.writeText("power").writeText("voltage").endRecord();
+ *   writer.writeColumns(new double[][] { power, voltage }, new Unit&lt;?&gt;[] { KILO(WATT), VOLT }, 0, power.length);
+ * }
+ * </pre>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @version 1.0, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = EXPERIMENTAL)
+public final class QuantityWriter implements Closeable, Flushable {
+
+  /**
+   * The syntax of the output.
+   */
+  public enum Syntax {
+    /** Delimited text, one record per line. */
+    CSV,
+    /** An array of records, each an array of its cells. */
+    JSON
+  }
+
+  private static final int BUFFER_SIZE = 1 << 13;
+
+  /** The number of distinct units kept. */
+  private static final int UNIT_CACHE_SIZE = 16;
+
+  private static final char QUOTE = '"';
+
+  private final Writer out;
+  private final Syntax syntax;
+  private final char delimiter;
+  private final UnitFormat unitFormat;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int position;
+  private int cells;
+  private long records;
+
+  // the text written before and after the numbers of the last units
+  private final Unit<?>[] units = new Unit<?>[UNIT_CACHE_SIZE];
+  private final String[] prefixes = new String[UNIT_CACHE_SIZE];
+  private final String[] suffixes = new String[UNIT_CACHE_SIZE];
+  private int unitCount;
+  private int nextUnit;
+
+  /** Writes the characters appended into the buffer, used for the rare numbers and texts written by others. */
+  private final Appendable sink = new Appendable() {
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+      write(csq);
+      return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+      write(csq.subSequence(start, end));
+      return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+      write(c);
+      return this;
+    }
+  };
+
+  private QuantityWriter(Builder builder, Writer out) {
+    this.out = out;
+    this.syntax = builder.syntax;
+    this.delimiter = builder.delimiter;
+    this.unitFormat = builder.unitFormat != null ? builder.unitFormat : SimpleUnitFormat.getInstance();
+  }
+
+  /**
+   * Writes a quantity as the next cell of the current record.
+   *
+   * @param quantity
+   *          the quantity.
+   * @return this {@code QuantityWriter}
+   * @throws IOException
+   *           if the output cannot be written.
+   */
+  public QuantityWriter writeQuantity(Quantity<?> quantity) throws IOException {
+    final int slot = unit(quantity.getUnit());
+    startCell();
+    write(prefixes[slot]);
+    writeNumber(quantity.getValue());
+    write(suffixes[slot]);
+    return this;
+  }
+
+  /**
+   * Writes a quantity given by its value and unit as the next cell of the current record.
+   *
+   * @param value
+   *          the value of the quantity.
+   * @param unit
+   *          the unit of the quantity.
+   * @return this {@code QuantityWriter}
+   * @throws IOException
+   *           if the output cannot be written.
+   */
+  public QuantityWriter writeValue(double value, Unit<?> unit) throws IOException {
+    final int slot = unit(unit);
+    startCell();
+    write(prefixes[slot]);
+    writeDouble(value);
+    write(suffixes[slot]);
+    return this;
+  }
+
+  /**
+   * Writes a quantity given by its value and unit as the next cell of the current record.
+   *
+   * @param value
+   *          the value of the quantity.
+   * @param unit
+   *          the unit of the quantity.
+   * @return this {@code QuantityWriter}
+   * @throws IOException
+   *           if the output cannot be written.
+   */
+  public QuantityWriter writeValue(long value, Unit<?> unit) throws IOException {
+    final int slot = unit(unit);
+    startCell();
+    write(prefixes[slot]);
+    reserve(NumberWriter.MAX_LONG_CHARS);
+    position = NumberWriter.toChars(value, buffer, position);
+    write(suffixes[slot]);
+    return this;
+  }
+
+  /**
+   * Writes a text, like a timestamp or a column header, as the next cell of the current record. The text is quoted in
+   * CSV if it contains the delimiter, a quote or a line break, and written as a string in JSON.
+   *
+   * @param text
+   *          the text.
+   * @return this {@code QuantityWriter}
+   * @throws IOException
+   *           if the output cannot be written.
+   */
+  public QuantityWriter writeText(CharSequence text) throws IOException {
+    startCell();
+    if (syntax == Syntax.JSON) {
+      appendJsonString(text, sink);
+    } else {
+      appendCsvText(text, delimiter, sink);
+    }
+    return this;
+  }
+
+  /**
+   * Ends the current record.
+   *
+   * @return this {@code QuantityWriter}
+   * @throws IOException
+   *           if the output cannot be written.
+   */
+  public QuantityWriter endRecord() throws IOException {
+    if (syntax == Syntax.JSON) {
+      if (cells == 0) {
+        startRecord();
+      }
+      write(']');
+    } else {
+      write('\n');
+    }
+    cells = 0;
+    records++;
+    return this;
+  }
+
+  /**
+   * Writes records from primitive column buffers, one cell per column, the n-th column with the values of
+   * <code>values[n]</code> in the unit <code>units[n]</code>. Each unit is looked up once per call.
+   *
+   * @param values
+   *          the buffers, one per column.
+   * @param units
+   *          the units of the columns.
+   * @param offset
+   *          the index in the buffers of the values of the first record.
+   * @param length
+   *          the number of records to write.
+   * @return this {@code QuantityWriter}
+   * @throws IOException
+   *           if the output cannot be written.
+   * @throws IllegalArgumentException
+   *           if there is not one unit per buffer.
+   */
+  public QuantityWriter writeColumns(double[][] values, Unit<?>[] units, int offset, int length) throws IOException {
+    if (values.length != units.length) {
+      throw new IllegalArgumentException("Expected " + values.length + " units, got " + units.length);
+    }
+    final String[] columnPrefixes = new String[units.length];
+    final String[] columnSuffixes = new String[units.length];
+    for (int i = 0; i < units.length; i++) {
+      final int slot = unit(units[i]);
+      columnPrefixes[i] = prefixes[slot];
+      columnSuffixes[i] = suffixes[slot];
+    }
+    for (int record = offset; record < offset + length; record++) {
+      for (int i = 0; i < values.length; i++) {
+        startCell();
+        write(columnPrefixes[i]);
+        writeDouble(values[i][record]);
+        write(columnSuffixes[i]);
+      }
+      endRecord();
+    }
+    return this;
+  }
+
+  /**
+   * Writes the buffered output and flushes the underlying writer.
+   *
+   * @throws IOException
+   *           if the output cannot be written.
+   */
+  @Override
+  public void flush() throws IOException {
+    flushBuffer();
+    out.flush();
+  }
+
+  /**
+   * Ends the current record, if any, and the JSON array of records, writes the buffered output and closes the
+   * underlying writer.
+   *
+   * @throws IOException
+   *           if the output cannot be written.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      if (cells > 0) {
+        endRecord();
+      }
+      if (syntax == Syntax.JSON) {
+        write(records == 0 ? "[]\n" : "\n]\n");
+      }
+      flushBuffer();
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Returns the slot of the specified unit in the cache, formatting the unit on a miss.
+   */
+  private int unit(Unit<?> unit) {
+    for (int slot = 0; slot < unitCount; slot++) {
+      if (units[slot] == unit) {
+        return slot;
+      }
+    }
+    for (int slot = 0; slot < unitCount; slot++) {
+      if (units[slot].equals(unit)) {
+        return slot;
+      }
+    }
+    final String text = unitFormat.format(unit);
+    final StringBuilder suffix = new StringBuilder();
+    String prefix = "";
+    try {
+      if (syntax == Syntax.JSON) {
+        prefix = "{\"value\":";
+        suffix.append(",\"unit\":");
+        appendJsonString(text, suffix);
+        suffix.append('}');
+      } else if (!AbstractUnit.ONE.equals(unit)) {
+        final boolean quoted = needsQuotes(text, delimiter);
+        prefix = quoted ? "\"" : "";
+        suffix.append(' ').append(quoted ? text.replace("\"", "\"\"") : text);
+        if (quoted) {
+          suffix.append(QUOTE);
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e); // cannot happen with a StringBuilder
+    }
+    final int slot = nextUnit;
+    units[slot] = unit;
+    prefixes[slot] = prefix;
+    suffixes[slot] = suffix.toString();
+    nextUnit = (slot + 1) % UNIT_CACHE_SIZE;
+    unitCount = Math.max(unitCount, slot + 1);
+    return slot;
+  }
+
+  private void startRecord() throws IOException {
+    if (syntax == Syntax.JSON) {
+      write(records == 0 ? "[\n[" : ",\n[");
+    }
+  }
+
+  private void startCell() throws IOException {
+    if (cells == 0) {
+      startRecord();
+    } else {
+      write(syntax == Syntax.JSON ? ',' : delimiter);
+    }
+    cells++;
+  }
+
+  private void writeNumber(Number number) throws IOException {
+    if (number instanceof Double) {
+      writeDouble(number.doubleValue());
+    } else if (number instanceof Long || number instanceof Integer || number instanceof Short
+        || number instanceof Byte) {
+      reserve(NumberWriter.MAX_LONG_CHARS);
+      position = NumberWriter.toChars(number.longValue(), buffer, position);
+    } else if (syntax == Syntax.JSON && !isFiniteJsonNumber(number)) {
+      writeDouble(number.doubleValue());
+    } else {
+      NumberWriter.append(number, sink);
+    }
+  }
+
+  /**
+   * Tells whether a number other than a {@link Double} or an integer primitive wrapper writes itself as a JSON number.
+   */
+  private static boolean isFiniteJsonNumber(Number number) {
+    if (number instanceof Float) {
+      return !((Float) number).isNaN() && !((Float) number).isInfinite();
+    }
+    return number instanceof BigDecimal || number instanceof BigInteger
+        || number instanceof RationalNumber && ((RationalNumber) number).isInteger();
+  }
+
+  private void writeDouble(double value) throws IOException {
+    if (syntax == Syntax.JSON && (Double.isNaN(value) || Double.isInfinite(value))) {
+      write("null");
+      return;
+    }
+    reserve(NumberWriter.MAX_DOUBLE_CHARS);
+    position = NumberWriter.toChars(value, buffer, position);
+  }
+
+  private void reserve(int length) throws IOException {
+    if (position + length > buffer.length) {
+      flushBuffer();
+    }
+  }
+
+  private void write(char c) throws IOException {
+    if (position == buffer.length) {
+      flushBuffer();
+    }
+    buffer[position++] = c;
+  }
+
+  private void write(CharSequence text) throws IOException {
+    final int length = text.length();
+    if (position + length > buffer.length) {
+      flushBuffer();
+      if (length > buffer.length) {
+        out.append(text);
+        return;
+      }
+    }
+    if (text instanceof String) {
+      ((String) text).getChars(0, length, buffer, position);
+      position += length;
+    } else {
+      for (int i = 0; i < length; i++) {
+        buffer[position++] = text.charAt(i);
+      }
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    if (position > 0) {
+      out.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+
+  private static boolean needsQuotes(CharSequence text, char delimiter) {
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      if (c == delimiter || c == QUOTE || c == '\n' || c == '\r') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void appendCsvText(CharSequence text, char delimiter, Appendable dest) throws IOException {
+    if (!needsQuotes(text, delimiter)) {
+      dest.append(text);
+      return;
+    }
+    dest.append(QUOTE);
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      if (c == QUOTE) {
+        dest.append(QUOTE);
+      }
+      dest.append(c);
+    }
+    dest.append(QUOTE);
+  }
+
+  private static void appendJsonString(CharSequence text, Appendable dest) throws IOException {
+    dest.append(QUOTE);
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      switch (c) {
+      case '"':
+        dest.append("\\\"");
+        break;
+      case '\\':
+        dest.append("\\\\");
+        break;
+      case '\n':
+        dest.append("\\n");
+        break;
+      case '\r':
+        dest.append("\\r");
+        break;
+      case '\t':
+        dest.append("\\t");
+        break;
+      case '\b':
+        dest.append("\\b");
+        break;
+      case '\f':
+        dest.append("\\f");
+        break;
+      default:
+        if (c < 0x20) {
+          dest.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+        } else {
+          dest.append(c);
+        }
+      }
+    }
+    dest.append(QUOTE);
+  }
+
+  /**
+   * Builder for a {@link QuantityWriter}: the syntax, the delimiter and the output.
+   */
+  public static final class Builder {
+
+    private Syntax syntax = Syntax.CSV;
+    private char delimiter = ',';
+    private UnitFormat unitFormat;
+    private Charset charset = StandardCharsets.UTF_8;
+
+    /**
+     * Sets the syntax of the output, CSV by default.
+     *
+     * @param syntax
+     *          the syntax.
+     * @return this {@code QuantityWriter.Builder}
+     * @throws NullPointerException
+     *           if {@code syntax} is {@code null}
+     */
+    public Builder setSyntax(Syntax syntax) {
+      this.syntax = Objects.requireNonNull(syntax);
+      return this;
+    }
+
+    /**
+     * Sets the delimiter between the cells of a CSV record, a comma by default.
+     *
+     * @param delimiter
+     *          the delimiter.
+     * @return this {@code QuantityWriter.Builder}
+     */
+    public Builder setDelimiter(char delimiter) {
+      this.delimiter = delimiter;
+      return this;
+    }
+
+    /**
+     * Sets the format to write units with, {@link SimpleUnitFormat#getInstance()} by default.
+     *
+     * @param unitFormat
+     *          the {@link UnitFormat}
+     * @return this {@code QuantityWriter.Builder}
+     * @throws NullPointerException
+     *           if {@code unitFormat} is {@code null}
+     */
+    public Builder setUnitFormat(UnitFormat unitFormat) {
+      this.unitFormat = Objects.requireNonNull(unitFormat);
+      return this;
+    }
+
+    /**
+     * Sets the encoding of files and streams, UTF-8 by default.
+     *
+     * @param charset
+     *          the encoding.
+     * @return this {@code QuantityWriter.Builder}
+     * @throws NullPointerException
+     *           if {@code charset} is {@code null}
+     */
+    public Builder setCharset(Charset charset) {
+      this.charset = Objects.requireNonNull(charset);
+      return this;
+    }
+
+    /**
+     * Opens a writer on the specified characters.
+     *
+     * @param writer
+     *          the output, closed with the {@link QuantityWriter}.
+     * @return the {@link QuantityWriter}
+     * @throws NullPointerException
+     *           if {@code writer} is {@code null}
+     */
+    public QuantityWriter open(Writer writer) {
+      return new QuantityWriter(this, Objects.requireNonNull(writer));
+    }
+
+    /**
+     * Opens a writer on the specified stream.
+     *
+     * @param stream
+     *          the output, closed with the {@link QuantityWriter}.
+     * @return the {@link QuantityWriter}
+     */
+    public QuantityWriter open(OutputStream stream) {
+      return open(new OutputStreamWriter(stream, charset));
+    }
+
+    /**
+     * Opens a writer on the specified file, replacing its content.
+     *
+     * @param path
+     *          the file.
+     * @return the {@link QuantityWriter}
+     * @throws IOException
+     *           if the file cannot be opened.
+     */
+    public QuantityWriter open(Path path) throws IOException {
+      return open(Files.newOutputStream(path));
+    }
+  }
+}
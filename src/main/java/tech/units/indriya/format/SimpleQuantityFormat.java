@@ -32,7 +32,6 @@ package tech.units.indriya.format;
 import static tech.units.indriya.format.CommonFormatter.parseMixedAsLeading;
 
 import java.io.IOException;
-import java.text.NumberFormat;
 import java.text.ParsePosition;
 
 import javax.measure.Quantity;
@@ -40,7 +39,9 @@ import javax.measure.Unit;
 import javax.measure.format.MeasurementParseException;
 
 import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.internal.format.NumberWriter;
 import tech.units.indriya.internal.format.RationalNumberScanner;
+import tech.units.indriya.internal.format.SharedNumberFormat;
 import tech.units.indriya.quantity.MixedQuantity;
 import tech.units.indriya.quantity.Quantities;
 
@@ -96,7 +97,10 @@ import tech.units.indriya.quantity.Quantities;
  *<li><strong><a id="radix">Mixed Radix:</a></strong>
  *     The Mixed radix marker <code>"~"</code> is followed by a character sequence acting as mixed radix delimiter. This character sequence must not contain <code>"~"</code> itself or any numeric values.<br></li>
  * </ul> 
- * @version 2.2, Jan 7, 2024
+ * <p>
+ * Instances are immutable and safe for use by multiple threads.
+ * </p>
+ * @version 2.4, October 19, 2026
  * @since 2.0
  */
 @SuppressWarnings("rawtypes")
@@ -118,9 +122,14 @@ public class SimpleQuantityFormat extends AbstractQuantityFormat {
 	 */
 	private final String pattern;
 	
-	private String delimiter;
+	private final String delimiter;
 	
-	private String mixDelimiter;
+	private final String mixDelimiter;
+
+	/**
+	 * The number format used to parse mixed quantities, following the default locale like <code>NumberFormat.getInstance()</code>.
+	 */
+	private static final SharedNumberFormat NUMBER_FORMAT = SharedNumberFormat.ofDefaultLocale();
 
 	/**
 	 *
@@ -140,6 +149,8 @@ public class SimpleQuantityFormat extends AbstractQuantityFormat {
 	 */
 	public SimpleQuantityFormat(String pattern) {
 		this.pattern = pattern;
+		String delimiter = null;
+		String mixDelimiter = null;
 		if (pattern != null && !pattern.isEmpty()) {
 		   if (pattern.contains(RADIX)) {
 		       final String singlePattern = pattern.substring(0, pattern.indexOf(RADIX));
@@ -149,6 +160,8 @@ public class SimpleQuantityFormat extends AbstractQuantityFormat {
 		       delimiter = pattern.substring(pattern.indexOf(NUM_PART)+1, pattern.indexOf(UNIT_PART));
 		   }
 		}
+		this.delimiter = delimiter;
+		this.mixDelimiter = mixDelimiter;
 	}
 
 	/**
@@ -185,7 +198,7 @@ public class SimpleQuantityFormat extends AbstractQuantityFormat {
                 throw new MeasurementException("The quantity is not a mixed quantity");
             }
         } else { */
-    		dest.append(quantity.getValue().toString());
+    		NumberWriter.append(quantity.getValue(), dest);
     		if (quantity.getUnit().equals(AbstractUnit.ONE))
     			return dest;
     		dest.append(delimiter);
@@ -197,13 +210,12 @@ public class SimpleQuantityFormat extends AbstractQuantityFormat {
 	@Override
 	public Quantity<?> parse(CharSequence csq, ParsePosition cursor) throws MeasurementParseException {
 	    
-	    final NumberFormat numberFormat = NumberFormat.getInstance();
 	    final SimpleUnitFormat simpleUnitFormat = SimpleUnitFormat.getInstance();
 	    
         if (mixDelimiter != null && !mixDelimiter.equals(delimiter)) {
-            return parseMixedAsLeading(csq.toString(), numberFormat, simpleUnitFormat, delimiter, mixDelimiter, cursor.getIndex());
+            return parseMixedAsLeading(csq.toString(), NUMBER_FORMAT.get(), simpleUnitFormat, delimiter, mixDelimiter, cursor.getIndex());
         } else if (mixDelimiter != null && mixDelimiter.equals(delimiter)) {
-            return parseMixedAsLeading(csq.toString(), numberFormat, simpleUnitFormat, delimiter, cursor.getIndex());
+            return parseMixedAsLeading(csq.toString(), NUMBER_FORMAT.get(), simpleUnitFormat, delimiter, cursor.getIndex());
         }
         
         final RationalNumberScanner scanner = new RationalNumberScanner(csq, cursor, null /*TODO should'nt this be numberFormat as well*/);
@@ -34,6 +34,7 @@ import java.text.FieldPosition;
 import java.text.ParsePosition;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -48,11 +49,22 @@ import javax.measure.format.MeasurementParseException;
 import javax.measure.format.UnitFormat;
 
 import static javax.measure.MetricPrefix.MICRO;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
 
 import tech.units.indriya.AbstractUnit;
 import tech.units.indriya.function.AddConverter;
 import tech.units.indriya.function.MultiplyConverter;
 import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.internal.format.FormatCache;
+import tech.units.indriya.internal.format.ParseCache;
+import tech.units.indriya.internal.format.StacklessParseException;
+import tech.units.indriya.internal.format.SymbolTrie;
+import tech.units.indriya.internal.spi.FlightRecording;
+import tech.units.indriya.internal.spi.Instrumentations;
+import tech.units.indriya.internal.unit.PrefixTable;
+import tech.units.indriya.spi.Instrumentation.Event;
 import tech.units.indriya.unit.AlternateUnit;
 import tech.units.indriya.unit.AnnotatedUnit;
 import tech.units.indriya.unit.BaseUnit;
@@ -77,11 +89,16 @@ import static tech.units.indriya.format.FormatConstants.MIDDLE_DOT;
  *        format.parse("ft").equals(Units.METRE.multiply(0.3048))</code>
  * </p>
  *
+ * <p>
+ * Labels and aliases are held in immutable snapshots which are replaced as a whole when a label or alias is added or removed, so parsing and
+ * formatting take no lock and see a consistent set of labels while units are registered concurrently.
+ * </p>
+ *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author Eric Russell
  * @author Andi Huber
- * @version 2.18, Jan 29, 2025
+ * @version 2.26, October 19, 2026
  * @since 1.0
  */
 public abstract class SimpleUnitFormat extends AbstractUnitFormat {
@@ -110,9 +127,16 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
     private static final DefaultFormat DEFAULT_INSTANCE = new DefaultFormat().init();
 
     /**
-     * Holds the ASCII_INSTANCE format instance.
+     * Holds the ASCII_INSTANCE format instance, created on first use.
+     */
+    private static final class AsciiInstance {
+        private static final ASCIIFormat ASCII_INSTANCE = new ASCIIFormat().init();
+    }
+
+    /**
+     * Holds the opt-in parse cache, <code>null</code> if disabled.
      */
-    private static final ASCIIFormat ASCII_INSTANCE = new ASCIIFormat().init();
+    private volatile ParseCache parseCache;
 
     /**
      * Returns the globally shared unit format instance (used by {@link AbstractUnit#parse(CharSequence) AbstractUnit.parse()} and
@@ -132,7 +156,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
     public static SimpleUnitFormat getInstance(Flavor flavor) {
         switch (flavor) {
         case ASCII:
-            return SimpleUnitFormat.ASCII_INSTANCE;
+            return AsciiInstance.ASCII_INSTANCE;
         default:
             return DEFAULT_INSTANCE;
         }
@@ -329,7 +353,79 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
      * @return the corresponding unit or <code>null</code> if the string cannot be parsed.
      */
     public final Unit<?> parseObject(String source, ParsePosition pos) throws MeasurementParseException {
-        return parseProductUnit(source, pos);
+        final Object event = FlightRecording.beginParse();
+        Unit<?> unit = null;
+        try {
+            unit = parseCached(source, pos);
+            return unit;
+        } catch (MeasurementParseException | IllegalArgumentException e) {
+            Instrumentations.increment(Event.PARSE_FAILURE);
+            throw e;
+        } finally {
+            FlightRecording.endParse(event, this, source, unit);
+        }
+    }
+
+    private Unit<?> parseCached(String source, ParsePosition pos) {
+        final ParseCache cache = parseCache;
+        if (cache == null || pos.getIndex() != 0) {
+            return parseProductUnit(source, pos);
+        }
+        final long version = FormatCache.labelsVersion();
+        final Unit<?> cached = cache.get(source, version);
+        if (cached != null) {
+            pos.setIndex(source.length());
+            return cached;
+        }
+        final Unit<?> unit = parseProductUnit(source, pos);
+        if (unit != null && pos.getIndex() == source.length()) { // Only input parsed to the end is cached.
+            cache.put(source, version, unit);
+        }
+        return unit;
+    }
+
+    /**
+     * Enables or disables the cache of parsed units for this format instance. Recurring input strings are then looked up
+     * instead of parsed again; the cache is invalidated whenever labels or aliases change.
+     *
+     * @param maxSize
+     *          the maximum number of cached input strings, <code>0</code> to disable the cache.
+     * @throws IllegalArgumentException
+     *           if <code>maxSize</code> is negative.
+     * @since 2.2.3
+     */
+    @API(status = EXPERIMENTAL)
+    public void setParseCacheSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+        parseCache = maxSize == 0 ? null : new ParseCache(maxSize);
+    }
+
+    /**
+     * Returns the number of parse requests answered from the parse cache since it was enabled.
+     *
+     * @return the number of cache hits, <code>0</code> if the cache is disabled.
+     * @see #setParseCacheSize(int)
+     * @since 2.2.3
+     */
+    @API(status = EXPERIMENTAL)
+    public long getParseCacheHits() {
+        final ParseCache cache = parseCache;
+        return cache != null ? cache.getHitCount() : 0;
+    }
+
+    /**
+     * Returns the number of parse requests not answered from the parse cache since it was enabled.
+     *
+     * @return the number of cache misses, <code>0</code> if the cache is disabled.
+     * @see #setParseCacheSize(int)
+     * @since 2.2.3
+     */
+    @API(status = EXPERIMENTAL)
+    public long getParseCacheMisses() {
+        final ParseCache cache = parseCache;
+        return cache != null ? cache.getMissCount() : 0;
     }
 
     /**
@@ -357,45 +453,57 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                 Units.HERTZ, Units.JOULE, Units.KATAL, Units.KELVIN, Units.LUMEN, Units.LUX, Units.METRE, Units.MOLE, Units.NEWTON, Units.OHM, Units.PASCAL,
                 Units.RADIAN, Units.SECOND, Units.SIEMENS, Units.SIEVERT, Units.STERADIAN, Units.TESLA, Units.VOLT, Units.WATT, Units.WEBER };
 
+        static final MetricPrefix[] METRIC_PREFIXES = MetricPrefix.values();
+
         static final String[] METRIC_PREFIX_SYMBOLS =
-                Stream.of(MetricPrefix.values())
+                Stream.of(METRIC_PREFIXES)
                 .map(Prefix::getSymbol)
                 .collect(Collectors.toList())
                 .toArray(new String[] {});
 
-        // TODO try to consolidate those
+        // converters shared with AbstractUnit.prefix(Prefix)
         static final UnitConverter[] METRIC_PREFIX_CONVERTERS =
-                Stream.of(MetricPrefix.values())
-                .map(MultiplyConverter::ofPrefix)
+                Stream.of(METRIC_PREFIXES)
+                .map(PrefixTable::converterOf)
                 .collect(Collectors.toList())
                 .toArray(new UnitConverter[] {});
 
+        static final BinaryPrefix[] BINARY_PREFIXES = BinaryPrefix.values();
+
         static final String[] BINARY_PREFIX_SYMBOLS =
-                Stream.of(BinaryPrefix.values())
+                Stream.of(BINARY_PREFIXES)
                 .map(Prefix::getSymbol)
                 .collect(Collectors.toList())
                 .toArray(new String[] {});
 
         static final UnitConverter[] BINARY_PREFIX_CONVERTERS =
-                Stream.of(BinaryPrefix.values())
-                .map(MultiplyConverter::ofPrefix)
+                Stream.of(BINARY_PREFIXES)
+                .map(PrefixTable::converterOf)
                 .collect(Collectors.toList())
                 .toArray(new UnitConverter[] {});
 
         /**
-         * Holds the unique symbols collection (base units or alternate units).
+         * Holds the prefix symbols recognized in front of prefixable symbols.
          */
-        private final Map<String, Unit<?>> symbolToUnit = new HashMap<>();
+        static final SymbolTrie<Prefix> PREFIXES = prefixTrie(MetricPrefix.MICRO.getSymbol());
 
         private static enum Token { EOF, IDENTIFIER, OPEN_PAREN, CLOSE_PAREN, EXPONENT, MULTIPLY, DIVIDE,
             PLUS, INTEGER, FLOAT };
 
+        /**
+         * Holds a symbol which takes prefixes, together with the symbol of the micro prefix used when formatting.
+         */
+        private static final class PrefixableLabel {
+            private final String symbol;
+            private final String microSymbol;
+
+            private PrefixableLabel(String symbol, String microSymbol) {
+                this.symbol = symbol;
+                this.microSymbol = microSymbol;
+            }
+        }
 
         DefaultFormat() {
-            // Hack, somehow µg is not found.
-            symbolToUnit.put(MetricPrefix.MICRO.getSymbol() + "g", MICRO(Units.GRAM));
-            symbolToUnit.put("μg", MICRO(Units.GRAM));
-            symbolToUnit.put(MU + "g", MICRO(Units.GRAM));
         }
 
         private DefaultFormat init() {
@@ -403,34 +511,13 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
             for (int i = 0; i < METRIC_UNITS.length; i++) {
                 Unit<?> si = METRIC_UNITS[i];
                 String symbol = (si instanceof BaseUnit) ? ((BaseUnit<?>) si).getSymbol() : ((AlternateUnit<?>) si).getSymbol();
-                label(si, symbol);
-                for (int j = 0; j < METRIC_PREFIX_SYMBOLS.length; j++) {
-                    Unit<?> u = si.prefix(MetricPrefix.values()[j]);
-                    label(u, METRIC_PREFIX_SYMBOLS[j] + symbol);
-                    if ( "µ".equals(METRIC_PREFIX_SYMBOLS[j]) ) {
-                        label(u, MU + symbol);
-                    }
-                } // TODO what about BINARY_PREFIX here?
+                labelWithPrefixes(si, symbol, MU);
             }
 
             // -- GRAM/KILOGRAM
 
-            label(Units.GRAM, "g");
-            for(MetricPrefix prefix : MetricPrefix.values()) {
-                switch (prefix) {
-                case KILO:
-                    label(Units.KILOGRAM, "kg");
-                    break;
-                case MICRO:
-                    label(Units.GRAM.prefix(prefix), prefix.getSymbol()+"g");
-                    break;
-                default:
-                    label(Units.GRAM.prefix(prefix), prefix.getSymbol()+"g");
-                    break;
-                }
-            }
-
-            label(MICRO(Units.GRAM), MetricPrefix.MICRO.getSymbol() + "g");
+            labelWithPrefixes(Units.GRAM, "g");
+            label(Units.KILOGRAM, "kg");
 
             // Alias in ASCIIFormat for Ohm
             aliasWithPrefixes(Units.OHM, "Ohm");
@@ -467,58 +554,130 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
             aliasWithPrefixes(Units.CUBIC_METRE, "m3");
             labelWithPrefixes(Units.LITRE, "l");
 
+            publish();
             return this;
         }
 
         /**
-         * Holds the name to unit mapping.
+         * Holds the labels and aliases of a format. A set of labels is only modified before it is published, and copied
+         * by every change afterwards.
+         */
+        static final class Labels {
+
+            /**
+             * Holds the name to unit mapping.
+             */
+            final SymbolTrie<Unit<?>> nameToUnit;
+
+            /**
+             * Holds the unit to name mapping.
+             */
+            final Map<Unit<?>, String> unitToName;
+
+            /**
+             * Holds the symbols which take a metric or binary prefix, mapped to their unit. Prefixed units are matched
+             * as a prefix from {@link DefaultFormat#prefixes()} followed by one of these symbols, rather than stored for every
+             * combination.
+             */
+            final SymbolTrie<Unit<?>> prefixableToUnit;
+
+            /**
+             * Holds the labels the prefixed forms of a unit are formatted with.
+             */
+            final Map<Unit<?>, PrefixableLabel> unitToPrefixable;
+
+            private Labels() {
+                nameToUnit = new SymbolTrie<>();
+                unitToName = new HashMap<>();
+                prefixableToUnit = new SymbolTrie<>();
+                unitToPrefixable = new HashMap<>();
+            }
+
+            private Labels(Labels other) {
+                nameToUnit = other.nameToUnit.copy();
+                unitToName = new HashMap<>(other.unitToName);
+                prefixableToUnit = other.prefixableToUnit.copy();
+                unitToPrefixable = new HashMap<>(other.unitToPrefixable);
+            }
+        }
+
+        /**
+         * Holds the current labels and aliases, replaced on every change.
+         */
+        volatile Labels labels = new Labels();
+
+        /**
+         * Whether the labels have been published. Labels added while the format is initialized are added in place, every
+         * later change copies them.
          */
-        protected final Map<String, Unit<?>> nameToUnit = new HashMap<>();
+        private boolean published;
 
         /**
-         * Holds the unit to name mapping.
+         * Holds the formatted text of recently formatted units.
          */
-        protected final Map<Unit<?>, String> unitToName = new HashMap<>();
+        private final FormatCache formatCache = new FormatCache();
 
         @Override
         public String toString() {
             return SimpleUnitFormat.class.getSimpleName();
         }
 
+        /**
+         * Applies a change to a copy of the current labels, and publishes the copy.
+         * 
+         * @param change the change
+         */
+        private synchronized void update(Consumer<Labels> change) {
+            final Labels copy = published ? new Labels(labels) : labels;
+            change.accept(copy);
+            labels = copy;
+            FormatCache.labelsChanged();
+        }
+
+        /**
+         * Ends the initialization of this format, after which changes to the labels are copied on write.
+         */
+        synchronized void publish() {
+            published = true;
+        }
+
         @Override
         public void label(Unit<?> unit, String label) {
             if (!isValidIdentifier(label))
                 throw new IllegalArgumentException("Label: " + label + " is not a valid identifier.");
-            synchronized (this) {
-                nameToUnit.put(label, unit);
-                unitToName.put(unit, label);
-            }
+            update(copy -> {
+                copy.nameToUnit.put(label, unit);
+                copy.unitToName.put(unit, label);
+            });
         }
         
     	@Override
 		public void removeLabel(Unit<?> unit) {
-			unitToName.remove(unit);
-			nameToUnit.entrySet().removeIf(e -> e.getValue().equals(unit));
+			update(copy -> {
+				copy.unitToName.remove(unit);
+				copy.nameToUnit.removeIf((name, value) -> value.equals(unit));
+			});
 		}
 
         @Override
         public void alias(Unit<?> unit, String alias) {
             if (!isValidIdentifier(alias))
                 throw new IllegalArgumentException("Alias: " + alias + " is not a valid identifier.");
-            synchronized (this) {
-                nameToUnit.put(alias, unit);
-            }
+            update(copy -> copy.nameToUnit.put(alias, unit));
         }
 
         @Override
 		public void removeAlias(Unit<?> unit, String alias) {
-			nameToUnit.remove(alias);
+			update(copy -> copy.nameToUnit.remove(alias));
 		}
         
 		@Override
 		public void removeAliases(Unit<?> unit) {
-			final String alias = unitToName.get(unit);
-			nameToUnit.entrySet().removeIf(e -> e.getValue().equals(unit) && !e.getKey().equals(alias));
+			update(copy -> {
+				final String label = copy.unitToName.get(unit);
+				final String alias = label != null ? normalize(label) : null;
+				copy.nameToUnit.removeIf((name, value) -> value.equals(unit) && !name.equals(alias));
+			});
 		}
 
         @Override
@@ -535,14 +694,35 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
          * @param label a label
          */
         private void labelWithPrefixes(Unit<?> unit, String label) {
-        	label(unit, label);
-        	// TODO try to optimize this
-            for (int i = 0; i < METRIC_PREFIX_SYMBOLS.length; i++) {
-            	label(unit.prefix(MetricPrefix.values()[i]), METRIC_PREFIX_SYMBOLS[i] + label);
-            }
-            for (int i = 0; i < BINARY_PREFIX_SYMBOLS.length; i++) {
-            	label(unit.prefix(BinaryPrefix.values()[i]), BINARY_PREFIX_SYMBOLS[i] + label);
-            }
+            labelWithPrefixes(unit, label, MetricPrefix.MICRO.getSymbol());
+        }
+
+        /**
+         * Applies {@link #label(Unit, String)} for this unit and all standard prefixes, formatting the micro prefix with
+         * the given symbol.
+         * 
+         * @param unit a unit
+         * @param label a label
+         * @param microSymbol the symbol of the micro prefix
+         */
+        void labelWithPrefixes(Unit<?> unit, String label, String microSymbol) {
+            label(unit, label);
+            prefixesWithSymbol(unit, label, microSymbol);
+        }
+
+        /**
+         * Recognizes all standard prefixes in front of the given symbol of this unit, and formats the prefixed units
+         * with it.
+         * 
+         * @param unit a unit
+         * @param symbol the symbol following the prefix
+         * @param microSymbol the symbol of the micro prefix
+         */
+        void prefixesWithSymbol(Unit<?> unit, String symbol, String microSymbol) {
+            update(copy -> {
+                copy.prefixableToUnit.put(symbol, unit);
+                copy.unitToPrefixable.put(unit, new PrefixableLabel(symbol, microSymbol));
+            });
         }
         
         /**
@@ -551,16 +731,35 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
          * @param unit a unit
          * @param alias an alias
          */
-        private void aliasWithPrefixes(Unit<?> unit, String alias) {
-        	alias(unit, alias);
-        	// TODO try to optimize this
-            for (int i = 0; i < METRIC_PREFIX_SYMBOLS.length; i++) {
-                alias(unit.prefix(MetricPrefix.values()[i]), METRIC_PREFIX_SYMBOLS[i] + alias);
+        void aliasWithPrefixes(Unit<?> unit, String alias) {
+            alias(unit, alias);
+            update(copy -> copy.prefixableToUnit.put(alias, unit));
+        }
+
+        /**
+         * Returns the prefix symbols this format recognizes in front of prefixable symbols.
+         */
+        SymbolTrie<Prefix> prefixes() {
+            return PREFIXES;
+        }
+
+        static SymbolTrie<Prefix> prefixTrie(String microSymbol) {
+            final SymbolTrie<Prefix> prefixes = new SymbolTrie<>();
+            for (MetricPrefix prefix : METRIC_PREFIXES) {
+                prefixes.put(prefix == MICRO ? microSymbol : prefix.getSymbol(), prefix);
             }
-            for (int i = 0; i < BINARY_PREFIX_SYMBOLS.length; i++) {
-            	alias(unit.prefix(BinaryPrefix.values()[i]), BINARY_PREFIX_SYMBOLS[i] + alias);
+            for (BinaryPrefix prefix : BINARY_PREFIXES) {
+                prefixes.put(prefix.getSymbol(), prefix);
             }
+            return prefixes;
+        }
 
+        private static String normalize(String symbol) {
+            final StringBuilder normalized = new StringBuilder(symbol.length());
+            for (int i = 0; i < symbol.length(); i++) {
+                normalized.append(SymbolTrie.normalize(symbol.charAt(i)));
+            }
+            return normalized.toString();
         }
 
         protected static boolean isUnitIdentifierPart(char ch) {
@@ -572,7 +771,10 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         // Returns the name for the specified unit or null if product unit.
         protected String nameFor(Unit<?> unit) {
             // Searches label database.
-            String label = unitToName.get(unit);
+            String label = labels.unitToName.get(unit);
+            if (label != null)
+                return label;
+            label = prefixedNameFor(unit);
             if (label != null)
                 return label;
             if (unit instanceof BaseUnit)
@@ -644,6 +846,30 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
             return null; // Product unit.
         }
 
+        // Returns the name for the specified unit if it is a prefixable unit with a prefix, or null.
+        String prefixedNameFor(Unit<?> unit) {
+            if (!(unit instanceof TransformedUnit)) {
+                return null;
+            }
+            final TransformedUnit<?> tfmUnit = (TransformedUnit<?>) unit;
+            final PrefixableLabel prefixable = labels.unitToPrefixable.get(tfmUnit.getParentUnit());
+            if (prefixable == null) {
+                return null;
+            }
+            final UnitConverter cvtr = tfmUnit.getConverter();
+            for (int i = 0; i < METRIC_PREFIX_CONVERTERS.length; i++) {
+                if (METRIC_PREFIX_CONVERTERS[i].equals(cvtr)) {
+                    return (METRIC_PREFIXES[i] == MICRO ? prefixable.microSymbol : METRIC_PREFIX_SYMBOLS[i]) + prefixable.symbol;
+                }
+            }
+            for (int j = 0; j < BINARY_PREFIX_CONVERTERS.length; j++) {
+                if (BINARY_PREFIX_CONVERTERS[j].equals(cvtr)) {
+                    return BINARY_PREFIX_SYMBOLS[j] + prefixable.symbol;
+                }
+            }
+            return null;
+        }
+
         // Returns the prefix for the specified unit converter.
         protected String prefixFor(UnitConverter converter) {
             for (int i = 0; i < METRIC_PREFIX_CONVERTERS.length; i++) {
@@ -661,23 +887,39 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
 
         // Returns the unit for the specified name.
         protected Unit<?> unitFor(String name) {
-            Unit<?> unit = nameToUnit.get(name);
-            if (unit != null) {
-                return unit;
-            } else {
-                unit = symbolToUnit.get(name);
+            return unitFor(name, 0, name.length());
+        }
+
+        // Returns the unit for the name spanning the specified range, or null.
+        protected Unit<?> unitFor(CharSequence csq, int start, int end) {
+            final Labels current = labels;
+            final Unit<?> unit = current.nameToUnit.get(csq, start, end);
+            return unit != null ? unit : prefixedUnitFor(current, csq, start, end);
+        }
+
+        // Returns the unit for a prefix followed by a prefixable symbol, trying the longest prefix first.
+        private Unit<?> prefixedUnitFor(Labels current, CharSequence csq, int start, int end) {
+            final SymbolTrie<Prefix> prefixes = prefixes();
+            for (int split = prefixes.longestPrefix(csq, start, end - 1); split > start; split = prefixes.longestPrefix(csq, start, split - 1)) {
+                final Unit<?> unit = current.prefixableToUnit.get(csq, split, end);
+                if (unit != null) {
+                    return unit.prefix(prefixes.get(csq, start, split));
+                }
             }
-            return unit;
+            return null;
         }
 
         // //////////////////////////
         // Parsing.
         @SuppressWarnings({ "rawtypes", "unchecked" })
         public Unit<? extends Quantity> parseSingleUnit(CharSequence csq, ParsePosition pos) throws MeasurementParseException {
-            int startIndex = pos.getIndex();
-            String name = readIdentifier(csq, pos);
-            Unit unit = unitFor(name);
-            check(unit != null, name + " not recognized", csq, startIndex);
+            final int startIndex = pos.getIndex();
+            final int endIndex = identifierEnd(csq, startIndex);
+            pos.setIndex(endIndex);
+            Unit unit = unitFor(csq, startIndex, endIndex);
+            if (unit == null) {
+                check(false, csq.subSequence(startIndex, endIndex) + " not recognized", csq, startIndex);
+            }
             return unit;
         }
 
@@ -686,9 +928,9 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         public Unit<? extends Quantity> parseProductUnit(CharSequence csq, ParsePosition pos) throws MeasurementParseException {
         	Unit result = null;
         	if (csq == null) {
-            	throw new MeasurementParseException("Cannot parse null", csq, pos.getIndex());
+            	throw new StacklessParseException("Cannot parse null", csq, pos.getIndex());
             } else {
-            	result = unitFor(csq.toString());
+            	result = unitFor(csq, 0, csq.length());
             	if (result != null)
             		return result;
             }
@@ -768,14 +1010,14 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                             result = result.shift(d);
                         }
                     } else {
-                        throw new MeasurementParseException("not a number", csq, pos.getIndex());
+                        throw new StacklessParseException("not a number", csq, pos.getIndex());
                     }
                     break;
                 case EOF:
                 case CLOSE_PAREN:
                     return result;
                 default:
-                    throw new MeasurementParseException("unexpected token " + token, csq, pos.getIndex());
+                    throw new StacklessParseException("unexpected token " + token, csq, pos.getIndex());
                 }
                 token = nextToken(csq, pos);
             }
@@ -795,7 +1037,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                     return Token.EXPONENT;
                 } else if (c == '*') {
                     if (csq.length() == pos.getIndex() + 1) {
-                        throw new MeasurementParseException("unexpected token " + Token.EOF, csq, pos.getIndex()); // return ;
+                        throw new StacklessParseException("unexpected token " + Token.EOF, csq, pos.getIndex()); // return ;
                     }
                     char c2 = csq.charAt(pos.getIndex() + 1);
                     return c2 == '*' ? Token.EXPONENT : Token.MULTIPLY;
@@ -822,7 +1064,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
 
         private static void check(boolean expr, String message, CharSequence csq, int index) throws MeasurementParseException {
             if (!expr) {
-                throw new MeasurementParseException(message + " (in " + csq + " at index " + index + ")", index);
+                throw new StacklessParseException(message + " (in " + csq + " at index " + index + ")", csq, index);
             }
         }
 
@@ -909,21 +1151,30 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
             return Double.parseDouble(csq.subSequence(start, end).toString());
         }
 
-        private static String readIdentifier(CharSequence csq, ParsePosition pos) {
+        private static int identifierEnd(CharSequence csq, int start) {
             final int length = csq.length();
-            int start = pos.getIndex();
             int i = start;
             while ((++i < length) && isUnitIdentifierPart(csq.charAt(i))) {
             }
-            pos.setIndex(i);
-            return csq.subSequence(start, i).toString();
+            return i;
         }
 
         // //////////////////////////
         // Formatting.
 
         @Override
-        public Appendable format(Unit<?> unit, Appendable appendable) throws IOException {
+        public final Appendable format(Unit<?> unit, Appendable appendable) throws IOException {
+            final long version = FormatCache.labelsVersion();
+            String text = formatCache.get(unit, version);
+            if (text == null) {
+                text = formatUnit(unit, new StringBuilder()).toString();
+                formatCache.put(unit, version, text);
+            }
+            return appendable.append(text);
+        }
+
+        // Formats the specified unit, bypassing the format cache.
+        protected Appendable formatUnit(Unit<?> unit, Appendable appendable) throws IOException {
             String name = nameFor(unit);
             if (name != null) {
                 return appendable.append(name);
@@ -941,7 +1192,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                 // is the sub-unit known under a given label?
                 if (nameFor(powerUnit) == null)
                     // apply the power to the sub-units and format those instead
-                    return format(ProductUnit.ofPow(powerUnit, productUnit.getUnitPow(0)), appendable);
+                    return formatUnit(ProductUnit.ofPow(powerUnit, productUnit.getUnitPow(0)), appendable);
             }
 
             int invNbr = 0;
@@ -1034,6 +1285,13 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
      */
     private static final class ASCIIFormat extends DefaultFormat {
 
+        private static final String ASCII_MICRO = "micro";
+
+        /**
+         * Holds the prefix symbols recognized in front of prefixable symbols, with 'micro' instead of 'µ'.
+         */
+        private static final SymbolTrie<Prefix> ASCII_PREFIXES = prefixTrie(ASCII_MICRO);
+
         private ASCIIFormat() {
             super();
         }
@@ -1046,30 +1304,13 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
                 String symbol = (si instanceof BaseUnit) ? ((BaseUnit<?>) si).getSymbol() : ((AlternateUnit<?>) si).getSymbol();
                 if (isAllAscii(symbol))
                     label(si, symbol);
-                for (int j = 0; j < METRIC_PREFIX_SYMBOLS.length; j++) {
-                    Unit<?> u = si.prefix(MetricPrefix.values()[j]);
-                    if ( "µ".equals(METRIC_PREFIX_SYMBOLS[j]) ) {
-                        label(u, "micro" + asciiSymbol(symbol));
-                    }
-                } // TODO what about BINARY_PREFIX here?
+                prefixesWithAsciiSymbol(si, asciiSymbol(symbol));
             }
 
             // -- GRAM/KILOGRAM
 
-            label(Units.GRAM, "g");
-            for(MetricPrefix prefix : MetricPrefix.values()) {
-                switch (prefix) {
-                case KILO:
-                    label(Units.KILOGRAM, "kg");
-                    break;
-                case MICRO:
-                    label(MICRO(Units.GRAM), "microg"); // instead of 'µg' -> 'microg'
-                    break;
-                default:
-                    label(Units.GRAM.prefix(prefix), prefix.getSymbol()+"g");
-                    break;
-                }
-            }
+            labelWithAsciiPrefixes(Units.GRAM, "g"); // 'microg' instead of 'µg'
+            label(Units.KILOGRAM, "kg");
 
             // ASCIIFormat for Ohm
             labelWithAsciiPrefixes(Units.OHM, "Ohm");
@@ -1087,18 +1328,13 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
             // -- LITRE
 
             label(Units.LITRE, "l");
-            for(Prefix prefix : MetricPrefix.values()) {
-                if(prefix==MICRO) {
-                    label(MICRO(Units.LITRE), "microL"); // instead of 'µL' -> 'microL'
-                } else {
-                    label(Units.LITRE.prefix(prefix), prefix.getSymbol()+"L");
-                }
-            }
+            prefixesWithAsciiSymbol(Units.LITRE, "L"); // 'microL' instead of 'µL'
             label(Units.NEWTON, "N");
             label(Units.RADIAN, "rad");
 
             label(AbstractUnit.ONE, "one");
 
+            publish();
             return this;
         }
 
@@ -1106,7 +1342,10 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         @Override
         protected String nameFor(Unit<?> unit) {
             // First search if specific ASCII_INSTANCE name should be used.
-            String name = unitToName.get(unit);
+            String name = labels.unitToName.get(unit);
+            if (name != null)
+                return name;
+            name = prefixedNameFor(unit);
             if (name != null)
                 return name;
             // Else returns default name.
@@ -1114,13 +1353,18 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         }
 
         @Override
-        protected Unit<?> unitFor(String name) {
+        protected Unit<?> unitFor(CharSequence csq, int start, int end) {
             // First search if specific ASCII_INSTANCE name.
-            Unit<?> unit = nameToUnit.get(name);
+            Unit<?> unit = super.unitFor(csq, start, end);
             if (unit != null)
                 return unit;
             // Else returns default mapping.
-            return DEFAULT_INSTANCE.unitFor(name);
+            return DEFAULT_INSTANCE.unitFor(csq, start, end);
+        }
+
+        @Override
+        SymbolTrie<Prefix> prefixes() {
+            return ASCII_PREFIXES;
         }
 
         @Override
@@ -1129,7 +1373,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
         }
 
         @Override
-        public Appendable format(Unit<?> unit, Appendable appendable) throws IOException {
+        protected Appendable formatUnit(Unit<?> unit, Appendable appendable) throws IOException {
             String name = nameFor(unit);
             if (name != null)
                 return appendable.append(name);
@@ -1178,13 +1422,7 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
          */
         private void aliasWithAsciiPrefixes(Unit<?> unit, String alias) {
         	if (isValidIdentifier(alias)) {
-	        	alias(unit, alias);
-	            for (int i = 0; i < METRIC_PREFIX_SYMBOLS.length; i++) {
-	                alias(unit.prefix(MetricPrefix.values()[i]), asciiPrefix(METRIC_PREFIX_SYMBOLS[i]) + alias);
-	            }
-	            for (int i = 0; i < BINARY_PREFIX_SYMBOLS.length; i++) {
-	            	alias(unit.prefix(BinaryPrefix.values()[i]), asciiPrefix(BINARY_PREFIX_SYMBOLS[i]) + alias);
-	            }
+	        	aliasWithPrefixes(unit, alias);
         	}
         }
         
@@ -1196,18 +1434,19 @@ public abstract class SimpleUnitFormat extends AbstractUnitFormat {
          */
         private void labelWithAsciiPrefixes(Unit<?> unit, String label) {
         	if (isValidIdentifier(label)) {
-	        	label(unit, label);
-	            for (int i = 0; i < METRIC_PREFIX_SYMBOLS.length; i++) {
-	            	label(unit.prefix(MetricPrefix.values()[i]), asciiPrefix(METRIC_PREFIX_SYMBOLS[i]) + label);
-	            }
-	            for (int i = 0; i < BINARY_PREFIX_SYMBOLS.length; i++) {
-	            	label(unit.prefix(BinaryPrefix.values()[i]), asciiPrefix(BINARY_PREFIX_SYMBOLS[i]) + label);
-	            }
+	        	labelWithPrefixes(unit, label, ASCII_MICRO);
         	}
         }
-        
-        private static String asciiPrefix(String prefix) {
-            return "µ".equals(prefix) ? "micro" : prefix;
+
+        /**
+         * Recognizes all standard prefixes in front of the given ASCII symbol of this unit, with 'micro' for the micro
+         * prefix.
+         * 
+         * @param unit a unit
+         * @param symbol an ASCII symbol
+         */
+        private void prefixesWithAsciiSymbol(Unit<?> unit, String symbol) {
+            prefixesWithSymbol(unit, symbol, ASCII_MICRO);
         }
 
         private static String asciiSymbol(String s) {
@@ -36,19 +36,20 @@ import javax.measure.UnitConverter;
 import tech.units.indriya.AbstractUnit;
 import tech.units.indriya.function.AbstractConverter;
 import tech.units.indriya.function.MultiplyConverter;
+import tech.units.indriya.internal.format.SymbolTable;
 
 import java.lang.reflect.Field;
-import java.util.Collections;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * <p>
@@ -65,29 +66,120 @@ import java.util.stream.Collectors;
  * whereas labels map in both directions. A given unit may have any number of aliases, but may have only one label.
  * </p>
  *
+ * <p>
+ * The keys of the root <code>messages</code> bundle are resolved through a table generated at build time; the public static fields of any other
+ * class a key refers to are read once, when a key first refers to it, and shared by all symbol maps.
+ * </p>
+ *
+ * <p>
+ * The mappings are held in an immutable snapshot which is replaced as a whole on every change, so lookups take no lock and always see a consistent
+ * set of mappings, even while labels or aliases are added concurrently.
+ * </p>
+ *
  * @author <a href="mailto:eric-r@northwestern.edu">Eric Russell</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.1, November 21, 2020
+ * @version 2.5, October 19, 2026
  */
 @SuppressWarnings("rawtypes")
 public final class SymbolMap {
   private static final Logger logger = Logger.getLogger(SymbolMap.class.getName());
 
-  private final Map<String, Unit<?>> symbolToUnit;
-  private final Map<Unit<?>, String> unitToSymbol;
-  private final Map<String, Object> symbolToPrefix;
-  private final Map<Object, String> prefixToSymbol;
-  private final Map<UnitConverter, Prefix> converterToPrefix;
+  /**
+   * Holds the constants the keys missing from the {@link SymbolTable} refer to, by class name and then field name.
+   */
+  private static final ConcurrentMap<String, Map<String, Object>> CONSTANTS = new ConcurrentHashMap<>();
+
+  private static final Comparator<String> LONGEST_FIRST = Comparator.comparing(String::length).reversed();
+
+  /**
+   * Holds an immutable set of mappings. A snapshot is only modified before it is published, and copied by every change afterwards.
+   */
+  private static final class Snapshot {
+    private final Map<String, Unit<?>> symbolToUnit;
+    private final Map<Unit<?>, String> unitToSymbol;
+    private final Map<String, Object> symbolToPrefix;
+    private final Map<Object, String> prefixToSymbol;
+    private final Map<UnitConverter, Prefix> converterToPrefix;
+
+    /**
+     * Holds the prefix symbols, longest first, or <code>null</code> until first needed after a change of the prefixes.
+     */
+    private volatile String[] prefixSymbols;
+
+    /**
+     * Holds the version of the mappings, incremented on every change.
+     */
+    private long version;
+
+    private Snapshot() {
+      symbolToUnit = new HashMap<>();
+      unitToSymbol = new HashMap<>();
+      symbolToPrefix = new HashMap<>();
+      prefixToSymbol = new HashMap<>();
+      converterToPrefix = new HashMap<>();
+    }
+
+    private Snapshot(Snapshot other) {
+      symbolToUnit = new HashMap<>(other.symbolToUnit);
+      unitToSymbol = new HashMap<>(other.unitToSymbol);
+      symbolToPrefix = new HashMap<>(other.symbolToPrefix);
+      prefixToSymbol = new HashMap<>(other.prefixToSymbol);
+      converterToPrefix = new HashMap<>(other.converterToPrefix);
+      prefixSymbols = other.prefixSymbols;
+      version = other.version + 1;
+    }
+
+    private void label(Unit<?> unit, String symbol) {
+      symbolToUnit.put(symbol, unit);
+      unitToSymbol.put(unit, symbol);
+    }
+
+    private void alias(Unit<?> unit, String symbol) {
+      symbolToUnit.put(symbol, unit);
+    }
+
+    private void label(Prefix prefix, String symbol) {
+      symbolToPrefix.put(symbol, prefix);
+      prefixToSymbol.put(prefix, symbol);
+      converterToPrefix.put(MultiplyConverter.ofPrefix(prefix), prefix);
+      prefixSymbols = null;
+    }
+
+    private void put(Object value, String symbol, boolean isAlias) {
+      if (value instanceof Unit<?>) {
+        if (isAlias) {
+          alias((Unit) value, symbol);
+        } else {
+          label((AbstractUnit<?>) value, symbol);
+        }
+      } else if (value instanceof Prefix) {
+        label((Prefix) value, symbol);
+      } else {
+        throw new ClassCastException("unable to cast " + value + " to Unit or Prefix");
+      }
+    }
+
+    private String[] prefixSymbols() {
+      String[] keys = prefixSymbols;
+      if (keys == null) {
+        keys = symbolToPrefix.keySet().toArray(new String[0]);
+        Arrays.sort(keys, LONGEST_FIRST);
+        prefixSymbols = keys;
+      }
+      return keys;
+    }
+  }
+
+  /**
+   * Holds the current mappings, replaced on every change.
+   */
+  private volatile Snapshot snapshot;
 
   /**
-   * Creates an empty mapping.
+   * Creates a mapping publishing the specified snapshot.
    */
-  private SymbolMap() {
-    symbolToUnit = new TreeMap<>();
-    unitToSymbol = new HashMap<>();
-    symbolToPrefix = new TreeMap<>();
-    prefixToSymbol = new HashMap<>();
-    converterToPrefix = new HashMap<>();
+  private SymbolMap(Snapshot snapshot) {
+    this.snapshot = snapshot;
   }
 
   /**
@@ -97,10 +189,19 @@ public final class SymbolMap {
    *          the resource bundle.
    */
   private SymbolMap(ResourceBundle rb) {
-    this();
+    this(snapshotOf(rb));
+  }
+
+  private static Snapshot snapshotOf(ResourceBundle rb) {
+    final Snapshot entries = new Snapshot();
     for (Enumeration<String> i = rb.getKeys(); i.hasMoreElements();) {
       String fqn = i.nextElement();
       String symbol = rb.getString(fqn);
+      final int index = SymbolTable.indexOf(fqn);
+      if (index >= 0) {
+        entries.put(SymbolTable.constant(index), symbol, SymbolTable.isAlias(index));
+        continue;
+      }
       boolean isAlias = false;
       int lastDot = fqn.lastIndexOf('.');
       String className = fqn.substring(0, lastDot);
@@ -113,24 +214,30 @@ public final class SymbolMap {
         fieldName = fqn.substring(lastDot + 1, fqn.length());
       }
       try {
-        Class<?> c = Class.forName(className);
-        Field field = c.getField(fieldName);
-        Object value = field.get(null);
-        if (value instanceof Unit<?>) {
-          if (isAlias) {
-            alias((Unit) value, symbol);
-          } else {
-            label((AbstractUnit<?>) value, symbol);
-          }
-        } else if (value instanceof Prefix) {
-          label((Prefix) value, symbol);
-        } else {
-          throw new ClassCastException("unable to cast " + value + " to Unit or Prefix");
+        Object value = CONSTANTS.computeIfAbsent(className, SymbolMap::constantsOf).get(fieldName);
+        if (value == null) {
+          throw new NoSuchFieldException(className + "." + fieldName);
         }
+        entries.put(value, symbol, isAlias);
       } catch (Exception error) {
         logger.log(Level.SEVERE, "Error", error);
       }
     }
+    return entries;
+  }
+
+  private static Map<String, Object> constantsOf(String className) {
+    final Map<String, Object> constants = new HashMap<>();
+    try {
+      for (Field field : Class.forName(className).getFields()) {
+        if (Modifier.isStatic(field.getModifiers())) {
+          constants.put(field.getName(), field.get(null));
+        }
+      }
+    } catch (Exception | LinkageError error) {
+      logger.log(Level.SEVERE, "Error", error);
+    }
+    return constants;
   }
 
   /**
@@ -143,6 +250,19 @@ public final class SymbolMap {
     return new SymbolMap(rb);
   }
 
+  /**
+   * Creates a symbol map holding the entries of the root <code>messages</code> resource bundle, without reading the bundle.
+   *
+   * @return a new symbol map.
+   */
+  static SymbolMap ofDefaults() {
+    final Snapshot entries = new Snapshot();
+    for (int i = 0; i < SymbolTable.size(); i++) {
+      entries.put(SymbolTable.constant(i), SymbolTable.symbol(i), SymbolTable.isAlias(i));
+    }
+    return new SymbolMap(entries);
+  }
+
   /**
    * Attaches a label to the specified unit. For example:<br>
    * <code> symbolMap.label(DAY.multiply(365), "year"); symbolMap.label(Units.OHM, "Ω");
@@ -153,9 +273,10 @@ public final class SymbolMap {
    * @param symbol
    *          the new symbol for the unit.
    */
-  public void label(Unit<?> unit, String symbol) {
-    symbolToUnit.put(symbol, unit);
-    unitToSymbol.put(unit, symbol);
+  public synchronized void label(Unit<?> unit, String symbol) {
+    final Snapshot entries = new Snapshot(snapshot);
+    entries.label(unit, symbol);
+    snapshot = entries;
   }
 
   /**
@@ -168,8 +289,10 @@ public final class SymbolMap {
    * @param symbol
    *          the new symbol for the unit.
    */
-  public void alias(Unit<?> unit, String symbol) {
-    symbolToUnit.put(symbol, unit);
+  public synchronized void alias(Unit<?> unit, String symbol) {
+    final Snapshot entries = new Snapshot(snapshot);
+    entries.alias(unit, symbol);
+    snapshot = entries;
   }
 
   /**
@@ -178,10 +301,19 @@ public final class SymbolMap {
    * </code>
    * 
    */
-  public void label(Prefix prefix, String symbol) {
-    symbolToPrefix.put(symbol, prefix);
-    prefixToSymbol.put(prefix, symbol);
-    converterToPrefix.put(MultiplyConverter.ofPrefix(prefix), prefix);
+  public synchronized void label(Prefix prefix, String symbol) {
+    final Snapshot entries = new Snapshot(snapshot);
+    entries.label(prefix, symbol);
+    snapshot = entries;
+  }
+
+  /**
+   * Returns the version of this mapping, which changes whenever a label or alias is added.
+   *
+   * @return the version of this mapping.
+   */
+  long getVersion() {
+    return snapshot.version;
   }
 
   /**
@@ -192,7 +324,7 @@ public final class SymbolMap {
    * @return the corresponding unit or <code>null</code> if none.
    */
   public Unit<?> getUnit(String symbol) {
-    return symbolToUnit.get(symbol);
+    return snapshot.symbolToUnit.get(symbol);
   }
 
   /**
@@ -203,7 +335,7 @@ public final class SymbolMap {
    * @return the corresponding symbol or <code>null</code> if none.
    */
   public String getSymbol(Unit<?> unit) {
-    return unitToSymbol.get(unit);
+    return snapshot.unitToSymbol.get(unit);
   }
 
   /**
@@ -214,17 +346,14 @@ public final class SymbolMap {
    * @return the corresponding prefix or <code>null</code> if none.
    */
   public Prefix getPrefix(String symbol) {
-	final List<String> list = symbolToPrefix.keySet().stream().collect(Collectors.toList());
-	final Comparator<String> comparator = Comparator.comparing(String::length);
-	Collections.sort(list, comparator.reversed());
-
-	for (String key : list) {
-	    if (symbol.startsWith(key)) {
-		return (Prefix) symbolToPrefix.get(key);
-	    }
-	}
-	return null;
+    final Snapshot entries = snapshot;
+    for (String key : entries.prefixSymbols()) {
+      if (symbol.startsWith(key)) {
+        return (Prefix) entries.symbolToPrefix.get(key);
+      }
     }
+    return null;
+  }
 
   /**
    * Returns the prefix for the specified converter.
@@ -234,7 +363,7 @@ public final class SymbolMap {
    * @return the corresponding prefix or <code>null</code> if none.
    */
   public Prefix getPrefix(UnitConverter converter) {
-    return converterToPrefix.get(converter);
+    return snapshot.converterToPrefix.get(converter);
   }
 
   /**
@@ -245,19 +374,20 @@ public final class SymbolMap {
    * @return the corresponding symbol or <code>null</code> if none.
    */
   public String getSymbol(Prefix prefix) {
-    return prefixToSymbol.get(prefix);
+    return snapshot.prefixToSymbol.get(prefix);
   }
 
 @Override
   public String toString() {
+    final Snapshot entries = snapshot;
     StringBuilder sb = new StringBuilder();
     sb.append("tech.units.indriya.format.SymbolMap: [");
-    sb.append("symbolToUnit: ").append(symbolToUnit).append(',');
-    sb.append("unitToSymbol: ").append(unitToSymbol).append(',');
-    sb.append("symbolToPrefix: ").append(symbolToPrefix).append(',');
-    sb.append("prefixToSymbol: ").append(prefixToSymbol).append(',');
-    sb.append("converterToPrefix: ").append(converterToPrefix).append(',');
-    sb.append("converterToPrefix: ").append(converterToPrefix);
+    sb.append("symbolToUnit: ").append(entries.symbolToUnit).append(',');
+    sb.append("unitToSymbol: ").append(entries.unitToSymbol).append(',');
+    sb.append("symbolToPrefix: ").append(entries.symbolToPrefix).append(',');
+    sb.append("prefixToSymbol: ").append(entries.prefixToSymbol).append(',');
+    sb.append("converterToPrefix: ").append(entries.converterToPrefix).append(',');
+    sb.append("converterToPrefix: ").append(entries.converterToPrefix);
     sb.append(" ]");
     return sb.toString();
   }
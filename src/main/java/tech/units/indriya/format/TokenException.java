@@ -39,7 +39,7 @@ import javax.measure.format.MeasurementParseException;
  * 
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 1.1, Sep 29, 2020
+ * @version 1.2, October 19, 2026
  */
 public class TokenException extends MeasurementParseException {
   /**
@@ -96,6 +96,16 @@ public class TokenException extends MeasurementParseException {
   public Token getToken() {
 	return currentToken;
   }
+
+  /**
+   * Does not record the stack trace, parse errors are reported through the message and the current token.
+   *
+   * @return this exception.
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
   
   /**
    * It uses "currentToken" and "expectedTokenSequences" to generate a parse error message and returns it. If this object has been created due to a
@@ -32,7 +32,7 @@ package tech.units.indriya.format;
 import javax.measure.MeasurementError;
 
 /** Token Manager Error. 
- * @version 2.0
+ * @version 2.1, October 19, 2026
  * @author Werner Keil
  */
 public class TokenMgrError extends MeasurementError {
@@ -148,6 +148,16 @@ public class TokenMgrError extends MeasurementError {
   public TokenMgrError(boolean EOFSeen, int errorLine, int errorColumn, String errorAfter, char curChar, int reason) {
     this(lexicalError(EOFSeen, errorLine, errorColumn, errorAfter, curChar), reason);
   }
+
+  /**
+   * Does not record the stack trace, lexical errors are reported through the message.
+   *
+   * @return this error.
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
 }
 /*
  * JavaCC - OriginalChecksum=8a6e5be586cca28053ad55584e013006 (do not edit this
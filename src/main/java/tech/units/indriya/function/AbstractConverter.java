@@ -36,6 +36,8 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 
 import javax.measure.UnitConverter;
@@ -52,7 +54,7 @@ import tech.uom.lib.common.util.UnitComparator;
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
  * @author Andi Huber
- * @version 2.1, Mai 28, 2020
+ * @version 2.2, October 19, 2026
  * @since 1.0
  */
 public abstract class AbstractConverter
@@ -77,6 +79,13 @@ public abstract class AbstractConverter
      */
     public static ConverterCompositionHandler UNIT_COMPOSITION_HANDLER = ConverterCompositionHandler.yieldingNormalForm();
 
+    /**
+     * The reduction functions passed to the {@link #UNIT_COMPOSITION_HANDLER}, constant such that handlers may
+     * recognize them by identity (e.g. to memoize compositions).
+     */
+    private static final BiPredicate<AbstractConverter, AbstractConverter> CAN_REDUCE = AbstractConverter::canReduceWith;
+    private static final BinaryOperator<AbstractConverter> DO_REDUCE = AbstractConverter::reduce;
+
     /**
      * memorization for getConversionSteps
      */
@@ -176,9 +185,7 @@ public abstract class AbstractConverter
         
         if(converter instanceof AbstractConverter) {
             final AbstractConverter other = (AbstractConverter) converter;
-            return UNIT_COMPOSITION_HANDLER.compose(this, other, 
-                    AbstractConverter::canReduceWith,
-                    AbstractConverter::reduce);
+            return UNIT_COMPOSITION_HANDLER.compose(this, other, CAN_REDUCE, DO_REDUCE);
         }
         // converter is not a sub-class of AbstractConverter, we do the best we can ...
         if(converter.isIdentity()) {
@@ -362,6 +369,11 @@ public abstract class AbstractConverter
          */
         private final UnitConverter right;
 
+        /**
+         * Memoized hash code, {@code 0} if not yet computed.
+         */
+        private transient int hashCode;
+
         /**
          * Creates a pair converter resulting from the combined transformation of the
          * specified converters.
@@ -464,7 +476,11 @@ public abstract class AbstractConverter
 
         @Override
         public int hashCode() {
-            return Objects.hash(left, right);
+            int h = hashCode;
+            if (h == 0) {
+                h = hashCode = Objects.hash(left, right); // racy single-check, the pair is immutable
+            }
+            return h;
         }
 
         public UnitConverter getLeft() {
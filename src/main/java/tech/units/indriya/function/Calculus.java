@@ -35,14 +35,13 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import tech.units.indriya.internal.spi.ServiceIndex;
 import tech.units.indriya.spi.NumberSystem;
 
 /**
@@ -50,7 +49,7 @@ import tech.units.indriya.spi.NumberSystem;
  * 
  * @author Andi Huber
  * @author Werner Keil
- * @version 1.6, June 7, 2023
+ * @version 1.7, October 19, 2026
  * @since 2.0
  */
 public final class Calculus {
@@ -71,14 +70,16 @@ public final class Calculus {
 	
     private static final String DEFAULT_NUMBER_SYSTEM = "tech.units.indriya.function.DefaultNumberSystem";
 
+    /**
+     * Holds the available number systems, loaded on first use.
+     */
+    private static volatile ServiceIndex<NumberSystem> numberSystems;
+
     /**
      * All available {@link NumberSystem NumberSystems} used for Number arithmetic.
      */
     public static List<NumberSystem> getAvailableNumberSystems() {
-        List<NumberSystem> systems = new ArrayList<>();
-        ServiceLoader<NumberSystem> loader = ServiceLoader.load(NumberSystem.class, NumberSystem.class.getClassLoader());
-        loader.forEach(systems::add);
-        return systems;
+        return new ArrayList<>(numberSystems().list());
     }
 
     /**
@@ -106,15 +107,29 @@ public final class Calculus {
      * Returns the given {@link NumberSystem} used for Number arithmetic by (class) name.
      */
     public static NumberSystem getNumberSystem(String name) {
-    	final ServiceLoader<NumberSystem> loader = ServiceLoader.load(NumberSystem.class, NumberSystem.class.getClassLoader());
-        final Iterator<NumberSystem> it = loader.iterator();
-        while (it.hasNext()) {
-            NumberSystem system = it.next();
-            if (name.equals(system.getClass().getName())) {
-                return system;
-            }
+        final NumberSystem system = numberSystems().get(name);
+        if (system == null) {
+            throw new IllegalArgumentException("NumberSystem " + name + " not found");
+        }
+        return system;
+    }
+
+    /**
+     * Discards the available {@link NumberSystem NumberSystems}, so that they are loaded again on next use. The current number system is kept.
+     *
+     * @since 2.2.3
+     */
+    public static void reloadNumberSystems() {
+        numberSystems = null;
+    }
+
+    private static ServiceIndex<NumberSystem> numberSystems() {
+        ServiceIndex<NumberSystem> systems = numberSystems;
+        if (systems == null) {
+            systems = ServiceIndex.load(NumberSystem.class, NumberSystem.class.getClassLoader());
+            numberSystems = systems;
         }
-        throw new IllegalArgumentException("NumberSystem " + name + " not found");
+        return systems;
     }
     
 	/**
@@ -0,0 +1,325 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import javax.measure.Dimension;
+import javax.measure.IncommensurableException;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.spi.SystemOfUnits;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.AbstractSystemOfUnits;
+import tech.units.indriya.internal.function.Calculator;
+
+/**
+ * <p>
+ * An immutable table of precomputed conversion factors between the linear units of a {@link SystemOfUnits}.
+ * </p>
+ * <p>
+ * Each linear unit of the system is given an integer ID. Units are grouped by {@link Dimension}, and for every group a
+ * dense matrix of factors (as {@code double} and as exact {@link Number}) is computed once, so that converting between
+ * two registered units is an array lookup plus one multiplication, without building or composing
+ * {@link UnitConverter converters}. Units that are not linear (e.g. {@code CELSIUS}) are not part of the table.
+ * </p>
+ *
+ * <pre>
+ * <code>
+ *     ConversionTable table = ConversionTable.of(Units.getInstance());
+ *     int from = table.idOf(Units.KILOMETRE_PER_HOUR);
+ *     int to = table.idOf(Units.METRE_PER_SECOND);
+ *     table.convert(from, to, values); // in place
+ * </code>
+ * </pre>
+ *
+ * @version 1.1, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = EXPERIMENTAL)
+public final class ConversionTable {
+
+	/**
+	 * The tables by system of units, weakly referencing the systems so that they can still be garbage collected.
+	 */
+	private static final Map<SystemOfUnits, ConversionTable> TABLES = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Returned by {@link #idOf(Unit)} for units which are not part of this table.
+	 */
+	public static final int NO_ID = -1;
+
+	private final long systemVersion;
+	private final Unit<?>[] units;
+	private final Map<Unit<?>, Integer> ids;
+	private final int[] group;
+	private final int[] local;
+	private final Block[] blocks;
+
+	/**
+	 * Returns the conversion table of the given system of units. Tables are computed once per system and recomputed
+	 * when units have been added to or removed from that system since.
+	 *
+	 * @param system the system of units, not {@code null}.
+	 * @return the conversion table of all linear units in {@code system}.
+	 */
+	public static ConversionTable of(SystemOfUnits system) {
+		Objects.requireNonNull(system);
+		final long version = versionOf(system);
+		final ConversionTable table = TABLES.get(system);
+		if (table != null && table.systemVersion == version) {
+			return table;
+		}
+		final ConversionTable computed = new ConversionTable(system, version);
+		TABLES.put(system, computed);
+		return computed;
+	}
+
+	/**
+	 * Returns the modification count of the units of an {@link AbstractSystemOfUnits}, otherwise the number of units
+	 * of the system.
+	 */
+	private static long versionOf(SystemOfUnits system) {
+		if (system instanceof AbstractSystemOfUnits) {
+			return ((AbstractSystemOfUnits) system).getModificationCount();
+		}
+		return system.getUnits().size();
+	}
+
+	private ConversionTable(SystemOfUnits system, long systemVersion) {
+		final Map<Dimension, List<Unit<?>>> byDimension = new LinkedHashMap<>();
+		final Map<Dimension, List<Number>> factorsByDimension = new HashMap<>();
+		this.systemVersion = systemVersion;
+		for (Unit<?> unit : system.getUnits()) {
+			final Dimension dimension = unit.getDimension();
+			if (dimension == null) {
+				continue;
+			}
+			final Number factor = factorToSystemUnit(unit, byDimension.get(dimension));
+			if (factor != null) {
+				byDimension.computeIfAbsent(dimension, d -> new ArrayList<>()).add(unit);
+				factorsByDimension.computeIfAbsent(dimension, d -> new ArrayList<>()).add(factor);
+			}
+		}
+		final List<Unit<?>> all = new ArrayList<>();
+		final List<Block> allBlocks = new ArrayList<>();
+		for (Map.Entry<Dimension, List<Unit<?>>> entry : byDimension.entrySet()) {
+			all.addAll(entry.getValue());
+			allBlocks.add(new Block(factorsByDimension.get(entry.getKey())));
+		}
+		this.units = all.toArray(new Unit<?>[0]);
+		this.blocks = allBlocks.toArray(new Block[0]);
+		this.ids = new HashMap<>(units.length * 2);
+		this.group = new int[units.length];
+		this.local = new int[units.length];
+		int id = 0;
+		for (int g = 0; g < blocks.length; g++) {
+			for (int l = 0; l < blocks[g].size; l++, id++) {
+				ids.putIfAbsent(units[id], id);
+				group[id] = g;
+				local[id] = l;
+			}
+		}
+	}
+
+	/**
+	 * Returns the ID of the given unit in this table.
+	 *
+	 * @param unit the unit.
+	 * @return the ID of {@code unit} or {@link #NO_ID} if it is not a linear unit of the underlying system.
+	 */
+	public int idOf(Unit<?> unit) {
+		final Integer id = ids.get(unit);
+		return id != null ? id : NO_ID;
+	}
+
+	/**
+	 * Returns the unit with the given ID.
+	 *
+	 * @param id the unit ID.
+	 * @return the unit with ID {@code id}.
+	 * @throws IndexOutOfBoundsException if there is no such ID.
+	 */
+	public Unit<?> unitOf(int id) {
+		return units[id];
+	}
+
+	/**
+	 * Returns the number of units in this table.
+	 *
+	 * @return the number of units, IDs range from {@code 0} to {@code size() - 1}.
+	 */
+	public int size() {
+		return units.length;
+	}
+
+	/**
+	 * Indicates whether values can be converted between the units with the given IDs.
+	 *
+	 * @param fromId the ID of the source unit.
+	 * @param toId   the ID of the target unit.
+	 * @return {@code true} if both units have the same dimension; {@code false} otherwise.
+	 */
+	public boolean isConvertible(int fromId, int toId) {
+		return group[fromId] == group[toId];
+	}
+
+	/**
+	 * Returns the factor values in unit {@code fromId} have to be multiplied with to be expressed in unit
+	 * {@code toId}.
+	 *
+	 * @param fromId the ID of the source unit.
+	 * @param toId   the ID of the target unit.
+	 * @return the conversion factor.
+	 * @throws UnconvertibleException if the units have different dimensions.
+	 */
+	public double factor(int fromId, int toId) {
+		return block(fromId, toId).factors[local[fromId] * blocks[group[fromId]].size + local[toId]];
+	}
+
+	/**
+	 * Returns the exact factor values in unit {@code fromId} have to be multiplied with to be expressed in unit
+	 * {@code toId}, e.g. a {@link RationalNumber}.
+	 *
+	 * @param fromId the ID of the source unit.
+	 * @param toId   the ID of the target unit.
+	 * @return the exact conversion factor.
+	 * @throws UnconvertibleException if the units have different dimensions.
+	 */
+	public Number exactFactor(int fromId, int toId) {
+		return block(fromId, toId).exactFactors[local[fromId] * blocks[group[fromId]].size + local[toId]];
+	}
+
+	/**
+	 * Converts a value from unit {@code fromId} to unit {@code toId}.
+	 *
+	 * @param fromId the ID of the source unit.
+	 * @param toId   the ID of the target unit.
+	 * @param value  the value in the source unit.
+	 * @return the value in the target unit.
+	 * @throws UnconvertibleException if the units have different dimensions.
+	 */
+	public double convert(int fromId, int toId, double value) {
+		return value * factor(fromId, toId);
+	}
+
+	/**
+	 * Converts the given values in place from unit {@code fromId} to unit {@code toId}.
+	 *
+	 * @param fromId the ID of the source unit.
+	 * @param toId   the ID of the target unit.
+	 * @param values the values in the source unit, overwritten by the values in the target unit.
+	 * @throws UnconvertibleException if the units have different dimensions.
+	 */
+	public void convert(int fromId, int toId, double[] values) {
+		convert(fromId, toId, values, 0, values, 0, values.length);
+	}
+
+	/**
+	 * Converts values from unit {@code fromId} to unit {@code toId}.
+	 *
+	 * @param fromId the ID of the source unit.
+	 * @param toId   the ID of the target unit.
+	 * @param source the values in the source unit.
+	 * @param srcPos the start position in {@code source}.
+	 * @param target the array receiving the values in the target unit, may be {@code source}.
+	 * @param tgtPos the start position in {@code target}.
+	 * @param length the number of values to convert.
+	 * @throws UnconvertibleException if the units have different dimensions.
+	 */
+	public void convert(int fromId, int toId, double[] source, int srcPos, double[] target, int tgtPos, int length) {
+		final double factor = factor(fromId, toId);
+		if (factor == 1d) {
+			if (source != target || srcPos != tgtPos) {
+				System.arraycopy(source, srcPos, target, tgtPos, length);
+			}
+			return;
+		}
+		for (int i = 0; i < length; i++) {
+			target[tgtPos + i] = source[srcPos + i] * factor;
+		}
+	}
+
+	private Block block(int fromId, int toId) {
+		if (group[fromId] != group[toId]) {
+			throw new UnconvertibleException(units[fromId] + " is not compatible with " + units[toId]);
+		}
+		return blocks[group[fromId]];
+	}
+
+	/**
+	 * Returns the exact factor from {@code unit} to the system unit of the first unit of its dimension, or
+	 * {@code null} if that conversion is not linear.
+	 */
+	private static Number factorToSystemUnit(Unit<?> unit, List<Unit<?>> sameDimension) {
+		try {
+			final Unit<?> reference = sameDimension != null ? sameDimension.get(0) : unit;
+			final UnitConverter toReference = unit.getConverterToAny(reference.getSystemUnit());
+			return toReference.isLinear() ? toReference.convert(RationalNumber.ONE) : null;
+		} catch (IncommensurableException | UnconvertibleException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Dense factor matrix of all units of one dimension.
+	 */
+	private static final class Block {
+		private final int size;
+		private final double[] factors;
+		private final Number[] exactFactors;
+
+		private Block(List<Number> toSystemUnit) {
+			this.size = toSystemUnit.size();
+			this.factors = new double[size * size];
+			this.exactFactors = new Number[size * size];
+			for (int from = 0; from < size; from++) {
+				for (int to = 0; to < size; to++) {
+					final Number exact = from == to ? 1
+							: Calculator.of(toSystemUnit.get(from)).divide(toSystemUnit.get(to)).peek();
+					exactFactors[from * size + to] = exact;
+					factors[from * size + to] = exact.doubleValue();
+				}
+			}
+		}
+	}
+}
@@ -37,6 +37,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.UnaryOperator;
 
+import tech.units.indriya.internal.spi.FlightRecording;
+import tech.units.indriya.internal.spi.Instrumentations;
+import tech.units.indriya.spi.Instrumentation.Event;
 import tech.units.indriya.spi.NumberSystem;
 
 /**
@@ -180,9 +183,11 @@ public class DefaultNumberSystem implements NumberSystem {
 
         final boolean reorder_args = type_y.ordinal()>type_x.ordinal();
 
-        return reorder_args
+        final Number sum = reorder_args
                 ? addWideAndNarrow(type_y, y, type_x, x)
                 : addWideAndNarrow(type_x, x, type_y, y);
+        reportWidening("add", x, y, sum);
+        return sum;
     }
 
     @Override
@@ -198,14 +203,18 @@ public class DefaultNumberSystem implements NumberSystem {
 
         final boolean reorder_args = type_y.ordinal()>type_x.ordinal();
 
-        return reorder_args
+        final Number product = reorder_args
                 ? multiplyWideAndNarrow(type_y, y, type_x, x)
                 : multiplyWideAndNarrow(type_x, x, type_y, y);
+        reportWidening("multiply", x, y, product);
+        return product;
     }
 
     @Override
     public Number divide(final Number x, final Number y) {
-        return multiply(x, reciprocal(y));
+        final Number quotient = multiply(x, reciprocal(y));
+        reportWidening("divide", x, y, quotient);
+        return quotient;
     }
 
     @Override
@@ -563,6 +572,22 @@ public class DefaultNumberSystem implements NumberSystem {
 
     // -- HELPER
 
+    /**
+     * Reports a {@link Event#NUMBER_WIDENING} if the result of an operation on built-in numbers is a {@link BigInteger},
+     * {@link BigDecimal} or {@link RationalNumber}, but neither of the operands.
+     */
+    private static void reportWidening(final String operation, final Number x, final Number y, final Number result) {
+        if ((Instrumentations.isEnabled() || FlightRecording.isAvailable())
+                && isWide(result) && !isWide(x) && !isWide(y)) {
+            Instrumentations.increment(Event.NUMBER_WIDENING);
+            FlightRecording.widening(operation, x, y, result);
+        }
+    }
+
+    private static boolean isWide(final Number number) {
+        return number instanceof BigInteger || number instanceof BigDecimal || number instanceof RationalNumber;
+    }
+
     private IllegalArgumentException unsupportedNumberValue(final Number number) {
         final String msg = String.format("Unsupported number value '%s' of type '%s' in number system '%s'",
                 "" + number,
@@ -0,0 +1,206 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.measure.Unit;
+
+import org.apiguardian.api.API;
+
+/**
+ * Bounded memo of {@link Unit units} to their formatted text, used by the unit formats.
+ * <p>
+ * Units are looked up by identity. Entries are only valid for the version of the format's labels and aliases they
+ * were formatted with (versions are expected to increase with every change) and are dropped as a whole whenever the
+ * symbol of any unit changes. Once {@link #getMaxSize() full}, the memo starts over, so that units created on the fly
+ * are not retained.
+ * </p>
+ *
+ * @version 1.1, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class FormatCache {
+
+	/**
+	 * The default maximum number of formatted units kept per format.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 1024;
+
+	private static final AtomicLong SYMBOLS_VERSION = new AtomicLong();
+
+	/**
+	 * Holds the version of the labels and aliases of {@link tech.units.indriya.format.SimpleUnitFormat}, incremented on
+	 * every change of any instance (the ASCII format falls back to the default one).
+	 */
+	private static final AtomicLong LABELS_VERSION = new AtomicLong();
+
+	private final int maxSize;
+	private volatile Entries entries = new Entries(0, 0);
+
+	/**
+	 * Creates a memo holding up to {@link #DEFAULT_MAX_SIZE} units.
+	 */
+	public FormatCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param maxSize the maximum number of formatted units, must be positive.
+	 */
+	public FormatCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Invalidates the memos of all formats, to be called whenever the symbol of a unit changes.
+	 */
+	public static void symbolsChanged() {
+		SYMBOLS_VERSION.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of times the symbol of a unit has changed.
+	 *
+	 * @return the current version of the unit symbols.
+	 */
+	public static long symbolsVersion() {
+		return SYMBOLS_VERSION.get();
+	}
+
+	/**
+	 * To be called whenever the labels or aliases of a {@link tech.units.indriya.format.SimpleUnitFormat} change.
+	 */
+	public static void labelsChanged() {
+		LABELS_VERSION.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of times the labels or aliases of a {@link tech.units.indriya.format.SimpleUnitFormat} have
+	 * changed.
+	 *
+	 * @return the current version of the labels and aliases.
+	 */
+	public static long labelsVersion() {
+		return LABELS_VERSION.get();
+	}
+
+	/**
+	 * Returns the text memoized for the given unit.
+	 *
+	 * @param unit    the unit.
+	 * @param version the current version of the labels and aliases.
+	 * @return the formatted text or {@code null} if none.
+	 */
+	public String get(Unit<?> unit, long version) {
+		final Entries current = entries(version);
+		return current != null ? current.map.get(new Key(unit)) : null;
+	}
+
+	/**
+	 * Memoizes the text of the given unit.
+	 *
+	 * @param unit    the unit.
+	 * @param version the version of the labels and aliases the unit was formatted with.
+	 * @param text    the formatted text.
+	 */
+	public void put(Unit<?> unit, long version, String text) {
+		Entries current = entries(version);
+		if (current == null) {
+			return;
+		}
+		if (current.map.size() >= maxSize) {
+			current = entries = new Entries(current.version, current.symbolsVersion);
+		}
+		current.map.put(new Key(unit), text);
+	}
+
+	/**
+	 * @return the maximum number of formatted units.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the entries for the given version or {@code null} if the version is outdated.
+	 */
+	private Entries entries(long version) {
+		final Entries current = entries;
+		final long symbolsVersion = SYMBOLS_VERSION.get();
+		if (current.version == version && current.symbolsVersion == symbolsVersion) {
+			return current;
+		}
+		if (version < current.version || symbolsVersion < current.symbolsVersion) {
+			return null;
+		}
+		return entries = new Entries(version, symbolsVersion);
+	}
+
+	private static final class Entries {
+		private final long version;
+		private final long symbolsVersion;
+		private final ConcurrentMap<Key, String> map = new ConcurrentHashMap<>();
+
+		private Entries(long version, long symbolsVersion) {
+			this.version = version;
+			this.symbolsVersion = symbolsVersion;
+		}
+	}
+
+	/**
+	 * Identity key of a unit.
+	 */
+	private static final class Key {
+		private final Unit<?> unit;
+
+		private Key(Unit<?> unit) {
+			this.unit = unit;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(unit);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key && ((Key) obj).unit == unit;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apiguardian.api.API;
+
+/**
+ * A {@link Reader} decoding a file through memory mapped regions, instead of copying its bytes into a heap buffer
+ * first.
+ * <p>
+ * The file is mapped one region at a time, so files larger than a single mapping can be read as well. A character
+ * whose bytes span the end of a region is decoded from the start of the next one. Malformed input is replaced, as
+ * {@link java.io.InputStreamReader} does.
+ * </p>
+ *
+ * @version 1.0, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class MappedFileReader extends Reader {
+
+  /** The default number of bytes mapped at once. */
+  private static final long REGION_SIZE = 1L << 26;
+
+  /** The least number of bytes mapped at once, more than any character needs. */
+  private static final long MIN_REGION_SIZE = 16;
+
+  private final FileChannel channel;
+  private final long size;
+  private final long regionSize;
+  private final CharsetDecoder decoder;
+
+  private ByteBuffer region;
+  private long regionStart;
+  private boolean flushed;
+  private final char[] pair = new char[2];
+  private char pendingLowSurrogate;
+
+  /**
+   * Opens the specified file.
+   *
+   * @param path
+   *          the file to read.
+   * @param charset
+   *          the encoding of the file.
+   * @throws IOException
+   *           if the file cannot be opened.
+   */
+  public MappedFileReader(Path path, Charset charset) throws IOException {
+    this(path, charset, REGION_SIZE);
+  }
+
+  MappedFileReader(Path path, Charset charset, long regionSize) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.size = channel.size();
+    this.regionSize = Math.max(regionSize, MIN_REGION_SIZE);
+    this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.flushed = size == 0;
+  }
+
+  @Override
+  public int read(char[] cbuf, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    int count = 0;
+    if (pendingLowSurrogate != 0) {
+      cbuf[off] = pendingLowSurrogate;
+      pendingLowSurrogate = 0;
+      count = 1;
+    }
+    if (count < len) {
+      if (len - count == 1) {
+        // a surrogate pair does not fit into a single character, so keep its second half for the next call
+        final int decoded = decode(pair, 0, 2);
+        if (decoded > 0) {
+          cbuf[off + count++] = pair[0];
+          if (decoded == 2) {
+            pendingLowSurrogate = pair[1];
+          }
+        }
+      } else {
+        count += decode(cbuf, off + count, len - count);
+      }
+    }
+    return count == 0 ? -1 : count;
+  }
+
+  private int decode(char[] cbuf, int off, int len) throws IOException {
+    final CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+    while (out.hasRemaining() && !flushed) {
+      if (region == null) {
+        if (regionStart == size) {
+          if (decoder.flush(out).isOverflow()) {
+            break;
+          }
+          flushed = true;
+          break;
+        }
+        region = channel.map(MapMode.READ_ONLY, regionStart, Math.min(regionSize, size - regionStart));
+      }
+      final CoderResult result = decoder.decode(region, out, regionStart + region.limit() == size);
+      if (result.isOverflow()) {
+        break;
+      }
+      // continue with the next region, starting at the first byte not decoded yet
+      regionStart += region.position();
+      region = null;
+    }
+    return out.position() - off;
+  }
+
+  @Override
+  public void close() throws IOException {
+    region = null;
+    channel.close();
+  }
+}
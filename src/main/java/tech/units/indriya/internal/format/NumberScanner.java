@@ -0,0 +1,502 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+
+import org.apiguardian.api.API;
+
+/**
+ * Scans numbers from a {@link CharSequence} by index, without creating intermediate strings.
+ * <p>
+ * Instances parse like the plain {@link DecimalFormat} they were created for, using its {@link DecimalFormatSymbols}
+ * (digits, decimal and grouping separators, minus sign, exponent separator, infinity and NaN) read once at creation.
+ * They return the same {@link Long} or {@link Double} values and leave the {@link ParsePosition} the same way, but are
+ * immutable and may be shared between threads.
+ * </p>
+ * <p>
+ * {@link #parseLiteral(CharSequence, int, int)} scans the locale independent literals accepted by
+ * {@link BigDecimal#BigDecimal(String)}, {@link #parseDoubleLiteral(CharSequence, int, int)} the same literals into a
+ * <code>double</code>.
+ * </p>
+ *
+ * @see RationalNumberScanner
+ * @version 1.1, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class NumberScanner {
+
+  /** The powers of ten exactly representable as a <code>double</code>. */
+  private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+      1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+  private static final long[] LONG_POWERS_OF_TEN = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+      100000000L, 1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+      1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L };
+
+  /** The number of decimal digits always fitting into a <code>long</code>. */
+  private static final int MAX_LONG_DIGITS = 18;
+
+  /** The maximum number of digits a <code>long</code> can have, see <code>java.text.DigitList</code>. */
+  private static final int MAX_COUNT = 19;
+
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+  private final char zeroDigit;
+  private final char decimalSeparator;
+  private final char groupingSeparator;
+  private final boolean groupingUsed;
+  private final String minusSign;
+  private final String exponentSeparator;
+  private final String infinity;
+  private final String nan;
+
+  private NumberScanner(DecimalFormatSymbols symbols, boolean groupingUsed) {
+    this.zeroDigit = symbols.getZeroDigit();
+    this.decimalSeparator = symbols.getDecimalSeparator();
+    this.groupingSeparator = symbols.getGroupingSeparator();
+    this.groupingUsed = groupingUsed;
+    this.minusSign = String.valueOf(symbols.getMinusSign());
+    this.exponentSeparator = symbols.getExponentSeparator();
+    this.infinity = symbols.getInfinity();
+    this.nan = symbols.getNaN();
+  }
+
+  /**
+   * Returns a scanner parsing like the specified format, if it is a plain {@link DecimalFormat}: no prefixes or suffixes
+   * besides the minus sign, no multiplier, and neither parsing integers only nor {@link BigDecimal}s.
+   *
+   * @param format
+   *          the number format.
+   * @return the scanner, or <code>null</code> if <code>format</code> needs to parse by itself.
+   */
+  public static NumberScanner of(NumberFormat format) {
+    if (!(format instanceof DecimalFormat)) {
+      return null;
+    }
+    final DecimalFormat decimalFormat = (DecimalFormat) format;
+    if (decimalFormat.getMultiplier() != 1 || decimalFormat.isParseBigDecimal() || decimalFormat.isParseIntegerOnly()
+        || !decimalFormat.getPositivePrefix().isEmpty() || !decimalFormat.getPositiveSuffix().isEmpty()
+        || !decimalFormat.getNegativeSuffix().isEmpty()) {
+      return null;
+    }
+    final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+    if (!decimalFormat.getNegativePrefix().equals(String.valueOf(symbols.getMinusSign()))) {
+      return null;
+    }
+    return new NumberScanner(symbols, decimalFormat.isGroupingUsed());
+  }
+
+  /**
+   * Parses a number from the specified position, see {@link NumberFormat#parse(String, ParsePosition)}.
+   *
+   * @param text
+   *          the text to parse.
+   * @param pos
+   *          the parse position, updated to the end of the number, or its error index set on failure.
+   * @return a {@link Long} if the number is an integer in the range of <code>long</code>, a {@link Double} otherwise, or
+   *         <code>null</code> if there is no number at the parse position.
+   */
+  public Number parse(CharSequence text, ParsePosition pos) {
+    final int start = pos.getIndex();
+    if (regionMatches(text, start, nan)) {
+      pos.setIndex(start + nan.length());
+      return Double.NaN;
+    }
+    final boolean negative = regionMatches(text, start, minusSign);
+    final int position = negative ? start + minusSign.length() : start;
+    if (regionMatches(text, position, infinity)) {
+      pos.setIndex(position + infinity.length());
+      return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    }
+    final Digits digits = new Digits();
+    if (!scan(text, position, digits, null)) {
+      pos.setErrorIndex(start);
+      return null;
+    }
+    pos.setIndex(digits.end);
+    if (digits.count > MAX_LONG_DIGITS) {
+      final StringBuilder buffer = new StringBuilder(digits.count);
+      scan(text, position, new Digits(), buffer);
+      return toNumber(negative, buffer, digits.decimalAt);
+    }
+    return toNumber(negative, digits.mantissa, digits.count, digits.decimalAt);
+  }
+
+  /**
+   * The significant digits of a number as found by {@link NumberScanner#scan}, like <code>java.text.DigitList</code>.
+   */
+  private static final class Digits {
+    /** The first {@value NumberScanner#MAX_LONG_DIGITS} significant digits. */
+    long mantissa;
+    /** The number of significant digits, including trailing zeros. */
+    int count;
+    /** The position of the decimal point relative to the first significant digit. */
+    int decimalAt;
+    /** The index after the number. */
+    int end;
+  }
+
+  /**
+   * Scans the digits of an unsigned number, the way <code>DecimalFormat.subparseNumber</code> does.
+   *
+   * @return <code>false</code> if there is no number at <code>position</code>.
+   */
+  private boolean scan(CharSequence text, int position, Digits digits, StringBuilder buffer) {
+    final int length = text.length();
+    boolean sawDecimal = false;
+    boolean sawDigit = false;
+    int exponent = 0;
+    int backup = -1;
+    for (; position < length; position++) {
+      final char ch = text.charAt(position);
+      final int digit = digit(ch);
+      if (digit == 0) {
+        backup = -1;
+        sawDigit = true;
+        if (digits.count == 0) {
+          if (!sawDecimal) {
+            continue; // leading zeros of the integer part
+          }
+          digits.decimalAt--;
+        } else {
+          append(digits, 0, buffer);
+        }
+      } else if (digit > 0) {
+        sawDigit = true;
+        append(digits, digit, buffer);
+        backup = -1;
+      } else if (ch == decimalSeparator) {
+        if (sawDecimal) {
+          break;
+        }
+        digits.decimalAt = digits.count;
+        sawDecimal = true;
+      } else if (ch == groupingSeparator && groupingUsed) {
+        if (sawDecimal) {
+          break;
+        }
+        backup = position; // grouping separators must be followed by a digit
+      } else if (regionMatches(text, position, exponentSeparator)) {
+        final Digits exponentDigits = scanExponent(text, position + exponentSeparator.length());
+        if (exponentDigits != null) {
+          position = exponentDigits.end;
+          exponent = (int) exponentDigits.mantissa;
+        }
+        break;
+      } else {
+        break;
+      }
+    }
+    if (backup != -1) {
+      position = backup;
+    }
+    if (!sawDecimal) {
+      digits.decimalAt = digits.count;
+    }
+    digits.decimalAt += exponent;
+    digits.end = position;
+    return sawDigit;
+  }
+
+  /**
+   * Scans an optionally negative integer exponent.
+   *
+   * @return the exponent as the mantissa of the result, or <code>null</code> if there is none or it does not fit into a
+   *         <code>long</code>.
+   */
+  private Digits scanExponent(CharSequence text, int position) {
+    final boolean negative = regionMatches(text, position, minusSign);
+    if (negative) {
+      position += minusSign.length();
+    }
+    final Digits digits = new Digits();
+    boolean sawDigit = false;
+    for (; position < text.length(); position++) {
+      final int digit = digit(text.charAt(position));
+      if (digit < 0) {
+        break;
+      }
+      sawDigit = true;
+      if (digit > 0 || digits.count > 0) {
+        if (digits.count == MAX_LONG_DIGITS) {
+          return null;
+        }
+        digits.mantissa = digits.mantissa * 10 + digit;
+        digits.count++;
+      }
+    }
+    if (!sawDigit) {
+      return null;
+    }
+    if (negative) {
+      digits.mantissa = -digits.mantissa;
+    }
+    digits.end = position;
+    return digits;
+  }
+
+  private int digit(char ch) {
+    final int digit = ch - zeroDigit;
+    return digit >= 0 && digit <= 9 ? digit : Character.digit(ch, 10);
+  }
+
+  private static void append(Digits digits, int digit, StringBuilder buffer) {
+    if (digits.count < MAX_LONG_DIGITS) {
+      digits.mantissa = digits.mantissa * 10 + digit;
+    }
+    digits.count++;
+    if (buffer != null) {
+      buffer.append((char) ('0' + digit));
+    }
+  }
+
+  /**
+   * Converts at most {@value #MAX_LONG_DIGITS} significant digits, using exact floating point arithmetic where
+   * possible.
+   */
+  private static Number toNumber(boolean negative, long mantissa, int count, int decimalAt) {
+    while (count > 0 && mantissa % 10 == 0) {
+      mantissa /= 10;
+      count--;
+    }
+    if (count == 0) {
+      return negative ? (Number) (-0.0d) : (Number) 0L; // negative zero is a double only
+    }
+    if (decimalAt >= count && decimalAt < MAX_COUNT) {
+      final long value = mantissa * LONG_POWERS_OF_TEN[decimalAt - count];
+      return negative ? -value : value;
+    }
+    if (decimalAt == MAX_COUNT) {
+      final BigInteger value = BigInteger.valueOf(mantissa).multiply(BigInteger.TEN.pow(decimalAt - count));
+      if (value.bitLength() < Long.SIZE) {
+        return negative ? -value.longValue() : value.longValue();
+      }
+    }
+    final int exponent = decimalAt - count;
+    if (mantissa < MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+      // both operands are exact, so the result is correctly rounded
+      final double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+      return negative ? -value : value;
+    }
+    final double value = Double.parseDouble(mantissa + "E" + exponent);
+    return negative ? -value : value;
+  }
+
+  /**
+   * Converts any number of significant digits, like <code>DecimalFormat</code> does.
+   */
+  private static Number toNumber(boolean negative, StringBuilder digits, int decimalAt) {
+    int count = digits.length();
+    while (count > 0 && digits.charAt(count - 1) == '0') {
+      count--;
+    }
+    digits.setLength(count);
+    if (count <= MAX_LONG_DIGITS) {
+      return toNumber(negative, count == 0 ? 0L : Long.parseLong(digits.toString()), count, decimalAt);
+    }
+    if (decimalAt == count && count == MAX_COUNT) {
+      BigInteger value = new BigInteger(digits.toString());
+      if (negative) {
+        value = value.negate();
+      }
+      if (value.bitLength() < Long.SIZE) {
+        return value.longValue();
+      }
+    }
+    final double value = Double.parseDouble("." + digits + "E" + decimalAt);
+    return negative ? -value : value;
+  }
+
+  /**
+   * Parses a decimal literal, as accepted by {@link BigDecimal#BigDecimal(String)}, spanning the specified range.
+   *
+   * @param text
+   *          the text to parse.
+   * @param start
+   *          the index of the first character of the literal.
+   * @param end
+   *          the index after the last character of the literal.
+   * @return the number, or <code>null</code> if the range is not a valid literal.
+   */
+  public static BigDecimal parseLiteral(CharSequence text, int start, int end) {
+    final Literal literal = new Literal();
+    switch (literal.scan(text, start, end)) {
+    case Literal.EXACT:
+      return BigDecimal.valueOf(literal.negative ? -literal.unscaled : literal.unscaled, literal.scale);
+    case Literal.INEXACT:
+      return parseLiteralExactly(text, start, end);
+    default:
+      return null;
+    }
+  }
+
+  /**
+   * Parses a decimal literal, as accepted by {@link BigDecimal#BigDecimal(String)}, spanning the specified range into
+   * the closest <code>double</code>, like {@link Double#parseDouble(String)}.
+   *
+   * @param text
+   *          the text to parse.
+   * @param start
+   *          the index of the first character of the literal.
+   * @param end
+   *          the index after the last character of the literal.
+   * @return the closest <code>double</code> value.
+   * @throws NumberFormatException
+   *           if the range is not a valid literal.
+   */
+  public static double parseDoubleLiteral(CharSequence text, int start, int end) {
+    final Literal literal = new Literal();
+    switch (literal.scan(text, start, end)) {
+    case Literal.EXACT:
+      if (literal.unscaled < MAX_EXACT_MANTISSA && literal.scale >= -22 && literal.scale <= 22) {
+        // both operands are exact, so the single rounding of the IEEE operation is the correct one
+        final double value = literal.scale >= 0 ? literal.unscaled / POWERS_OF_TEN[literal.scale]
+            : literal.unscaled * POWERS_OF_TEN[-literal.scale];
+        return literal.negative ? -value : value;
+      }
+      return Double.parseDouble(text.subSequence(start, end).toString());
+    case Literal.INEXACT:
+      final BigDecimal value = parseLiteralExactly(text, start, end);
+      if (value != null) {
+        return value.doubleValue();
+      }
+      // fall through
+    default:
+      throw new NumberFormatException("Invalid number literal '" + text.subSequence(start, end) + "'");
+    }
+  }
+
+  private static BigDecimal parseLiteralExactly(CharSequence text, int start, int end) {
+    try {
+      return new BigDecimal(text.subSequence(start, end).toString());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * The sign, unscaled value and scale of a decimal literal with at most {@value #MAX_LONG_DIGITS} significant digits.
+   */
+  private static final class Literal {
+    static final int INVALID = 0;
+    static final int EXACT = 1;
+    static final int INEXACT = 2;
+
+    boolean negative;
+    long unscaled;
+    int scale;
+
+    /**
+     * @return {@link #EXACT} if the fields hold the literal, {@link #INEXACT} if it is valid but too long for them, or
+     *         {@link #INVALID}.
+     */
+    int scan(CharSequence text, int start, int end) {
+      int position = start;
+      if (position < end && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+        negative = text.charAt(position) == '-';
+        position++;
+      }
+      int significantDigits = 0;
+      boolean sawDigit = false;
+      boolean sawPoint = false;
+      for (; position < end; position++) {
+        final char ch = text.charAt(position);
+        final int digit = Character.digit(ch, 10);
+        if (digit >= 0) {
+          sawDigit = true;
+          if (digit > 0 || significantDigits > 0) {
+            if (++significantDigits > MAX_LONG_DIGITS) {
+              return INEXACT;
+            }
+          }
+          unscaled = unscaled * 10 + digit;
+          if (sawPoint) {
+            scale++;
+          }
+        } else if (ch == '.' && !sawPoint) {
+          sawPoint = true;
+        } else {
+          break;
+        }
+      }
+      if (!sawDigit) {
+        return INVALID;
+      }
+      if (position < end) {
+        final char ch = text.charAt(position++);
+        if (ch != 'e' && ch != 'E') {
+          return INVALID;
+        }
+        boolean negativeExponent = false;
+        if (position < end && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+          negativeExponent = text.charAt(position) == '-';
+          position++;
+        }
+        if (position == end) {
+          return INVALID;
+        }
+        if (end - position > 9) {
+          return INEXACT;
+        }
+        int exponent = 0;
+        for (; position < end; position++) {
+          final int digit = Character.digit(text.charAt(position), 10);
+          if (digit < 0) {
+            return INVALID;
+          }
+          exponent = exponent * 10 + digit;
+        }
+        scale -= negativeExponent ? -exponent : exponent;
+      }
+      return EXACT;
+    }
+  }
+
+  private static boolean regionMatches(CharSequence text, int offset, String region) {
+    if (offset + region.length() > text.length()) {
+      return false;
+    }
+    for (int i = 0; i < region.length(); i++) {
+      if (text.charAt(offset + i) != region.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,538 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.function.RationalNumber;
+
+/**
+ * Writes numbers straight into an {@link Appendable}, without creating intermediate strings.
+ * <p>
+ * The static methods write numbers like {@link Number#toString()} does, except that a <code>double</code> is written
+ * with the shortest decimal that rounds to it, using the Schubfach algorithm by Raffaello Giulietti (as
+ * {@link Double#toString(double)} does since Java 19). Instances write integers like the plain {@link DecimalFormat}
+ * they were created for, using its {@link DecimalFormatSymbols} read once at creation.
+ * </p>
+ *
+ * @see NumberScanner
+ * @version 1.2, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class NumberWriter {
+
+  /** The number of significand bits of a <code>double</code>, including the hidden bit. */
+  private static final int P = 53;
+  /** The minimum binary exponent of a <code>double</code> significand. */
+  private static final int Q_MIN = -1074;
+  private static final long C_MIN = 1L << P - 1;
+  private static final long C_TINY = 3;
+  private static final int BQ_MASK = (1 << 11) - 1;
+  private static final long T_MASK = (1L << P - 1) - 1;
+  private static final long MASK_63 = (1L << 63) - 1;
+  /** The number of digits of the decimal significands produced. */
+  private static final int H = 17;
+
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  /** The maximum number of characters written for a <code>double</code>, like <code>-2.2250738585072014E-308</code>. */
+  public static final int MAX_DOUBLE_CHARS = 26;
+
+  /** The maximum number of characters written for a <code>long</code>, like <code>-9223372036854775808</code>. */
+  public static final int MAX_LONG_CHARS = 20;
+
+  /**
+   * The scratch buffer of each thread, holding the characters of a number until they are copied to the destination.
+   */
+  private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[MAX_DOUBLE_CHARS]);
+
+  private final char zeroDigit;
+  private final String minusSign;
+  private final char groupingSeparator;
+  private final int groupingSize;
+
+  private NumberWriter(DecimalFormatSymbols symbols, int groupingSize) {
+    this.zeroDigit = symbols.getZeroDigit();
+    this.minusSign = String.valueOf(symbols.getMinusSign());
+    this.groupingSeparator = symbols.getGroupingSeparator();
+    this.groupingSize = groupingSize;
+  }
+
+  /**
+   * Returns a writer formatting integers like the specified format, if it is a plain {@link DecimalFormat}: no prefixes
+   * or suffixes besides the minus sign, no multiplier, and no minimum fraction digits.
+   *
+   * @param format
+   *          the number format.
+   * @return the writer, or <code>null</code> if <code>format</code> needs to format by itself.
+   */
+  public static NumberWriter of(NumberFormat format) {
+    if (!(format instanceof DecimalFormat)) {
+      return null;
+    }
+    final DecimalFormat decimalFormat = (DecimalFormat) format;
+    if (decimalFormat.getMultiplier() != 1 || decimalFormat.getMinimumFractionDigits() != 0
+        || decimalFormat.isDecimalSeparatorAlwaysShown() || decimalFormat.getMinimumIntegerDigits() != 1
+        || decimalFormat.getMaximumIntegerDigits() < POWERS_OF_TEN.length + 1
+        || !decimalFormat.getPositivePrefix().isEmpty() || !decimalFormat.getPositiveSuffix().isEmpty()
+        || !decimalFormat.getNegativeSuffix().isEmpty()) {
+      return null;
+    }
+    final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+    if (!decimalFormat.getNegativePrefix().equals(String.valueOf(symbols.getMinusSign()))) {
+      return null;
+    }
+    return new NumberWriter(symbols, decimalFormat.isGroupingUsed() ? decimalFormat.getGroupingSize() : 0);
+  }
+
+  /**
+   * Writes the specified number like the format of this writer does, if it is an integer in the range of
+   * <code>long</code>.
+   *
+   * @param number
+   *          the number to write.
+   * @param dest
+   *          the destination.
+   * @return <code>true</code> if the number has been written, <code>false</code> if it has to be formatted otherwise.
+   * @throws IOException
+   *           if an I/O error occurs.
+   */
+  public boolean appendInteger(Number number, Appendable dest) throws IOException {
+    final long value;
+    if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte
+        || number instanceof AtomicInteger || number instanceof AtomicLong) {
+      value = number.longValue();
+    } else if (number instanceof BigInteger && ((BigInteger) number).bitLength() < Long.SIZE) {
+      value = number.longValue();
+    } else if (number instanceof Double) {
+      final double doubleValue = number.doubleValue();
+      if (doubleValue != Math.rint(doubleValue) || Math.abs(doubleValue) >= C_MIN * 2
+          || Double.doubleToRawLongBits(doubleValue) == Long.MIN_VALUE) { // negative zero
+        return false;
+      }
+      value = (long) doubleValue;
+    } else {
+      return false;
+    }
+    if (value < 0) {
+      dest.append(minusSign);
+    }
+    // digits are extracted from the negative value, to cover Long.MIN_VALUE
+    final long negative = value < 0 ? value : -value;
+    int length = 1;
+    while (length < POWERS_OF_TEN.length && negative <= -POWERS_OF_TEN[length]) {
+      length++;
+    }
+    for (int i = length - 1; i >= 0; i--) {
+      dest.append((char) (zeroDigit - (int) (negative / POWERS_OF_TEN[i] % 10)));
+      if (groupingSize > 0 && i > 0 && i % groupingSize == 0) {
+        dest.append(groupingSeparator);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Writes the specified number like {@link Number#toString()} does, except for <code>double</code>, see
+   * {@link #append(double, Appendable)}.
+   *
+   * @param number
+   *          the number to write.
+   * @param dest
+   *          the destination.
+   * @return the destination.
+   * @throws IOException
+   *           if an I/O error occurs.
+   */
+  public static Appendable append(Number number, Appendable dest) throws IOException {
+    if (number instanceof Double) {
+      return append(number.doubleValue(), dest);
+    }
+    if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+      return append(number.longValue(), dest);
+    }
+    if (number instanceof BigInteger && ((BigInteger) number).bitLength() < Long.SIZE) {
+      return append(number.longValue(), dest);
+    }
+    if (number instanceof RationalNumber && ((RationalNumber) number).isInteger()) {
+      return append(((RationalNumber) number).getDividend(), dest);
+    }
+    return dest.append(number.toString()); // BigDecimal caches its string
+  }
+
+  /**
+   * Writes the specified <code>long</code> like {@link Long#toString(long)} does.
+   *
+   * @param value
+   *          the value to write.
+   * @param dest
+   *          the destination.
+   * @return the destination.
+   * @throws IOException
+   *           if an I/O error occurs.
+   */
+  public static Appendable append(long value, Appendable dest) throws IOException {
+    if (dest instanceof StringBuilder) {
+      return ((StringBuilder) dest).append(value);
+    }
+    if (dest instanceof StringBuffer) {
+      return ((StringBuffer) dest).append(value);
+    }
+    final char[] chars = SCRATCH.get();
+    return write(chars, toChars(value, chars, 0), dest);
+  }
+
+  /**
+   * Writes the specified <code>double</code> like {@link Double#toString(double)} does, using the shortest decimal that
+   * rounds to <code>value</code>, or the one closest to it if there are several.
+   *
+   * @param value
+   *          the value to write.
+   * @param dest
+   *          the destination.
+   * @return the destination.
+   * @throws IOException
+   *           if an I/O error occurs.
+   */
+  public static Appendable append(double value, Appendable dest) throws IOException {
+    final char[] chars = SCRATCH.get();
+    return write(chars, toChars(value, chars, 0), dest);
+  }
+
+  /**
+   * Returns the number of fraction digits of the shortest decimal that rounds to the specified <code>double</code>, as
+   * written by {@link #append(double, Appendable)} in plain notation.
+   *
+   * @param value
+   *          the value.
+   * @return the number of fraction digits, <code>0</code> for integers, infinity and NaN.
+   */
+  public static int fractionDigits(double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      return 0;
+    }
+    final char[] chars = SCRATCH.get();
+    final int length = toChars(value, chars, 0);
+    int point = 0;
+    while (chars[point] != '.') {
+      point++;
+    }
+    int end = point + 1;
+    while (end < length && chars[end] != 'E') {
+      end++;
+    }
+    int digits = end - point - 1;
+    if (digits == 1 && chars[point + 1] == '0') {
+      digits = 0; // like 12.0 or 1.0E20
+    }
+    if (end < length) {
+      int exponent = 0;
+      final boolean negative = chars[end + 1] == '-';
+      for (int i = negative ? end + 2 : end + 1; i < length; i++) {
+        exponent = exponent * 10 + chars[i] - '0';
+      }
+      digits += negative ? exponent : -exponent;
+    }
+    return Math.max(digits, 0);
+  }
+
+  private static Appendable write(char[] chars, int length, Appendable dest) throws IOException {
+    if (dest instanceof StringBuilder) {
+      return ((StringBuilder) dest).append(chars, 0, length);
+    }
+    if (dest instanceof StringBuffer) {
+      return ((StringBuffer) dest).append(chars, 0, length);
+    }
+    for (int i = 0; i < length; i++) {
+      dest.append(chars[i]);
+    }
+    return dest;
+  }
+
+  // Schubfach, see R. Giulietti, "The Schubfach way to render doubles", and its implementation in the JDK
+
+  /**
+   * Writes the specified <code>long</code> into a character array, like {@link #append(long, Appendable)} does.
+   *
+   * @param value
+   *          the value to write.
+   * @param chars
+   *          the destination, with room for {@link #MAX_LONG_CHARS} characters from <code>offset</code>.
+   * @param offset
+   *          the index of the first character to write.
+   * @return the index after the last character written.
+   */
+  public static int toChars(long value, char[] chars, int offset) {
+    int length = value < 0 ? 2 : 1;
+    for (long rest = value / 10; rest != 0; rest /= 10) {
+      length++;
+    }
+    final int end = offset + length;
+    int index = end;
+    long negative = value < 0 ? value : -value;
+    do {
+      chars[--index] = (char) ('0' - (int) (negative % 10));
+      negative /= 10;
+    } while (negative != 0);
+    if (value < 0) {
+      chars[--index] = '-';
+    }
+    return end;
+  }
+
+  /**
+   * Writes the specified <code>double</code> into a character array, like {@link #append(double, Appendable)} does.
+   *
+   * @param value
+   *          the value to write.
+   * @param chars
+   *          the destination, with room for {@link #MAX_DOUBLE_CHARS} characters from <code>offset</code>.
+   * @param offset
+   *          the index of the first character to write.
+   * @return the index after the last character written.
+   */
+  public static int toChars(double value, char[] chars, int offset) {
+    final long bits = Double.doubleToRawLongBits(value);
+    final long t = bits & T_MASK;
+    final int bq = (int) (bits >>> P - 1) & BQ_MASK;
+    if (bq == BQ_MASK) {
+      return copy(t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity", chars, offset);
+    }
+    int index = offset;
+    if (bits < 0) {
+      chars[index++] = '-';
+    }
+    if (bq != 0) {
+      // normal value, mq = -q
+      final int mq = -Q_MIN + 1 - bq;
+      final long c = C_MIN | t;
+      if (0 < mq && mq < P) {
+        final long f = c >> mq;
+        if (f << mq == c) {
+          return toChars(f, 0, chars, index); // an integer
+        }
+      }
+      return toDecimal(-mq, c, 0, chars, index);
+    }
+    if (t != 0) {
+      // subnormal value
+      return t < C_TINY ? toDecimal(Q_MIN, 10 * t, -1, chars, index) : toDecimal(Q_MIN, t, 0, chars, index);
+    }
+    return copy("0.0", chars, index);
+  }
+
+  private static int toDecimal(int q, long c, int dk, char[] chars, int index) {
+    final int out = (int) c & 0x1;
+    final long cb = c << 2;
+    final long cbr = cb + 2;
+    final long cbl;
+    final int k;
+    if (c != C_MIN || q == Q_MIN) {
+      // regular spacing
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    } else {
+      // irregular spacing
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+    final int h = q + flog2pow10(-k) + 2;
+
+    // g = g1 2^63 + g0 approximates 10^-k from above
+    final long g1 = PowersOfTen.g1(k);
+    final long g0 = PowersOfTen.g0(k);
+
+    final long vb = rop(g1, g0, cb << h);
+    final long vbl = rop(g1, g0, cbl << h);
+    final long vbr = rop(g1, g0, cbr << h);
+
+    final long s = vb >> 2;
+    if (s >= 100) {
+      // prefer a decimal with one digit less, if it rounds to the value
+      final long sp10 = 10 * multiplyHigh(s, 115_292_150_460_684_698L << 4);
+      final long tp10 = sp10 + 10;
+      final boolean upin = vbl + out <= sp10 << 2;
+      final boolean wpin = (tp10 << 2) + out <= vbr;
+      if (upin != wpin) {
+        return toChars(upin ? sp10 : tp10, k + dk, chars, index);
+      }
+    }
+    final long t = s + 1;
+    final boolean uin = vbl + out <= s << 2;
+    final boolean win = (t << 2) + out <= vbr;
+    if (uin != win) {
+      return toChars(uin ? s : t, k + dk, chars, index);
+    }
+    // both round to the value, take the closest one, or the even one on a tie
+    final long cmp = vb - (s + t << 1);
+    return toChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, chars, index);
+  }
+
+  /**
+   * Computes the rounded to odd value of <code>cp g 2^-127</code>, where <code>g = g1 2^63 + g0</code>.
+   */
+  private static long rop(long g1, long g0, long cp) {
+    final long x1 = multiplyHigh(g0, cp);
+    final long y0 = g1 * cp;
+    final long y1 = multiplyHigh(g1, cp);
+    final long z = (y0 >>> 1) + x1;
+    final long vbp = y1 + (z >>> 63);
+    return vbp | (z & MASK_63) + MASK_63 >>> 63;
+  }
+
+  /**
+   * Lays out <code>f 10^e</code> like {@link Double#toString(double)} does.
+   */
+  private static int toChars(long f, int e, char[] chars, int index) {
+    while (f % 10 == 0) {
+      f /= 10;
+      e++;
+    }
+    int length = 1;
+    while (length < POWERS_OF_TEN.length && f >= POWERS_OF_TEN[length]) {
+      length++;
+    }
+    // f 10^e = 0.f 10^exponent
+    final int exponent = e + length;
+    if (0 < exponent && exponent <= 7) {
+      // plain notation, with integer digits
+      if (exponent < length) {
+        digits(f, chars, index + length + 1);
+        System.arraycopy(chars, index + 1, chars, index, exponent);
+        chars[index + exponent] = '.';
+        return index + length + 1;
+      }
+      index = digits(f, chars, index + length);
+      for (int i = length; i < exponent; i++) {
+        chars[index++] = '0';
+      }
+      chars[index++] = '.';
+      chars[index++] = '0';
+      return index;
+    }
+    if (-3 < exponent && exponent <= 0) {
+      // plain notation, without integer digits
+      chars[index++] = '0';
+      chars[index++] = '.';
+      for (int i = exponent; i < 0; i++) {
+        chars[index++] = '0';
+      }
+      return digits(f, chars, index + length);
+    }
+    // computerized scientific notation
+    index = digits(f, chars, index + length + 1);
+    chars[index - length - 1] = chars[index - length];
+    chars[index - length] = '.';
+    if (length == 1) {
+      chars[index++] = '0';
+    }
+    chars[index++] = 'E';
+    int scientificExponent = exponent - 1;
+    if (scientificExponent < 0) {
+      chars[index++] = '-';
+      scientificExponent = -scientificExponent;
+    }
+    if (scientificExponent >= 100) {
+      chars[index++] = (char) ('0' + scientificExponent / 100);
+      scientificExponent %= 100;
+      chars[index++] = (char) ('0' + scientificExponent / 10);
+    } else if (scientificExponent >= 10) {
+      chars[index++] = (char) ('0' + scientificExponent / 10);
+    }
+    chars[index++] = (char) ('0' + scientificExponent % 10);
+    return index;
+  }
+
+  /**
+   * Writes the digits of <code>f</code> from right to left, ending before <code>end</code>.
+   *
+   * @return <code>end</code>.
+   */
+  private static int digits(long f, char[] chars, int end) {
+    int index = end;
+    do {
+      chars[--index] = (char) ('0' + f % 10);
+      f /= 10;
+    } while (f != 0);
+    return end;
+  }
+
+  private static int copy(String s, char[] chars, int index) {
+    s.getChars(0, s.length(), chars, index);
+    return index + s.length();
+  }
+
+  /** Returns <code>floor(log10(2^e))</code>. */
+  static int flog10pow2(int e) {
+    return (int) (e * 661_971_961_083L >> 41);
+  }
+
+  /** Returns <code>floor(log10(3/4 2^e))</code>. */
+  static int flog10threeQuartersPow2(int e) {
+    return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+  }
+
+  /** Returns <code>floor(log2(10^e))</code>. */
+  static int flog2pow10(int e) {
+    return (int) (e * 913_124_641_741L >> 38);
+  }
+
+  /** Returns the high 64 bits of the 128 bit product, like <code>Math.multiplyHigh</code> of Java 9. */
+  private static long multiplyHigh(long x, long y) {
+    final long x1 = x >> 32;
+    final long x2 = x & 0xFFFFFFFFL;
+    final long y1 = y >> 32;
+    final long y2 = y & 0xFFFFFFFFL;
+    final long z2 = x2 * y2;
+    final long t = x1 * y2 + (z2 >>> 32);
+    long z1 = t & 0xFFFFFFFFL;
+    final long z0 = t >> 32;
+    z1 += x2 * y1;
+    return x1 * y1 + z0 + (z1 >> 32);
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.measure.Unit;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.internal.spi.Instrumentations;
+import tech.units.indriya.spi.Instrumentation.Event;
+
+/**
+ * Bounded cache from input strings to parsed {@link Unit units}, used by the unit formats.
+ * <p>
+ * Entries are only valid for the version of the format's labels and aliases they were parsed with, versions are
+ * expected to increase with every change. A lookup with a newer version starts over with an empty cache. Once {@link #getMaxSize() full}, further results are not cached.
+ * </p>
+ *
+ * @version 1.1, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class ParseCache {
+
+	private final int maxSize;
+	private volatile Entries entries = new Entries(0);
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param maxSize the maximum number of cached input strings, must be positive.
+	 */
+	public ParseCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the unit cached for the given input, counting the lookup as hit or miss.
+	 *
+	 * @param source  the input string.
+	 * @param version the current version of the labels and aliases.
+	 * @return the cached unit or {@code null} if none.
+	 */
+	public Unit<?> get(String source, long version) {
+		final Entries current = entries(version);
+		final Unit<?> unit = current != null ? current.map.get(source) : null;
+		if (unit != null) {
+			hits.increment();
+			Instrumentations.increment(Event.PARSE_CACHE_HIT);
+		} else {
+			misses.increment();
+			Instrumentations.increment(Event.PARSE_CACHE_MISS);
+		}
+		return unit;
+	}
+
+	/**
+	 * Caches the unit parsed from the given input, unless the cache is full.
+	 *
+	 * @param source  the input string.
+	 * @param version the version of the labels and aliases the unit was parsed with.
+	 * @param unit    the parsed unit.
+	 */
+	public void put(String source, long version, Unit<?> unit) {
+		final Entries current = entries(version);
+		if (current != null && current.map.size() < maxSize) {
+			current.map.putIfAbsent(source, unit);
+		}
+	}
+
+	/**
+	 * @return the maximum number of cached input strings.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the number of lookups answered from the cache.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of lookups not answered from the cache.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the entries for the given version or {@code null} if the version is outdated.
+	 */
+	private Entries entries(long version) {
+		final Entries current = entries;
+		if (current.version == version) {
+			return current;
+		}
+		if (version < current.version) {
+			return null;
+		}
+		return entries = new Entries(version);
+	}
+
+	private static final class Entries {
+		private final long version;
+		private final ConcurrentMap<String, Unit<?>> map = new ConcurrentHashMap<>();
+
+		private Entries(long version) {
+			this.version = version;
+		}
+	}
+}
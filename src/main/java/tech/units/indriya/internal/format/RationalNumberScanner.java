@@ -36,9 +36,7 @@ import java.math.BigInteger;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.text.ParsePosition;
-import java.util.Stack;
 
-import javax.measure.format.MeasurementParseException;
 
 import org.apiguardian.api.API;
 
@@ -50,6 +48,7 @@ import tech.units.indriya.internal.function.Calculator;
  * Support class for {@link SimpleQuantityFormat} and {@link RationalNumberFormat}.
  * <p>
  * In addition to decimal formats this also parses rational number format {@code 5÷3} or  {@code -5÷3}.
+ * Decimal literals without a {@link NumberFormat} are parsed by {@link NumberScanner}.
  * 
  * @author Andi Huber
  *
@@ -99,49 +98,51 @@ public class RationalNumberScanner {
 
     public Number getNumber() {
         
-        Stack<String> numberLiterals = new Stack<>();
+        // bounds of the first two number-literals, found by index without copying them
+        int literals = 0;
+        int dividendStart = 0;
+        int dividendEnd = 0;
+        int literalStart;
+        int literalEnd;
                 
         do {
-            int startDecimal = scanForStart(cursor.getIndex());
-            int endDecimal = scanForEnd(startDecimal+1);
-            
-            String numberLiteral = csq.subSequence(startDecimal, endDecimal).toString();
-            
-            numberLiterals.push(numberLiteral);
-            
+            literalStart = scanForStart(cursor.getIndex());
+            literalEnd = scanForEnd(literalStart+1);
+            if(literals++ == 0) {
+                dividendStart = literalStart;
+                dividendEnd = literalEnd;
+            }
         } while (divisionCharacterDetected);
         
-        if(numberLiterals.size()==2) {
+        if(literals==2) {
             // parsing RationalNumber
             
-            BigInteger divisor = new BigInteger(numberLiterals.pop());
-            BigInteger dividend = new BigInteger(numberLiterals.pop());
+            BigInteger divisor = new BigInteger(csq.subSequence(literalStart, literalEnd).toString());
+            BigInteger dividend = new BigInteger(csq.subSequence(dividendStart, dividendEnd).toString());
             return RationalNumber.of(dividend, divisor);
         }
 
-        if(numberLiterals.size()==1) {
+        if(literals==1) {
             // parsing decimal number
             
-            String numberLiteral = numberLiterals.pop();
-            
             if(numberFormat==null) {
-                try {
-                    Number bigDecimal = new BigDecimal(numberLiteral);
-                    return Calculator.of(bigDecimal).peek();
-                } catch (Exception e) {
-                    throw new MeasurementParseException("Failed to parse number-literal '"+numberLiteral+"'.");
+                final BigDecimal bigDecimal = NumberScanner.parseLiteral(csq, literalStart, literalEnd);
+                if (bigDecimal == null) {
+                    throw new StacklessParseException("Failed to parse number-literal '"+csq.subSequence(literalStart, literalEnd)+"'.", csq, literalStart);
                 }
+                return Calculator.of(bigDecimal).peek();
             } 
             
+            final String numberLiteral = csq.subSequence(literalStart, literalEnd).toString();
             try {
                 return numberFormat.parse(numberLiteral);
             } catch (ParseException e) {
-                throw new MeasurementParseException(e);
+                throw new StacklessParseException(e.getMessage(), csq, literalStart + e.getErrorOffset());
             }
             
         }
         
-        throw new MeasurementParseException("Unexpected number of number-literals in '" + csq + "'");
+        throw new StacklessParseException("Unexpected number of number-literals in '" + csq + "'", csq, cursor.getIndex());
         
     }
     
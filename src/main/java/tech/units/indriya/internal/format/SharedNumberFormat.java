@@ -0,0 +1,184 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.IOException;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+
+/**
+ * Immutable, thread-safe access to a {@link NumberFormat}, which itself is neither.
+ * <p>
+ * The format is copied once per thread from a private prototype, so formatting and parsing need neither locks nor
+ * per-call lookups. Settings that vary per call, like the number of fraction digits, are applied to the thread's
+ * copy before each use and never to the prototype.
+ * </p>
+ *
+ * @version 1.2, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class SharedNumberFormat {
+
+  private final NumberFormat prototype;
+  private final ThreadLocal<Copy> copies = new ThreadLocal<>();
+
+  /**
+   * The copy of a thread, with the locale it was created for and its original fraction digits settings.
+   */
+  private static final class Copy {
+    final Locale locale;
+    final NumberFormat format;
+    final NumberScanner scanner;
+    final NumberWriter writer;
+    final int minimumFractionDigits;
+    final int maximumFractionDigits;
+
+    Copy(Locale locale, NumberFormat format) {
+      this.locale = locale;
+      this.format = format;
+      this.scanner = NumberScanner.of(format);
+      this.writer = NumberWriter.of(format);
+      this.minimumFractionDigits = format.getMinimumFractionDigits();
+      this.maximumFractionDigits = format.getMaximumFractionDigits();
+    }
+
+    NumberFormat withFractionDigits(int digits) {
+      if (format.getMaximumFractionDigits() != digits) {
+        format.setMaximumFractionDigits(digits); // may lower the minimum as well
+        if (digits >= minimumFractionDigits) {
+          format.setMinimumFractionDigits(minimumFractionDigits);
+        }
+      }
+      return format;
+    }
+  }
+
+  private SharedNumberFormat(NumberFormat prototype) {
+    this.prototype = prototype;
+  }
+
+  /**
+   * Returns a shared number format behaving like the specified one. Later changes to <code>format</code> have no effect.
+   *
+   * @param format
+   *          the number format to copy.
+   * @return the shared number format.
+   */
+  public static SharedNumberFormat of(NumberFormat format) {
+    return new SharedNumberFormat((NumberFormat) Objects.requireNonNull(format).clone());
+  }
+
+  /**
+   * Returns a shared number format following the default {@link Locale.Category#FORMAT FORMAT} locale, like
+   * {@link NumberFormat#getInstance()} does.
+   *
+   * @return the shared number format.
+   */
+  public static SharedNumberFormat ofDefaultLocale() {
+    return new SharedNumberFormat(null);
+  }
+
+  /**
+   * Returns the number format of the calling thread. The returned instance must not be modified nor passed to other
+   * threads.
+   *
+   * @return the number format of the current thread.
+   */
+  public NumberFormat get() {
+    final Copy copy = copy();
+    return copy.withFractionDigits(copy.maximumFractionDigits);
+  }
+
+  private Copy copy() {
+    Copy copy = copies.get();
+    if (prototype != null) {
+      if (copy == null) {
+        copy = new Copy(null, (NumberFormat) prototype.clone());
+        copies.set(copy);
+      }
+      return copy;
+    }
+    final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+    if (copy == null || !copy.locale.equals(locale)) {
+      copy = new Copy(locale, NumberFormat.getInstance(locale));
+      copies.set(copy);
+    }
+    return copy;
+  }
+
+  /**
+   * Formats the specified number into the destination. Integers are written by a {@link NumberWriter} with the same
+   * result, if the format is a plain decimal format.
+   *
+   * @param number
+   *          the number to format.
+   * @param fractionDigits
+   *          the maximum number of fraction digits for this call, or <code>-1</code> for the setting of the format.
+   * @param dest
+   *          the destination.
+   * @return the destination.
+   * @throws IOException
+   *           if an I/O error occurs.
+   */
+  public Appendable format(Number number, int fractionDigits, Appendable dest) throws IOException {
+    final Copy copy = copy();
+    if (copy.writer != null && copy.writer.appendInteger(number, dest)) {
+      return dest;
+    }
+    final NumberFormat format = copy.withFractionDigits(fractionDigits >= 0 ? fractionDigits : copy.maximumFractionDigits);
+    if (dest instanceof StringBuffer) {
+      return format.format(number, (StringBuffer) dest, new FieldPosition(0));
+    }
+    return dest.append(format.format(number));
+  }
+
+  /**
+   * Parses a number from the specified position, see {@link NumberFormat#parse(String, ParsePosition)}. Plain decimal
+   * formats are parsed by a {@link NumberScanner} with the same result.
+   *
+   * @param source
+   *          the text to parse.
+   * @param pos
+   *          the parse position.
+   * @return the parsed number, or <code>null</code> if the text cannot be parsed.
+   */
+  public Number parse(CharSequence source, ParsePosition pos) {
+    final Copy copy = copy();
+    return copy.scanner != null ? copy.scanner.parse(source, pos) : copy.format.parse(source.toString(), pos);
+  }
+}
@@ -0,0 +1,362 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Arrays;
+
+import javax.measure.BinaryPrefix;
+import javax.measure.MetricPrefix;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * The entries of the root <code>tech.units.indriya.format.messages</code> resource bundle, with the unit and prefix
+ * constants their keys name, so the default symbol maps are built without reading the bundle or reflection.
+ * <p>
+ * Generated from <code>messages.properties</code> by <code>SymbolTableGenerator</code>, do not edit.
+ * <code>SymbolTableTest</code> fails the build when this class is out of date.
+ * </p>
+ *
+ * @version 1.0, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class SymbolTable {
+
+  /**
+   * Holds the resource bundle keys, sorted.
+   */
+  private static final String[] KEYS = {
+      "javax.measure.BinaryPrefix.EXBI",
+      "javax.measure.BinaryPrefix.GIBI",
+      "javax.measure.BinaryPrefix.KIBI",
+      "javax.measure.BinaryPrefix.MEBI",
+      "javax.measure.BinaryPrefix.PEBI",
+      "javax.measure.BinaryPrefix.TEBI",
+      "javax.measure.BinaryPrefix.YOBI",
+      "javax.measure.BinaryPrefix.ZEBI",
+      "javax.measure.MetricPrefix.ATTO",
+      "javax.measure.MetricPrefix.CENTI",
+      "javax.measure.MetricPrefix.DECA",
+      "javax.measure.MetricPrefix.DECI",
+      "javax.measure.MetricPrefix.EXA",
+      "javax.measure.MetricPrefix.FEMTO",
+      "javax.measure.MetricPrefix.GIGA",
+      "javax.measure.MetricPrefix.HECTO",
+      "javax.measure.MetricPrefix.KILO",
+      "javax.measure.MetricPrefix.MEGA",
+      "javax.measure.MetricPrefix.MICRO",
+      "javax.measure.MetricPrefix.MILLI",
+      "javax.measure.MetricPrefix.NANO",
+      "javax.measure.MetricPrefix.PETA",
+      "javax.measure.MetricPrefix.PICO",
+      "javax.measure.MetricPrefix.QUECTO",
+      "javax.measure.MetricPrefix.QUETTA",
+      "javax.measure.MetricPrefix.RONNA",
+      "javax.measure.MetricPrefix.RONTO",
+      "javax.measure.MetricPrefix.TERA",
+      "javax.measure.MetricPrefix.YOCTO",
+      "javax.measure.MetricPrefix.YOTTA",
+      "javax.measure.MetricPrefix.ZEPTO",
+      "javax.measure.MetricPrefix.ZETTA",
+      "tech.units.indriya.unit.Units.AMPERE",
+      "tech.units.indriya.unit.Units.BECQUEREL",
+      "tech.units.indriya.unit.Units.CANDELA",
+      "tech.units.indriya.unit.Units.CELSIUS",
+      "tech.units.indriya.unit.Units.CELSIUS.1",
+      "tech.units.indriya.unit.Units.CELSIUS.2",
+      "tech.units.indriya.unit.Units.COULOMB",
+      "tech.units.indriya.unit.Units.CUBIC_METRE",
+      "tech.units.indriya.unit.Units.DAY",
+      "tech.units.indriya.unit.Units.FARAD",
+      "tech.units.indriya.unit.Units.GRAM",
+      "tech.units.indriya.unit.Units.GRAY",
+      "tech.units.indriya.unit.Units.HENRY",
+      "tech.units.indriya.unit.Units.HERTZ",
+      "tech.units.indriya.unit.Units.HERTZ.2",
+      "tech.units.indriya.unit.Units.HOUR",
+      "tech.units.indriya.unit.Units.JOULE",
+      "tech.units.indriya.unit.Units.KATAL",
+      "tech.units.indriya.unit.Units.KELVIN",
+      "tech.units.indriya.unit.Units.KILOGRAM",
+      "tech.units.indriya.unit.Units.KILOGRAM.1",
+      "tech.units.indriya.unit.Units.KILOMETRE_PER_HOUR",
+      "tech.units.indriya.unit.Units.LITRE",
+      "tech.units.indriya.unit.Units.LUMEN",
+      "tech.units.indriya.unit.Units.LUX",
+      "tech.units.indriya.unit.Units.METRE",
+      "tech.units.indriya.unit.Units.MINUTE",
+      "tech.units.indriya.unit.Units.MOLE",
+      "tech.units.indriya.unit.Units.MONTH",
+      "tech.units.indriya.unit.Units.NEWTON",
+      "tech.units.indriya.unit.Units.OHM",
+      "tech.units.indriya.unit.Units.PASCAL",
+      "tech.units.indriya.unit.Units.PERCENT",
+      "tech.units.indriya.unit.Units.RADIAN",
+      "tech.units.indriya.unit.Units.SECOND",
+      "tech.units.indriya.unit.Units.SIEMENS",
+      "tech.units.indriya.unit.Units.SIEVERT",
+      "tech.units.indriya.unit.Units.STERADIAN",
+      "tech.units.indriya.unit.Units.TESLA",
+      "tech.units.indriya.unit.Units.VOLT",
+      "tech.units.indriya.unit.Units.WATT",
+      "tech.units.indriya.unit.Units.WEBER",
+      "tech.units.indriya.unit.Units.WEEK",
+      "tech.units.indriya.unit.Units.YEAR",
+      "tech.units.indriya.unit.Units.YEAR.1",
+  };
+
+  /**
+   * Holds the symbols, by key index.
+   */
+  private static final String[] SYMBOLS = {
+      "Ei",
+      "Gi",
+      "Ki",
+      "Mi",
+      "Pi",
+      "Ti",
+      "Yi",
+      "Zi",
+      "a",
+      "c",
+      "da",
+      "d",
+      "E",
+      "f",
+      "G",
+      "h",
+      "k",
+      "M",
+      "\u00B5",
+      "m",
+      "n",
+      "P",
+      "p",
+      "q",
+      "Q",
+      "R",
+      "r",
+      "T",
+      "y",
+      "Y",
+      "z",
+      "Z",
+      "A",
+      "Bq",
+      "cd",
+      "\u00B0C",
+      "\u2103",
+      "Celsius",
+      "C",
+      "\u33A5",
+      "d",
+      "F",
+      "g",
+      "Gy",
+      "H",
+      "Hz",
+      "hertz",
+      "h",
+      "J",
+      "kat",
+      "K",
+      "kg",
+      "kilogram",
+      "km/h",
+      "l",
+      "lm",
+      "lx",
+      "m",
+      "min",
+      "mol",
+      "mo",
+      "N",
+      "\u03A9",
+      "Pa",
+      "%",
+      "rad",
+      "s",
+      "S",
+      "Sv",
+      "sr",
+      "T",
+      "V",
+      "W",
+      "Wb",
+      "wk",
+      "yr",
+      "year",
+  };
+
+  /**
+   * Holds the constants named by the keys, by key index.
+   */
+  private static final Object[] CONSTANTS = {
+      BinaryPrefix.EXBI,
+      BinaryPrefix.GIBI,
+      BinaryPrefix.KIBI,
+      BinaryPrefix.MEBI,
+      BinaryPrefix.PEBI,
+      BinaryPrefix.TEBI,
+      BinaryPrefix.YOBI,
+      BinaryPrefix.ZEBI,
+      MetricPrefix.ATTO,
+      MetricPrefix.CENTI,
+      MetricPrefix.DECA,
+      MetricPrefix.DECI,
+      MetricPrefix.EXA,
+      MetricPrefix.FEMTO,
+      MetricPrefix.GIGA,
+      MetricPrefix.HECTO,
+      MetricPrefix.KILO,
+      MetricPrefix.MEGA,
+      MetricPrefix.MICRO,
+      MetricPrefix.MILLI,
+      MetricPrefix.NANO,
+      MetricPrefix.PETA,
+      MetricPrefix.PICO,
+      MetricPrefix.QUECTO,
+      MetricPrefix.QUETTA,
+      MetricPrefix.RONNA,
+      MetricPrefix.RONTO,
+      MetricPrefix.TERA,
+      MetricPrefix.YOCTO,
+      MetricPrefix.YOTTA,
+      MetricPrefix.ZEPTO,
+      MetricPrefix.ZETTA,
+      Units.AMPERE,
+      Units.BECQUEREL,
+      Units.CANDELA,
+      Units.CELSIUS,
+      Units.CELSIUS,
+      Units.CELSIUS,
+      Units.COULOMB,
+      Units.CUBIC_METRE,
+      Units.DAY,
+      Units.FARAD,
+      Units.GRAM,
+      Units.GRAY,
+      Units.HENRY,
+      Units.HERTZ,
+      Units.HERTZ,
+      Units.HOUR,
+      Units.JOULE,
+      Units.KATAL,
+      Units.KELVIN,
+      Units.KILOGRAM,
+      Units.KILOGRAM,
+      Units.KILOMETRE_PER_HOUR,
+      Units.LITRE,
+      Units.LUMEN,
+      Units.LUX,
+      Units.METRE,
+      Units.MINUTE,
+      Units.MOLE,
+      Units.MONTH,
+      Units.NEWTON,
+      Units.OHM,
+      Units.PASCAL,
+      Units.PERCENT,
+      Units.RADIAN,
+      Units.SECOND,
+      Units.SIEMENS,
+      Units.SIEVERT,
+      Units.STERADIAN,
+      Units.TESLA,
+      Units.VOLT,
+      Units.WATT,
+      Units.WEBER,
+      Units.WEEK,
+      Units.YEAR,
+      Units.YEAR,
+  };
+
+  private SymbolTable() {
+  }
+
+  /**
+   * Returns the number of entries.
+   *
+   * @return the number of entries.
+   */
+  public static int size() {
+    return KEYS.length;
+  }
+
+  /**
+   * Returns the index of the specified resource bundle key.
+   *
+   * @param key
+   *          the key.
+   * @return the index, or a negative value if the table does not hold the key.
+   */
+  public static int indexOf(String key) {
+    return Arrays.binarySearch(KEYS, key);
+  }
+
+  /**
+   * Returns the symbol of the entry at the specified index.
+   *
+   * @param index
+   *          the index.
+   * @return the symbol.
+   */
+  public static String symbol(int index) {
+    return SYMBOLS[index];
+  }
+
+  /**
+   * Returns the unit or prefix named by the key at the specified index.
+   *
+   * @param index
+   *          the index.
+   * @return the unit or prefix.
+   */
+  public static Object constant(int index) {
+    return CONSTANTS[index];
+  }
+
+  /**
+   * Returns whether the entry at the specified index is an alias, its key ending with a dot and a number.
+   *
+   * @param index
+   *          the index.
+   * @return <code>true</code> for an alias, <code>false</code> for a label.
+   */
+  public static boolean isAlias(int index) {
+    final String key = KEYS[index];
+    return Character.isDigit(key.charAt(key.lastIndexOf('.') + 1));
+  }
+}
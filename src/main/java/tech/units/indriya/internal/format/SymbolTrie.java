@@ -0,0 +1,294 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.function.BiPredicate;
+
+import org.apiguardian.api.API;
+
+/**
+ * A character trie from symbols to values, looked up by index in a {@link CharSequence} without creating strings.
+ * <p>
+ * Characters with several Unicode code points in use for units are normalized on both insertion and lookup: the Greek
+ * small letter mu (U+03BC) matches the micro sign (U+00B5), the ohm sign (U+2126) the Greek capital letter omega
+ * (U+03A9) and the Kelvin sign (U+212A) the letter K.
+ * </p>
+ * <p>
+ * Each node holds its children in a single array sorted by character, replaced as a whole on insertion, so lookups
+ * racing with an insertion see either the old or the new children.
+ * </p>
+ *
+ * @param <V>
+ *          the type of the values.
+ * @version 1.1, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class SymbolTrie<V> {
+
+  private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+  private static final class Node<V> {
+    final char key;
+    @SuppressWarnings("unchecked")
+    Node<V>[] children = (Node<V>[]) NO_CHILDREN;
+    V value;
+
+    Node(char key) {
+      this.key = key;
+    }
+
+    @SuppressWarnings("unchecked")
+    Node<V> copy() {
+      final Node<V> node = new Node<>(key);
+      node.value = value;
+      if (children.length > 0) {
+        final Node<V>[] nodes = (Node<V>[]) new Node<?>[children.length];
+        for (int i = 0; i < nodes.length; i++) {
+          nodes[i] = children[i].copy();
+        }
+        node.children = nodes;
+      }
+      return node;
+    }
+
+    Node<V> child(char c) {
+      final Node<V>[] nodes = children;
+      int low = 0;
+      int high = nodes.length - 1;
+      while (low <= high) {
+        final int middle = (low + high) >>> 1;
+        final char key = nodes[middle].key;
+        if (key < c) {
+          low = middle + 1;
+        } else if (key > c) {
+          high = middle - 1;
+        } else {
+          return nodes[middle];
+        }
+      }
+      return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    Node<V> addChild(char c) {
+      final Node<V>[] nodes = children;
+      int index = 0;
+      while (index < nodes.length && nodes[index].key < c) {
+        index++;
+      }
+      final Node<V>[] grown = (Node<V>[]) new Node<?>[nodes.length + 1];
+      System.arraycopy(nodes, 0, grown, 0, index);
+      System.arraycopy(nodes, index, grown, index + 1, nodes.length - index);
+      final Node<V> child = new Node<>(c);
+      grown[index] = child;
+      children = grown;
+      return child;
+    }
+  }
+
+  private final Node<V> root;
+  private int size;
+
+  /**
+   * Creates an empty trie.
+   */
+  public SymbolTrie() {
+    this(new Node<>('\0'), 0);
+  }
+
+  private SymbolTrie(Node<V> root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Returns the character a symbol character is stored and matched as.
+   *
+   * @param c
+   *          the character.
+   * @return the normalized character.
+   */
+  public static char normalize(char c) {
+    switch (c) {
+    case '\u03bc':
+      return '\u00b5';
+    case '\u2126':
+      return '\u03a9';
+    case '\u212a':
+      return 'K';
+    default:
+      return c;
+    }
+  }
+
+  /**
+   * Maps the specified symbol to a value.
+   *
+   * @param symbol
+   *          the symbol.
+   * @param value
+   *          the value, not <code>null</code>.
+   * @return the previous value of the symbol, or <code>null</code>.
+   */
+  public V put(CharSequence symbol, V value) {
+    Node<V> node = root;
+    for (int i = 0; i < symbol.length(); i++) {
+      final char c = normalize(symbol.charAt(i));
+      final Node<V> child = node.child(c);
+      node = child != null ? child : node.addChild(c);
+    }
+    final V previous = node.value;
+    node.value = value;
+    if (previous == null) {
+      size++;
+    }
+    return previous;
+  }
+
+  /**
+   * Returns the value of the specified symbol.
+   *
+   * @param symbol
+   *          the symbol.
+   * @return the value, or <code>null</code> if there is none.
+   */
+  public V get(CharSequence symbol) {
+    return get(symbol, 0, symbol.length());
+  }
+
+  /**
+   * Returns the value of the symbol spanning the specified range of a text.
+   *
+   * @param text
+   *          the text.
+   * @param start
+   *          the index of the first character of the symbol.
+   * @param end
+   *          the index after the last character of the symbol.
+   * @return the value, or <code>null</code> if there is none.
+   */
+  public V get(CharSequence text, int start, int end) {
+    Node<V> node = root;
+    for (int i = start; i < end && node != null; i++) {
+      node = node.child(normalize(text.charAt(i)));
+    }
+    return node != null ? node.value : null;
+  }
+
+  /**
+   * Returns the end of the longest symbol the specified range of a text starts with, in a single pass.
+   *
+   * @param text
+   *          the text.
+   * @param start
+   *          the index of the first character of the range.
+   * @param end
+   *          the index after the last character of the range.
+   * @return the index after the last character of the symbol, or <code>-1</code> if there is none.
+   */
+  public int longestPrefix(CharSequence text, int start, int end) {
+    int match = root.value != null ? start : -1;
+    Node<V> node = root;
+    for (int i = start; i < end; i++) {
+      node = node.child(normalize(text.charAt(i)));
+      if (node == null) {
+        break;
+      }
+      if (node.value != null) {
+        match = i + 1;
+      }
+    }
+    return match;
+  }
+
+  /**
+   * Removes the specified symbol.
+   *
+   * @param symbol
+   *          the symbol.
+   * @return the value of the symbol, or <code>null</code> if there was none.
+   */
+  public V remove(CharSequence symbol) {
+    Node<V> node = root;
+    for (int i = 0; i < symbol.length() && node != null; i++) {
+      node = node.child(normalize(symbol.charAt(i)));
+    }
+    if (node == null || node.value == null) {
+      return null;
+    }
+    final V previous = node.value;
+    node.value = null;
+    size--;
+    return previous;
+  }
+
+  /**
+   * Removes the symbols matching the specified filter, given the (normalized) symbol and its value.
+   *
+   * @param filter
+   *          the filter.
+   */
+  public void removeIf(BiPredicate<String, V> filter) {
+    removeIf(root, new StringBuilder(), filter);
+  }
+
+  private void removeIf(Node<V> node, StringBuilder symbol, BiPredicate<String, V> filter) {
+    if (node.value != null && filter.test(symbol.toString(), node.value)) {
+      node.value = null;
+      size--;
+    }
+    for (Node<V> child : node.children) {
+      symbol.append(child.key);
+      removeIf(child, symbol, filter);
+      symbol.setLength(symbol.length() - 1);
+    }
+  }
+
+  /**
+   * Returns a copy of this trie, sharing the values but none of the nodes, so changes to either do not affect the other.
+   *
+   * @return the copy.
+   */
+  public SymbolTrie<V> copy() {
+    return new SymbolTrie<>(root.copy(), size);
+  }
+
+  /**
+   * Returns the number of symbols.
+   *
+   * @return the number of symbols.
+   */
+  public int size() {
+    return size;
+  }
+}
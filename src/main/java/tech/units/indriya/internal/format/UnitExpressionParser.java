@@ -0,0 +1,590 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.format.SymbolMap;
+import tech.units.indriya.function.LogConverter;
+import tech.units.indriya.function.MultiplyConverter;
+
+/**
+ * Hand-written recursive-descent parser for the unit grammar documented in {@link tech.units.indriya.format.EBNFUnitFormat EBNFUnitFormat}.
+ * <p>
+ * It accepts the same language and builds the same units as the generated {@link UnitFormatParser}, but scans the
+ * {@link CharSequence} in place: tokens are kept as index ranges with at most two tokens of lookahead, numbers are
+ * read without copying the input, and only unit identifiers are extracted to be looked up in the {@link SymbolMap}.
+ * </p>
+ * <p>
+ * Errors are reported as {@link StacklessParseException} holding the index of the offending token, which
+ * {@link #getErrorIndex()} also returns afterwards; characters not allowed by the grammar raise a
+ * {@link LexicalException}. Instances are not thread-safe and parse a single input.
+ * </p>
+ *
+ * @version 1.0, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class UnitExpressionParser implements UnitTokenConstants {
+
+  private final SymbolMap symbols;
+  private final CharSequence csq;
+  private final int end;
+
+  /** Index of the first character not yet scanned. */
+  private int pos;
+  private int errorIndex = -1;
+
+  /** Number of scanned but not yet consumed tokens (0 to 2). */
+  private int buffered;
+  private int kind0, start0, end0;
+  private int kind1, start1, end1;
+
+  /**
+   * Creates a parser for the characters of <code>csq</code> from <code>start</code> (inclusive) to <code>end</code>
+   * (exclusive).
+   *
+   * @param symbols
+   *          the symbols used to resolve unit identifiers and prefixes.
+   * @param csq
+   *          the character sequence to parse.
+   * @param start
+   *          the index of the first character to parse.
+   * @param end
+   *          the index after the last character to parse.
+   */
+  public UnitExpressionParser(SymbolMap symbols, CharSequence csq, int start, int end) {
+    this.symbols = symbols;
+    this.csq = csq;
+    this.pos = start;
+    this.end = end;
+  }
+
+  /**
+   * Parses the whole input as a unit expression.
+   *
+   * @return the unit.
+   * @throws MeasurementParseException
+   *           if the input is not a valid unit expression.
+   */
+  public Unit<?> parseUnit() throws MeasurementParseException {
+    final Unit<?> result = mixExpr();
+    expect(EOF);
+    return result;
+  }
+
+  /**
+   * Returns the index of the character where parsing failed.
+   *
+   * @return the error index or <code>-1</code> if no error occurred.
+   */
+  public int getErrorIndex() {
+    return errorIndex;
+  }
+
+  //
+  // Productions, see UnitFormat.jj
+  //
+
+  private Unit<?> mixExpr() {
+    final Unit<?> result = addExpr();
+    while (peek(0) == COLON) {
+      consume();
+    }
+    return result;
+  }
+
+  private Unit<?> addExpr() {
+    // lookahead: a leading number followed by a sign, e.g. "273.15+K"
+    boolean leadingNumber = false;
+    boolean afterE;
+    final int first = peek(0);
+    if (first == INTEGER || first == FLOATING_POINT) {
+      final int second = peek(1);
+      leadingNumber = second == PLUS || second == MINUS;
+      afterE = second == E;
+    } else {
+      afterE = first == E;
+    }
+    double n1 = 0;
+    boolean negative1 = false;
+    if (leadingNumber) {
+      n1 = numberExpr();
+      negative1 = sign();
+    }
+    Unit<?> result = mulExpr(afterE);
+    if (leadingNumber) {
+      if (negative1) {
+        result = result.multiply(-1);
+      }
+      result = result.shift(n1);
+    }
+    final int next = peek(0);
+    if (next == PLUS || next == MINUS) {
+      final boolean negative2 = sign();
+      final double offset = numberExpr();
+      result = result.shift(negative2 ? -offset : offset);
+    }
+    return result;
+  }
+
+  private Unit<?> mulExpr(boolean afterE) {
+    Unit<?> result;
+    if (afterE) {
+      // a lone "e" seen by the lookahead is read as a unit identifier (https://github.com/unitsofmeasurement/indriya/issues/430)
+      peek(0);
+      result = identifier();
+    } else {
+      result = exponentExpr();
+    }
+    while (true) {
+      switch (peek(0)) {
+        case ASTERISK:
+        case MIDDLE_DOT:
+          consume();
+          result = result.multiply(exponentExpr());
+          break;
+        case SOLIDUS:
+          consume();
+          result = result.divide(exponentExpr());
+          break;
+        default:
+          return result;
+      }
+    }
+  }
+
+  /*
+   * Note: like the generated parser, the base of "e^" and "ln" is the token kind E, not Math.E.
+   */
+  private Unit<?> exponentExpr() {
+    final int first = peek(0);
+    if ((first == INTEGER || first == E) && peek(1) == CARET) {
+      final int baseStart = start0;
+      final int baseEnd = end0;
+      consume();
+      consume();
+      final Unit<?> result = atomicExpr();
+      final double base = first == INTEGER ? intValue(baseStart, baseEnd) : E;
+      return result.transform(new LogConverter(base).inverse());
+    }
+    switch (first) {
+      case OPEN_PAREN:
+      case INTEGER:
+      case FLOATING_POINT:
+      case UNIT_IDENTIFIER:
+        Unit<?> result = atomicExpr();
+        final int next = peek(0);
+        if (next == CARET || next == SUPERSCRIPT_INTEGER) {
+          result = exp(result);
+        }
+        return result;
+      case LOG:
+      case NAT_LOG:
+        int baseStart = -1;
+        int baseEnd = -1;
+        consume();
+        if (first == LOG && peek(0) == INTEGER) {
+          baseStart = start0;
+          baseEnd = end0;
+          consume();
+        }
+        expect(OPEN_PAREN);
+        final Unit<?> argument = addExpr();
+        expect(CLOSE_PAREN);
+        final double base = baseStart >= 0 ? intValue(baseStart, baseEnd) : first == NAT_LOG ? E : 10;
+        return argument.transform(new LogConverter(base));
+      default:
+        throw unexpected();
+    }
+  }
+
+  private Unit<?> atomicExpr() {
+    switch (peek(0)) {
+      case INTEGER:
+      case FLOATING_POINT:
+        return AbstractUnit.ONE.multiply(numberExpr());
+      case UNIT_IDENTIFIER:
+        return identifier();
+      case OPEN_PAREN:
+        consume();
+        final Unit<?> result = addExpr();
+        expect(CLOSE_PAREN);
+        return result;
+      default:
+        throw unexpected();
+    }
+  }
+
+  /**
+   * Resolves the next token as unit identifier, optionally prefixed.
+   */
+  private Unit<?> identifier() {
+    final int start = start0;
+    final String image = csq.subSequence(start, end0).toString();
+    consume();
+    final Unit<?> unit = symbols.getUnit(image);
+    if (unit != null) {
+      return unit;
+    }
+    final Prefix prefix = symbols.getPrefix(image);
+    if (prefix != null) {
+      final Unit<?> prefixed = symbols.getUnit(image.substring(symbols.getSymbol(prefix).length()));
+      if (prefixed != null) {
+        return prefixed.transform(MultiplyConverter.ofPrefix(prefix));
+      }
+    }
+    errorIndex = start;
+    throw new StacklessParseException("Unknown unit '" + image + "' at index " + start, csq, start);
+  }
+
+  /**
+   * Consumes a sign token.
+   * 
+   * @return <code>true</code> for a minus sign.
+   */
+  private boolean sign() {
+    final int kind = peek(0);
+    if (kind != PLUS && kind != MINUS) {
+      throw unexpected();
+    }
+    consume();
+    return kind == MINUS;
+  }
+
+  private double numberExpr() {
+    final double value;
+    switch (peek(0)) {
+      case INTEGER:
+        value = longValue(start0, end0);
+        break;
+      case FLOATING_POINT:
+        value = Double.parseDouble(csq.subSequence(start0, end0).toString());
+        break;
+      default:
+        throw unexpected();
+    }
+    consume();
+    return value;
+  }
+
+  private Unit<?> exp(Unit<?> base) {
+    int pow;
+    int root = 1;
+    if (peek(0) == SUPERSCRIPT_INTEGER) {
+      pow = 0;
+      for (int i = start0; i < end0; i++) {
+        pow = pow * 10 + superscriptDigit(csq.charAt(i));
+      }
+      consume();
+    } else {
+      consume(); // CARET
+      switch (peek(0)) {
+        case PLUS:
+        case MINUS:
+        case INTEGER:
+          pow = signedInt();
+          break;
+        case OPEN_PAREN:
+          consume();
+          pow = signedInt();
+          if (peek(0) == SOLIDUS) {
+            consume();
+            root = signedInt();
+          }
+          expect(CLOSE_PAREN);
+          break;
+        default:
+          throw unexpected();
+      }
+    }
+    Unit<?> result = base;
+    if (pow != 1) {
+      result = result.pow(pow);
+    }
+    if (root != 1) {
+      result = result.root(root);
+    }
+    return result;
+  }
+
+  private int signedInt() {
+    final int kind = peek(0);
+    final boolean negative = (kind == PLUS || kind == MINUS) && sign();
+    if (peek(0) != INTEGER) {
+      throw unexpected();
+    }
+    final int value = intValue(start0, end0);
+    consume();
+    return negative ? -value : value;
+  }
+
+  private static int superscriptDigit(char c) {
+    switch (c) {
+      case '¹':
+        return 1;
+      case '²':
+        return 2;
+      case '³':
+        return 3;
+      case '⁰':
+        return 0;
+      default:
+        return c - '⁰';
+    }
+  }
+
+  private long longValue(int from, int to) {
+    if (to - from > 18) {
+      return Long.parseLong(csq.subSequence(from, to).toString());
+    }
+    long value = 0;
+    for (int i = from; i < to; i++) {
+      value = value * 10 + (csq.charAt(i) - '0');
+    }
+    return value;
+  }
+
+  private int intValue(int from, int to) {
+    if (to - from > 9) {
+      return Integer.parseInt(csq.subSequence(from, to).toString());
+    }
+    return (int) longValue(from, to);
+  }
+
+  //
+  // Token buffer
+  //
+
+  /**
+   * Checks the kind of the next token and consumes it, unless it is the end of input.
+   */
+  private void expect(int kind) {
+    if (peek(0) != kind) {
+      throw unexpected();
+    }
+    if (kind != EOF) {
+      consume();
+    }
+  }
+
+  /**
+   * Returns the kind of the token <code>ahead</code> (0 or 1) positions after the last consumed one, scanning it if
+   * needed.
+   */
+  private int peek(int ahead) {
+    while (buffered <= ahead) {
+      final int start = pos;
+      final int kind = scan();
+      if (buffered == 0) {
+        kind0 = kind;
+        start0 = start;
+        end0 = pos;
+      } else {
+        kind1 = kind;
+        start1 = start;
+        end1 = pos;
+      }
+      buffered++;
+    }
+    return ahead == 0 ? kind0 : kind1;
+  }
+
+  private void consume() {
+    kind0 = kind1;
+    start0 = start1;
+    end0 = end1;
+    buffered--;
+  }
+
+  private StacklessParseException unexpected() {
+    errorIndex = start0;
+    final String found = kind0 == EOF ? "end of input" : "'" + csq.subSequence(start0, end0) + "'";
+    return new StacklessParseException("Unexpected " + found + " at index " + start0, csq, start0);
+  }
+
+  //
+  // Lexer
+  //
+
+  /**
+   * Scans the token starting at {@link #pos} and advances past it.
+   *
+   * @return the token kind.
+   */
+  private int scan() {
+    if (pos >= end) {
+      return EOF;
+    }
+    final char c = csq.charAt(pos);
+    switch (c) {
+      case '+':
+        pos++;
+        return PLUS;
+      case '-':
+        pos++;
+        return MINUS;
+      case '*':
+        pos++;
+        return ASTERISK;
+      case '·':
+        pos++;
+        return MIDDLE_DOT;
+      case '/':
+        pos++;
+        return SOLIDUS;
+      case '^':
+        pos++;
+        return CARET;
+      case ':':
+        pos++;
+        return COLON;
+      case '(':
+        pos++;
+        return OPEN_PAREN;
+      case ')':
+        pos++;
+        return CLOSE_PAREN;
+      default:
+    }
+    if (isSuperscriptDigit(c)) {
+      do {
+        pos++;
+      } while (pos < end && isSuperscriptDigit(csq.charAt(pos)));
+      return SUPERSCRIPT_INTEGER;
+    }
+    if (isDigit(c) || (c == '.' && pos + 1 < end && isDigit(csq.charAt(pos + 1)))) {
+      return scanNumber();
+    }
+    if (isInitialChar(c)) {
+      final int start = pos;
+      do {
+        pos++;
+      } while (pos < end && isExtendedChar(csq.charAt(pos)));
+      return keyword(start);
+    }
+    errorIndex = pos;
+    throw new LexicalException("Lexical error at index " + pos + ", unexpected character '" + c + "'", csq, pos);
+  }
+
+  /**
+   * Scans <code>[0-9]* ('.' [0-9]+)? ([eE] [+-]? [0-9]+)?</code>, an integer if neither fraction nor exponent is present.
+   */
+  private int scanNumber() {
+    int kind = INTEGER;
+    while (pos < end && isDigit(csq.charAt(pos))) {
+      pos++;
+    }
+    if (pos + 1 < end && csq.charAt(pos) == '.' && isDigit(csq.charAt(pos + 1))) {
+      kind = FLOATING_POINT;
+      pos += 2;
+      while (pos < end && isDigit(csq.charAt(pos))) {
+        pos++;
+      }
+    }
+    if (pos + 1 < end && (csq.charAt(pos) == 'e' || csq.charAt(pos) == 'E')) {
+      int i = pos + 1;
+      if (csq.charAt(i) == '+' || csq.charAt(i) == '-') {
+        i++;
+      }
+      if (i < end && isDigit(csq.charAt(i))) {
+        kind = FLOATING_POINT;
+        pos = i + 1;
+        while (pos < end && isDigit(csq.charAt(pos))) {
+          pos++;
+        }
+      }
+    }
+    return kind;
+  }
+
+  /**
+   * Returns the kind of the identifier from <code>start</code> to {@link #pos}, literal tokens win over identifiers
+   * of the same length.
+   */
+  private int keyword(int start) {
+    switch (pos - start) {
+      case 1:
+        return csq.charAt(start) == 'e' ? E : UNIT_IDENTIFIER;
+      case 2:
+        return csq.charAt(start) == 'l' && csq.charAt(start + 1) == 'n' ? NAT_LOG : UNIT_IDENTIFIER;
+      case 3:
+        return csq.charAt(start) == 'l' && csq.charAt(start + 1) == 'o' && csq.charAt(start + 2) == 'g' ? LOG
+            : UNIT_IDENTIFIER;
+      default:
+        return UNIT_IDENTIFIER;
+    }
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isSuperscriptDigit(char c) {
+    return c == '¹' || c == '²' || c == '³' || c == '⁰' || (c >= '⁴' && c <= '⁹');
+  }
+
+  /**
+   * <code>&lt;initial_char&gt;</code>: any character but digits, superscript digits, white space, control characters
+   * and the operators <code>+ - * · / ^ : ( ) .</code>
+   */
+  private static boolean isInitialChar(char c) {
+    if (c < 64) {
+      return c > ' ' && "!\"#$%&',;<=>?".indexOf(c) >= 0;
+    }
+    return c != '^' && c != '·' && !isSuperscriptDigit(c);
+  }
+
+  /**
+   * <code>&lt;extended_char&gt;</code>: an initial character or a digit.
+   */
+  private static boolean isExtendedChar(char c) {
+    return isDigit(c) || isInitialChar(c);
+  }
+
+  /**
+   * Signals a character not allowed by the grammar.
+   */
+  public static final class LexicalException extends StacklessParseException {
+
+    private static final long serialVersionUID = 1L;
+
+    LexicalException(String message, CharSequence parsedData, int position) {
+      super(message, parsedData, position);
+    }
+  }
+}
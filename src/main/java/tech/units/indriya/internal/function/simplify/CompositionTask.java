@@ -37,12 +37,15 @@ import java.util.function.BinaryOperator;
 import javax.measure.UnitConverter;
 
 import tech.units.indriya.function.AbstractConverter;
+import tech.units.indriya.internal.spi.FlightRecording;
+import tech.units.indriya.internal.spi.Instrumentations;
+import tech.units.indriya.spi.Instrumentation.Event;
 
 /**
  * Package private normal-form yielding worker task. 
  * 
  * @author Andi Huber
- * @version 1.0
+ * @version 1.2, October 19, 2026
  * @since 2.0
  */
 final class CompositionTask {
@@ -87,6 +90,9 @@ final class CompositionTask {
    */
   public AbstractConverter reduceToNormalForm(List<? extends UnitConverter> conversionSteps) {
 
+    final long start = Instrumentations.start();
+    final Object event = FlightRecording.beginNormalForm();
+
     arrayOfConverters = conversionSteps.toArray(new AbstractConverter[]{});
 
     sortToNormalFormOrder(arrayOfConverters);
@@ -95,7 +101,10 @@ final class CompositionTask {
       sortToNormalFormOrder(arrayOfConverters);
     }
 
-    return sequenceToConverter(arrayOfConverters);
+    final AbstractConverter normalForm = sequenceToConverter(arrayOfConverters);
+    Instrumentations.stop(Event.CONVERTER_COMPOSITION, start);
+    FlightRecording.endNormalForm(event, conversionSteps, normalForm);
+    return normalForm;
   }
 
   // -- HELPER
@@ -31,6 +31,8 @@ package tech.units.indriya.internal.function.simplify;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 
@@ -38,19 +40,34 @@ import tech.units.indriya.function.AbstractConverter;
 import tech.units.indriya.function.Calculus;
 import tech.units.indriya.function.ConverterCompositionHandler;
 import tech.units.indriya.function.PowerOfIntConverter;
+import tech.units.indriya.internal.spi.Instrumentations;
+import tech.units.indriya.spi.Instrumentation.Event;
+import tech.units.indriya.spi.NumberSystem;
 
 /**
  * UnitCompositionHandler yielding a normal-form.
  * A normal-form is required to decide whether two UnitConverters are equivalent.
+ * <p>
+ * Compositions are memoized per (left, right) converter pair, for the reduction functions and the
+ * {@link NumberSystem} they were computed with. Up to {@value #MAX_CACHED_COMPOSITIONS} compositions
+ * are cached, the cache starts over when full.
+ * </p>
  * 
  * @author Andi Huber
- * @version 1.1
+ * @version 1.4, October 19, 2026
  * @since 2.0
  */
 public class UnitCompositionHandlerYieldingNormalForm implements ConverterCompositionHandler {
 
+  /**
+   * The maximum number of cached compositions.
+   */
+  static final int MAX_CACHED_COMPOSITIONS = 4096;
+
   private final Map<Class<? extends AbstractConverter>, Integer> normalFormOrder;
 
+  private volatile Compositions compositions;
+
   public UnitCompositionHandlerYieldingNormalForm() {
     normalFormOrder = Calculus.getNormalFormOrder();
   }
@@ -72,6 +89,32 @@ public class UnitCompositionHandlerYieldingNormalForm implements ConverterCompos
       return a;
     }
 
+    Compositions cache = compositions(canReduce, doReduce);
+    if(cache == null) {
+      return composeNormalForm(a, b, canReduce, doReduce);
+    }
+    final Composition key = new Composition(a, b);
+    final AbstractConverter cached = cache.map.get(key);
+    if(cached != null) {
+      Instrumentations.increment(Event.COMPOSITION_CACHE_HIT);
+      return cached;
+    }
+    Instrumentations.increment(Event.COMPOSITION_CACHE_MISS);
+    final AbstractConverter composed = composeNormalForm(a, b, canReduce, doReduce);
+    if(cache.map.size() >= MAX_CACHED_COMPOSITIONS) {
+      cache = compositions = new Compositions(cache.numberSystem, cache.canReduce, cache.doReduce);
+    }
+    composed.getConversionSteps(); // precompute the steps before the result gets shared
+    final AbstractConverter existing = cache.map.putIfAbsent(key, composed);
+    return existing != null ? existing : composed;
+  }
+
+  private AbstractConverter composeNormalForm(
+      AbstractConverter a, 
+      AbstractConverter b,
+      BiPredicate<AbstractConverter, AbstractConverter> canReduce,
+      BinaryOperator<AbstractConverter> doReduce) {
+
     if(canReduce.test(a, b)) {
       return doReduce.apply(a, b);
     }
@@ -94,6 +137,21 @@ public class UnitCompositionHandlerYieldingNormalForm implements ConverterCompos
 
   // -- HELPER
 
+  /**
+   * @return the composition cache valid for the given reduction functions, or {@code null} if compositions 
+   * with these functions are not cached
+   */
+  private Compositions compositions(
+      BiPredicate<AbstractConverter, AbstractConverter> canReduce,
+      BinaryOperator<AbstractConverter> doReduce) {
+    final NumberSystem numberSystem = Calculus.currentNumberSystem();
+    final Compositions current = compositions;
+    if(current != null && current.numberSystem == numberSystem) {
+      return current.canReduce == canReduce && current.doReduce == doReduce ? current : null;
+    }
+    return compositions = new Compositions(numberSystem, canReduce, doReduce);
+  }
+
   private boolean isNormalFormOrderWhenIdentity(AbstractConverter a, AbstractConverter b) {
     if(a.getClass().equals(b.getClass())) {
       return true;
@@ -117,5 +175,58 @@ public class UnitCompositionHandlerYieldingNormalForm implements ConverterCompos
     return orderA <= orderB;
   }
 
+  // -- CACHE
+
+  private static final class Compositions {
+    private final NumberSystem numberSystem;
+    private final BiPredicate<AbstractConverter, AbstractConverter> canReduce;
+    private final BinaryOperator<AbstractConverter> doReduce;
+    private final ConcurrentMap<Composition, AbstractConverter> map = new ConcurrentHashMap<>();
+
+    private Compositions(
+        NumberSystem numberSystem,
+        BiPredicate<AbstractConverter, AbstractConverter> canReduce,
+        BinaryOperator<AbstractConverter> doReduce) {
+      this.numberSystem = numberSystem;
+      this.canReduce = canReduce;
+      this.doReduce = doReduce;
+    }
+  }
+
+  /**
+   * Cache key of the composition {@code left o right}.
+   */
+  private static final class Composition {
+    private final AbstractConverter left;
+    private final AbstractConverter right;
+    private final int hashCode;
+
+    private Composition(AbstractConverter left, AbstractConverter right) {
+      this.left = left;
+      this.right = right;
+      this.hashCode = 31 * left.hashCode() + right.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if(this == obj) {
+        return true;
+      }
+      if(obj instanceof Composition) {
+        final Composition other = (Composition) obj;
+        return same(left, other.left) && same(right, other.right);
+      }
+      return false;
+    }
+
+    private static boolean same(AbstractConverter a, AbstractConverter b) {
+      return a == b || (a.getClass() == b.getClass() && a.equals(b));
+    }
+  }
 
 }
@@ -0,0 +1,137 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.spi;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.spi.Instrumentation;
+import tech.units.indriya.spi.Instrumentation.Event;
+
+/**
+ * Reports events to the {@link Instrumentation} in use, if any.
+ * <p>
+ * The instrumentation is loaded through the {@link java.util.ServiceLoader} when this class is initialized. Without
+ * one, every method returns after reading a single field, hence callers on hot paths need no guard of their own. Timed
+ * events are measured between {@link #start()} and {@link #stop(Event, long)}, which skip {@link System#nanoTime()} as
+ * well.
+ * </p>
+ *
+ * @version 1.0, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class Instrumentations {
+
+  /**
+   * The instrumentation in use, <code>null</code> if events are not recorded.
+   */
+  private static volatile Instrumentation current = load();
+
+  private Instrumentations() {
+  }
+
+  private static Instrumentation load() {
+    return ServiceIndex.load(Instrumentation.class, Instrumentation.class.getClassLoader()).first();
+  }
+
+  /**
+   * Whether events are recorded.
+   *
+   * @return <code>true</code> if an instrumentation is in use.
+   */
+  public static boolean isEnabled() {
+    return current != null;
+  }
+
+  /**
+   * Returns the instrumentation in use.
+   *
+   * @return the instrumentation, or <code>null</code> if events are not recorded.
+   */
+  public static Instrumentation get() {
+    return current;
+  }
+
+  /**
+   * Replaces the instrumentation in use.
+   *
+   * @param instrumentation
+   *          the instrumentation, or <code>null</code> to stop recording events.
+   */
+  public static void set(Instrumentation instrumentation) {
+    current = instrumentation;
+  }
+
+  /**
+   * Loads the instrumentation again through the {@link java.util.ServiceLoader}.
+   */
+  public static void reload() {
+    current = load();
+  }
+
+  /**
+   * Increments the counter of the specified event.
+   *
+   * @param event
+   *          the event.
+   */
+  public static void increment(Event event) {
+    final Instrumentation instrumentation = current;
+    if (instrumentation != null) {
+      instrumentation.increment(event);
+    }
+  }
+
+  /**
+   * Returns the start time of a timed event.
+   *
+   * @return the value of {@link System#nanoTime()}, or <code>0</code> if events are not recorded.
+   */
+  public static long start() {
+    return current != null ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Records the duration of the specified event since {@code start}.
+   *
+   * @param event
+   *          the event.
+   * @param start
+   *          the value returned by {@link #start()}.
+   */
+  public static void stop(Event event, long start) {
+    final Instrumentation instrumentation = current;
+    if (instrumentation != null && start != 0L) {
+      instrumentation.record(event, System.nanoTime() - start);
+    }
+  }
+}
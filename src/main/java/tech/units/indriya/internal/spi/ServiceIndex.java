@@ -0,0 +1,168 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.spi;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apiguardian.api.API;
+
+import jakarta.inject.Named;
+import tech.uom.lib.common.function.IntPrioritySupplier;
+
+/**
+ * An immutable snapshot of the implementations of a service type, ordered by priority, with an index by name.
+ * <p>
+ * Implementations which are an {@link IntPrioritySupplier} come first in descending order of priority, the others rank
+ * with priority <code>0</code>; ties are ordered by simple class name. An implementation can be looked up by its class
+ * name, its simple class name or the value of its {@link Named} annotation; if several implementations share a name, the
+ * one with the highest priority is indexed.
+ * </p>
+ *
+ * @param <T>
+ *          the service type.
+ * @version 1.0, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class ServiceIndex<T> {
+
+  private static final Logger LOGGER = Logger.getLogger(ServiceIndex.class.getName());
+
+  private static final Comparator<Object> BY_PRIORITY = ServiceIndex::compare;
+
+  private final List<T> services;
+  private final Map<String, T> byName;
+
+  private ServiceIndex(List<T> services) {
+    this.services = Collections.unmodifiableList(services);
+    final Map<String, T> names = new HashMap<>(services.size() * 4);
+    for (T service : services) {
+      final Class<?> type = service.getClass();
+      names.putIfAbsent(type.getName(), service);
+      names.putIfAbsent(type.getSimpleName(), service);
+      final Named named = type.getAnnotation(Named.class);
+      if (named != null) {
+        names.putIfAbsent(named.value(), service);
+      }
+    }
+    this.byName = names;
+  }
+
+  /**
+   * Creates an index of the specified implementations.
+   *
+   * @param services
+   *          the implementations, in any order.
+   * @return the index.
+   */
+  public static <T> ServiceIndex<T> of(Collection<? extends T> services) {
+    final List<T> sorted = new ArrayList<>(services);
+    sorted.sort(BY_PRIORITY);
+    return new ServiceIndex<>(sorted);
+  }
+
+  /**
+   * Loads the implementations of a service type through the {@link ServiceLoader}. Implementations which fail to load
+   * are logged and skipped.
+   *
+   * @param serviceType
+   *          the service type.
+   * @param loader
+   *          the class loader, or <code>null</code> for the context class loader of the current thread.
+   * @return the index.
+   */
+  public static <T> ServiceIndex<T> load(Class<T> serviceType, ClassLoader loader) {
+    final List<T> services = new ArrayList<>();
+    try {
+      final Iterator<T> it = (loader != null ? ServiceLoader.load(serviceType, loader) : ServiceLoader.load(serviceType)).iterator();
+      while (it.hasNext()) {
+        try {
+          services.add(it.next());
+        } catch (ServiceConfigurationError error) {
+          LOGGER.log(Level.WARNING, "Error loading service of type " + serviceType, error);
+        }
+      }
+    } catch (Exception | ServiceConfigurationError e) {
+      LOGGER.log(Level.WARNING, "Error loading services of type " + serviceType, e);
+    }
+    return of(services);
+  }
+
+  private static int compare(Object o1, Object o2) {
+    final int prio1 = o1 instanceof IntPrioritySupplier ? ((IntPrioritySupplier) o1).getPriority() : 0;
+    final int prio2 = o2 instanceof IntPrioritySupplier ? ((IntPrioritySupplier) o2).getPriority() : 0;
+    if (prio1 != prio2) {
+      return Integer.compare(prio2, prio1);
+    }
+    return o2.getClass().getSimpleName().compareTo(o1.getClass().getSimpleName());
+  }
+
+  /**
+   * Returns the implementations, highest priority first.
+   *
+   * @return the unmodifiable list of implementations, never <code>null</code>.
+   */
+  public List<T> list() {
+    return services;
+  }
+
+  /**
+   * Returns the implementation with the highest priority.
+   *
+   * @return the implementation, or <code>null</code> if there is none.
+   */
+  public T first() {
+    return services.isEmpty() ? null : services.get(0);
+  }
+
+  /**
+   * Returns the implementation with the specified name.
+   *
+   * @param name
+   *          the class name, simple class name or {@link Named} value.
+   * @return the implementation, or <code>null</code> if there is none.
+   */
+  public T get(String name) {
+    return byName.get(name);
+  }
+}
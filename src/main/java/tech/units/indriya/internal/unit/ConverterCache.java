@@ -0,0 +1,169 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.unit;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.measure.Quantity.Scale;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.internal.spi.Instrumentations;
+import tech.units.indriya.spi.DimensionalModel;
+import tech.units.indriya.spi.Instrumentation.Event;
+import tech.units.indriya.spi.NumberSystem;
+
+/**
+ * Shared cache of unit converters per (source unit, target unit, {@link Scale}).
+ * <p>
+ * Converters are immutable, hence cached results can be shared across threads without locking. The cache is tied to
+ * the current {@link DimensionalModel} and {@link NumberSystem} and starts over when either of them is replaced.
+ * </p>
+ * <p>
+ * Note: The cache holds up to {@value #MAX_SIZE} converters and starts over when full, so that converters between units
+ * created at runtime neither disable caching nor keep those units reachable.
+ * </p>
+ *
+ * @version 1.2, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class ConverterCache {
+
+	/**
+	 * The maximum number of converters kept in the cache.
+	 */
+	public static final int MAX_SIZE = 8192;
+
+	private static volatile Converters converters = new Converters(null, null);
+
+	private ConverterCache() {
+	}
+
+	/**
+	 * Returns the cached converter from {@code source} to {@code target} in the given scale.
+	 *
+	 * @param source the source unit.
+	 * @param target the target unit.
+	 * @param scale  the measurement scale.
+	 * @param any    whether the converter was obtained through {@link Unit#getConverterToAny(Unit)}.
+	 * @return the cached converter or {@code null} if none.
+	 */
+	public static UnitConverter get(Unit<?> source, Unit<?> target, Scale scale, boolean any) {
+		final UnitConverter converter = current().map.get(new Conversion(source, target, scale, any));
+		Instrumentations.increment(converter != null ? Event.CONVERTER_CACHE_HIT : Event.CONVERTER_CACHE_MISS);
+		return converter;
+	}
+
+	/**
+	 * Caches the converter from {@code source} to {@code target} in the given scale.
+	 *
+	 * @param source    the source unit.
+	 * @param target    the target unit.
+	 * @param scale     the measurement scale.
+	 * @param any       whether the converter was obtained through {@link Unit#getConverterToAny(Unit)}.
+	 * @param converter the converter.
+	 * @return the converter to use, either {@code converter} or one cached concurrently.
+	 */
+	public static UnitConverter put(Unit<?> source, Unit<?> target, Scale scale, boolean any, UnitConverter converter) {
+		final Converters current = current();
+		ConcurrentMap<Conversion, UnitConverter> map = current.map;
+		if (map.size() >= MAX_SIZE) {
+			map = (converters = new Converters(current.model, current.numberSystem)).map;
+		}
+		final UnitConverter existing = map.putIfAbsent(new Conversion(source, target, scale, any), converter);
+		return existing != null ? existing : converter;
+	}
+
+	private static Converters current() {
+		final Converters current = converters;
+		final DimensionalModel model = DimensionalModel.current();
+		final NumberSystem numberSystem = Calculus.currentNumberSystem();
+		if (current.model == model && current.numberSystem == numberSystem) {
+			return current;
+		}
+		return converters = new Converters(model, numberSystem);
+	}
+
+	private static final class Converters {
+		private final DimensionalModel model;
+		private final NumberSystem numberSystem;
+		private final ConcurrentMap<Conversion, UnitConverter> map = new ConcurrentHashMap<>();
+
+		private Converters(DimensionalModel model, NumberSystem numberSystem) {
+			this.model = model;
+			this.numberSystem = numberSystem;
+		}
+	}
+
+	/**
+	 * Immutable key of a conversion.
+	 */
+	private static final class Conversion {
+		private final Unit<?> source;
+		private final Unit<?> target;
+		private final Scale scale;
+		private final boolean any;
+		private final int hashCode;
+
+		private Conversion(Unit<?> source, Unit<?> target, Scale scale, boolean any) {
+			this.source = source;
+			this.target = target;
+			this.scale = scale;
+			this.any = any;
+			this.hashCode = Objects.hash(source, target, scale, any);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof Conversion) {
+				final Conversion other = (Conversion) obj;
+				return any == other.any && scale == other.scale && source.equals(other.source)
+						&& target.equals(other.target);
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.unit;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.measure.BinaryPrefix;
+import javax.measure.MetricPrefix;
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.function.MultiplyConverter;
+
+/**
+ * Lazily populated table of the converters of the prefixes.
+ * <p>
+ * For each {@link MetricPrefix} or {@link BinaryPrefix} the converter is created only once and shared by all units
+ * prefixed with it, as well as by {@link tech.units.indriya.format.SimpleUnitFormat}. The prefixed units themselves are
+ * created anew by every call of {@link Unit#prefix(Prefix)}, since units can still be renamed, e.g. by a system of units
+ * they are added to. Other {@link Prefix} implementations are not cached.
+ * </p>
+ *
+ * @version 1.2, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class PrefixTable {
+
+	private static final MetricPrefix[] METRIC_PREFIXES = MetricPrefix.values();
+	private static final BinaryPrefix[] BINARY_PREFIXES = BinaryPrefix.values();
+	private static final int SIZE = METRIC_PREFIXES.length + BINARY_PREFIXES.length;
+
+	private static final AtomicReferenceArray<MultiplyConverter> CONVERTERS = new AtomicReferenceArray<>(SIZE);
+
+	private PrefixTable() {
+	}
+
+	/**
+	 * Returns the shared converter of the given prefix.
+	 *
+	 * @param prefix the prefix.
+	 * @return the converter equal to {@code MultiplyConverter.ofPrefix(prefix)}.
+	 */
+	public static MultiplyConverter converterOf(Prefix prefix) {
+		final int index = indexOf(prefix);
+		return index < 0 ? MultiplyConverter.ofPrefix(prefix) : converterAt(index);
+	}
+
+	private static MultiplyConverter converterAt(int index) {
+		final MultiplyConverter converter = CONVERTERS.get(index);
+		if (converter != null) {
+			return converter;
+		}
+		CONVERTERS.compareAndSet(index, null, MultiplyConverter.ofPrefix(prefixAt(index)));
+		return CONVERTERS.get(index);
+	}
+
+	private static Prefix prefixAt(int index) {
+		return index < METRIC_PREFIXES.length ? METRIC_PREFIXES[index] : BINARY_PREFIXES[index - METRIC_PREFIXES.length];
+	}
+
+	private static int indexOf(Prefix prefix) {
+		if (prefix instanceof MetricPrefix) {
+			return ((MetricPrefix) prefix).ordinal();
+		}
+		if (prefix instanceof BinaryPrefix) {
+			return METRIC_PREFIXES.length + ((BinaryPrefix) prefix).ordinal();
+		}
+		return -1;
+	}
+}
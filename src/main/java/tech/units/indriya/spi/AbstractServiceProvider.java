@@ -34,36 +34,36 @@ import javax.measure.spi.FormatService;
 import javax.measure.spi.QuantityFactory;
 import javax.measure.spi.ServiceProvider;
 import javax.measure.spi.SystemOfUnitsService;
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.internal.spi.Instrumentations;
+import tech.units.indriya.internal.spi.ServiceIndex;
 import tech.units.indriya.quantity.DefaultQuantityFactory;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * This class extends the {@link javax.measure.spi.ServiceProvider} class and hereby uses the JDK {@link java.util.ServiceLoader} to load the required
  * services.
+ * <p>
+ * The services of each type are loaded once, on first use, into an immutable snapshot ordered by priority (see
+ * {@link tech.uom.lib.common.function.IntPrioritySupplier}) and indexed by name. Containers which add or remove plugins at runtime call {@link #reload()}
+ * to load them again.
+ * </p>
  *
  * @author Werner Keil
- * @version 2.0
+ * @version 2.2, October 19, 2026
  * @since 2.0
  */
 public abstract class AbstractServiceProvider extends ServiceProvider implements Comparable<ServiceProvider> {
     
 	/**
-     * List of services loaded, per class.
+     * Services loaded, per class.
      */
     @SuppressWarnings("rawtypes")
-    private final Map<Class, List<Object>> servicesLoaded = new ConcurrentHashMap<>();
-
-    private static final Comparator<Object> SERVICE_COMPARATOR = AbstractServiceProvider::compareServices;
+    private final Map<Class, ServiceIndex<?>> servicesLoaded = new ConcurrentHashMap<>();
 
     @SuppressWarnings("rawtypes")
     private final Map<Class, QuantityFactory> QUANTITY_FACTORIES = new ConcurrentHashMap<>();
@@ -75,35 +75,43 @@ public abstract class AbstractServiceProvider extends ServiceProvider implements
      *            The service type.
      * @param <T>
      *            the concrete type.
-     * @return the items found, never {@code null}.
+     * @return the items found, highest priority first, never {@code null}.
      */
     protected <T> List<T> getServices(final Class<T> serviceType) {
-        @SuppressWarnings("unchecked")
-        List<T> found = (List<T>) servicesLoaded.get(serviceType);
-        if (found != null) {
-            return found;
-        }
-        return loadServices(serviceType);
+        return loadServices(serviceType).list();
     }
 
     protected <T> T getService(Class<T> serviceType) {
-        List<T> services = getServices(serviceType);
-        if (services.isEmpty()) {
-            return null;
-        }
-        return services.get(0);
+        return loadServices(serviceType).first();
     }
 
-    private static int compareServices(Object o1, Object o2) {
-        int prio1 = 0;
-        int prio2 = 0;
-        if (prio1 < prio2) {
-            return 1;
-        }
-        if (prio2 < prio1) {
-            return -1;
-        }
-        return o2.getClass().getSimpleName().compareTo(o1.getClass().getSimpleName());
+    /**
+     * Returns the service with the given name.
+     *
+     * @param serviceType
+     *            The service type.
+     * @param name
+     *            the class name, simple class name or {@link jakarta.inject.Named} value of the service.
+     * @param <T>
+     *            the concrete type.
+     * @return the service or {@code null} if none.
+     * @since 2.2.3
+     */
+    protected <T> T getService(Class<T> serviceType, String name) {
+        Objects.requireNonNull(name);
+        return loadServices(serviceType).get(name);
+    }
+
+    /**
+     * Discards the services loaded so far, together with the {@link tech.units.indriya.spi.NumberSystem number systems} known to {@link Calculus}, so
+     * that they are loaded again on next use. The {@link Instrumentation} in use is loaded again right away.
+     *
+     * @since 2.2.3
+     */
+    public void reload() {
+        servicesLoaded.clear();
+        Calculus.reloadNumberSystems();
+        Instrumentations.reload();
     }
 
     /**
@@ -113,23 +121,17 @@ public abstract class AbstractServiceProvider extends ServiceProvider implements
      *            The service type.
      * @param <T>
      *            the concrete type.
-     * @return the items found, never {@code null}.
+     * @return the services found.
      */
-    private <T> List<T> loadServices(final Class<T> serviceType) {
-        List<T> services = new ArrayList<>();
-        try {
-            for (T t : ServiceLoader.load(serviceType)) {
-                services.add(t);
-            }
-            Collections.sort(services, SERVICE_COMPARATOR);
-            @SuppressWarnings("unchecked")
-            final List<T> previousServices = (List<T>) servicesLoaded.putIfAbsent(serviceType, (List<Object>) services);
-            return Collections.unmodifiableList(previousServices != null ? previousServices : services);
-        } catch (Exception e) {
-            Logger.getLogger(AbstractServiceProvider.class.getName()).log(Level.WARNING, "Error loading services of type " + serviceType, e);
-            Collections.sort(services, SERVICE_COMPARATOR);
-            return services;
+    @SuppressWarnings("unchecked")
+    private <T> ServiceIndex<T> loadServices(final Class<T> serviceType) {
+        final ServiceIndex<T> found = (ServiceIndex<T>) servicesLoaded.get(serviceType);
+        if (found != null) {
+            return found;
         }
+        final ServiceIndex<T> services = ServiceIndex.load(serviceType, null);
+        final ServiceIndex<T> previousServices = (ServiceIndex<T>) servicesLoaded.putIfAbsent(serviceType, services);
+        return previousServices != null ? previousServices : services;
     }
 
     @Override
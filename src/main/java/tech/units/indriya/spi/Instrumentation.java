@@ -0,0 +1,117 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.spi;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Receives counters and timers for expensive or noteworthy events on the hot paths of the library, so that they can be
+ * exported to a metrics backend.
+ * <p>
+ * Implementations are discovered through the {@link java.util.ServiceLoader}, like other services of this library; if
+ * several are found, the one with the highest priority (see {@link tech.uom.lib.common.function.IntPrioritySupplier})
+ * is used. Without an implementation, events are not recorded at all, so the only overhead is a field read per event.
+ * </p>
+ * <p>
+ * Methods are called on the thread raising the event, possibly from many threads at once; implementations must be
+ * thread-safe, should not block and must not throw exceptions.
+ * </p>
+ *
+ * @version 1.1, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = EXPERIMENTAL)
+public interface Instrumentation {
+
+    /**
+     * The events reported to an {@link Instrumentation}.
+     */
+    enum Event {
+        /**
+         * Counter: an arithmetic operation on built-in numbers had to widen its result to {@link java.math.BigInteger},
+         * {@link java.math.BigDecimal} or {@link tech.units.indriya.function.RationalNumber}.
+         */
+        NUMBER_WIDENING,
+        /**
+         * Timer: reduction of a composition of converters to its normal form.
+         */
+        CONVERTER_COMPOSITION,
+        /**
+         * Counter: the text given to a unit format could not be parsed.
+         */
+        PARSE_FAILURE,
+        /**
+         * Counter: a converter between two units was found in the converter cache.
+         */
+        CONVERTER_CACHE_HIT,
+        /**
+         * Counter: a converter between two units was not found in the converter cache.
+         */
+        CONVERTER_CACHE_MISS,
+        /**
+         * Counter: a composition of two converters was found in the composition cache.
+         */
+        COMPOSITION_CACHE_HIT,
+        /**
+         * Counter: a composition of two converters was not found in the composition cache.
+         */
+        COMPOSITION_CACHE_MISS,
+        /**
+         * Counter: a unit was found in the parse cache of a unit format.
+         */
+        PARSE_CACHE_HIT,
+        /**
+         * Counter: a unit was not found in the parse cache of a unit format.
+         */
+        PARSE_CACHE_MISS
+    }
+
+    /**
+     * Increments the counter of the specified event. Does nothing by default.
+     *
+     * @param event
+     *          the event.
+     */
+    default void increment(Event event) {
+    }
+
+    /**
+     * Records the duration of the specified event. Does nothing by default.
+     *
+     * @param event
+     *          the event.
+     * @param nanos
+     *          the duration in nanoseconds.
+     */
+    default void record(Event event, long nanos) {
+    }
+}
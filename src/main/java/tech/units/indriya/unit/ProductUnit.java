@@ -29,6 +29,7 @@
  */
 package tech.units.indriya.unit;
 
+import static javax.measure.Quantity.Scale.ABSOLUTE;
 import static javax.measure.Quantity.Scale.RELATIVE;
 
 import java.io.InvalidObjectException;
@@ -41,6 +42,7 @@ import java.util.Objects;
 
 import javax.measure.Dimension;
 import javax.measure.Quantity;
+import javax.measure.Quantity.Scale;
 import javax.measure.Unit;
 import javax.measure.UnitConverter;
 
@@ -315,6 +317,11 @@ public final class ProductUnit<Q extends Quantity<Q>> extends AbstractUnit<Q> {
 
     @Override
     public UnitConverter getSystemConverter() {
+        return getSystemConverter(ABSOLUTE);
+    }
+
+    @Override
+    protected UnitConverter getSystemConverter(Scale scale) {
         UnitConverter converter = AbstractConverter.IDENTITY;
         for (Element e : elements) {
             if (e.unit instanceof AbstractUnit) {
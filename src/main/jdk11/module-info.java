@@ -33,9 +33,11 @@ module tech.units.indriya {
     requires transitive tech.uom.lib.common;
     requires transitive jakarta.inject;
     
+    requires static jdk.jfr;
     requires static org.osgi.core;
     requires static org.osgi.compendium;
     requires static org.osgi.annotation;
+    requires static org.apiguardian.api;
     
     exports tech.units.indriya;
     exports tech.units.indriya.format;
@@ -60,5 +62,6 @@ module tech.units.indriya {
     uses javax.measure.spi.FormatService;
     uses javax.measure.spi.ServiceProvider;
     uses javax.measure.spi.SystemOfUnitsService;
+    uses tech.units.indriya.spi.Instrumentation;
     uses tech.units.indriya.spi.NumberSystem;
 }
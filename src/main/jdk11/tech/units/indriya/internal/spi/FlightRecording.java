@@ -0,0 +1,257 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.spi;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.List;
+
+import javax.measure.Unit;
+
+import org.apiguardian.api.API;
+
+import tech.units.indriya.internal.jfr.ConversionEvent;
+import tech.units.indriya.internal.jfr.NormalFormEvent;
+import tech.units.indriya.internal.jfr.ParseEvent;
+import tech.units.indriya.internal.jfr.WideningEvent;
+
+/**
+ * Emits Java Flight Recorder events for slow conversions, normal-form reductions and parses, and for numeric widening.
+ * <p>
+ * The events are defined in the <code>tech.units.indriya.internal.jfr</code> package. Timed events carry a default
+ * threshold, so that a recording only holds those which took long, together with the units or text involved. If the
+ * <code>jdk.jfr</code> module is not present at runtime, no events are emitted.
+ * </p>
+ * <p>
+ * A timed event is started by a <code>begin</code> method, which returns a handle or <code>null</code> if the event is
+ * not recorded, and committed by the matching <code>end</code> method, which describes it and accepts a
+ * <code>null</code> handle.
+ * </p>
+ *
+ * @version 1.0, October 19, 2026
+ * @since 2.2.3
+ */
+@API(status = INTERNAL)
+public final class FlightRecording {
+
+  private static final boolean AVAILABLE = available();
+
+  private FlightRecording() {
+  }
+
+  private static boolean available() {
+    try {
+      return ModuleLayer.boot().findModule("jdk.jfr").map(jfr -> {
+        FlightRecording.class.getModule().addReads(jfr);
+        return true;
+      }).orElse(false);
+    } catch (RuntimeException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Whether events can be emitted at all; callers may skip preparing the arguments of an event otherwise.
+   *
+   * @return <code>true</code> if the Java Flight Recorder is available.
+   */
+  public static boolean isAvailable() {
+    return AVAILABLE;
+  }
+
+  /**
+   * Begins the creation of a converter between two units.
+   *
+   * @return the handle of the event, or <code>null</code>.
+   */
+  public static Object beginConversion() {
+    return AVAILABLE ? Events.beginConversion() : null;
+  }
+
+  /**
+   * Ends the creation of a converter between two units.
+   *
+   * @param event
+   *          the handle returned by {@link #beginConversion()}.
+   * @param source
+   *          the source unit.
+   * @param target
+   *          the target unit.
+   */
+  public static void endConversion(Object event, Unit<?> source, Unit<?> target) {
+    if (event != null) {
+      Events.endConversion(event, source, target);
+    }
+  }
+
+  /**
+   * Begins the reduction of a composition of converters to its normal form.
+   *
+   * @return the handle of the event, or <code>null</code>.
+   */
+  public static Object beginNormalForm() {
+    return AVAILABLE ? Events.beginNormalForm() : null;
+  }
+
+  /**
+   * Ends the reduction of a composition of converters to its normal form.
+   *
+   * @param event
+   *          the handle returned by {@link #beginNormalForm()}.
+   * @param steps
+   *          the converters which were composed.
+   * @param normalForm
+   *          the resulting converter.
+   */
+  public static void endNormalForm(Object event, List<?> steps, Object normalForm) {
+    if (event != null) {
+      Events.endNormalForm(event, steps, normalForm);
+    }
+  }
+
+  /**
+   * Begins the parsing of a unit.
+   *
+   * @return the handle of the event, or <code>null</code>.
+   */
+  public static Object beginParse() {
+    return AVAILABLE ? Events.beginParse() : null;
+  }
+
+  /**
+   * Ends the parsing of a unit.
+   *
+   * @param event
+   *          the handle returned by {@link #beginParse()}.
+   * @param format
+   *          the unit format.
+   * @param text
+   *          the parsed text.
+   * @param unit
+   *          the parsed unit, or <code>null</code> if parsing failed.
+   */
+  public static void endParse(Object event, Object format, CharSequence text, Unit<?> unit) {
+    if (event != null) {
+      Events.endParse(event, format, text, unit);
+    }
+  }
+
+  /**
+   * Reports an arithmetic operation on built-in numbers which had to widen its result.
+   *
+   * @param operation
+   *          the name of the operation.
+   * @param x
+   *          the first operand.
+   * @param y
+   *          the second operand.
+   * @param result
+   *          the result.
+   */
+  public static void widening(String operation, Number x, Number y, Number result) {
+    if (AVAILABLE) {
+      Events.widening(operation, x, y, result);
+    }
+  }
+
+  /**
+   * Uses the event classes, which link against <code>jdk.jfr</code>, only once it is known to be available.
+   */
+  private static final class Events {
+
+    private static Object beginConversion() {
+      return begin(new ConversionEvent());
+    }
+
+    private static Object beginNormalForm() {
+      return begin(new NormalFormEvent());
+    }
+
+    private static Object beginParse() {
+      return begin(new ParseEvent());
+    }
+
+    private static Object begin(jdk.jfr.Event event) {
+      if (!event.isEnabled()) {
+        return null;
+      }
+      event.begin();
+      return event;
+    }
+
+    private static void endConversion(Object handle, Unit<?> source, Unit<?> target) {
+      final ConversionEvent event = (ConversionEvent) handle;
+      event.end();
+      if (event.shouldCommit()) {
+        event.source = String.valueOf(source);
+        event.target = String.valueOf(target);
+        event.commit();
+      }
+    }
+
+    private static void endNormalForm(Object handle, List<?> steps, Object normalForm) {
+      final NormalFormEvent event = (NormalFormEvent) handle;
+      event.end();
+      if (event.shouldCommit()) {
+        event.stepCount = steps.size();
+        event.steps = String.valueOf(steps);
+        event.normalForm = String.valueOf(normalForm);
+        event.commit();
+      }
+    }
+
+    private static void endParse(Object handle, Object format, CharSequence text, Unit<?> unit) {
+      final ParseEvent event = (ParseEvent) handle;
+      event.end();
+      if (event.shouldCommit()) {
+        event.format = format.getClass().getName();
+        event.text = String.valueOf(text);
+        event.unit = unit != null ? String.valueOf(unit) : null;
+        event.failed = unit == null;
+        event.commit();
+      }
+    }
+
+    private static void widening(String operation, Number x, Number y, Number result) {
+      final WideningEvent event = new WideningEvent();
+      if (event.shouldCommit()) {
+        event.operation = operation;
+        event.x = describe(x);
+        event.y = describe(y);
+        event.resultType = result.getClass();
+        event.commit();
+      }
+    }
+
+    private static String describe(Number number) {
+      return number.getClass().getSimpleName() + ' ' + number;
+    }
+  }
+}
@@ -39,7 +39,6 @@ import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -60,14 +59,14 @@ import tech.uom.lib.common.function.Nameable;
  * </p>
  *
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.1, Apr 19, 2020
+ * @version 2.2, October 19, 2026
  * @since 1.0
  */
 public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	/**
-	 * Holds the units.
+	 * Holds the units, indexed by symbol, name, string representation and dimension.
 	 */
-	protected final Set<Unit<?>> units = new HashSet<>();
+	protected final Set<Unit<?>> units = new UnitIndex();
 
 	/**
 	 * Holds the mapping quantity to unit.
@@ -99,8 +98,7 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 
 	@Override
 	public Set<? extends Unit<?>> getUnits(Dimension dimension) {
-		return this.getUnits().stream().filter(unit -> dimension.equals(unit.getDimension()))
-				.collect(Collectors.toSet());
+		return ((UnitIndex) units).getByDimension(dimension);
 	}
 
 	/*
@@ -122,7 +120,7 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	@Override
 	public Unit<?> getUnit(String string) {
 		Objects.requireNonNull(string);
-		return this.getUnits().stream().filter((u) -> string.equals(u.toString())).findAny().orElse(null);
+		return ((UnitIndex) units).getByString(string);
 	}
 
 	/**
@@ -134,8 +132,8 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	 * <p>
 	 * <b>NOTE:</b> Use {@code ignoreCase} carefully, as it will find the
 	 * <b>FIRST</b> unit for a particular string, e.g. the symbol of {@code SECOND}
-	 * and {@code SIEMENS} would be the same without case, but the UPPERCASE letter
-	 * sorted first.
+	 * and {@code SIEMENS} would be the same without case. An exact match is
+	 * always preferred, otherwise the unit added first to this system is returned.
 	 * </p>
 	 *
 	 * @param string     the string representation of a unit, not {@code null}.
@@ -146,27 +144,12 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	 */
 	public Unit<?> getUnit(String string, UnitStyle style, boolean ignoreCase) {
 		Objects.requireNonNull(string);
-		Unit<?> result;
-		switch (style) {
-			case NAME -> {
-				if (ignoreCase) {
-					result = this.getUnits().stream().filter((u) -> string.equalsIgnoreCase(u.getName())).findFirst()
-							.orElse(null);
-				} else {
-					result = this.getUnits().stream().filter((u) -> string.equals(u.getName())).findFirst().orElse(null);
-				}
-			}
-			case SYMBOL -> {
-				if (ignoreCase) {
-					result = this.getUnits().stream().filter((u) -> string.equalsIgnoreCase(u.getSymbol())).findFirst()
-							.orElse(null);
-				} else {
-					result = this.getUnits().stream().filter((u) -> string.equals(u.getSymbol())).findFirst().orElse(null);
-				}
-			}
-			default -> result = getUnit(string);
-		}
-		return result;
+		final UnitIndex index = (UnitIndex) units;
+		return switch (style) {
+			case NAME -> index.getByName(string, ignoreCase);
+			case SYMBOL -> index.getBySymbol(string, ignoreCase);
+			default -> getUnit(string);
+		};
 	}
 
 	/**
@@ -186,6 +169,9 @@ public abstract class AbstractSystemOfUnits implements SystemOfUnits, Nameable {
 	protected static class Helper {
 		static Set<Unit<?>> getUnitsOfDimension(final Set<Unit<?>> units, Dimension dimension) {
 			if (dimension != null) {
+				if (units instanceof UnitIndex) {
+					return ((UnitIndex) units).getByDimension(dimension);
+				}
 				return units.stream().filter(u -> dimension.equals(u.getDimension())).collect(Collectors.toSet());
 
 			}
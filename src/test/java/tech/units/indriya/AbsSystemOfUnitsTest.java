@@ -29,11 +29,27 @@
  */
 package tech.units.indriya;
 
+import static javax.measure.MetricPrefix.KILO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.units.indriya.format.UnitStyle.NAME;
+import static tech.units.indriya.format.UnitStyle.NAME_AND_SYMBOL;
+import static tech.units.indriya.format.UnitStyle.SYMBOL;
+
+import java.util.HashSet;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
 
 import org.junit.jupiter.api.Test;
 
+import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.function.MultiplyConverter;
+import tech.units.indriya.unit.TransformedUnit;
+import tech.units.indriya.unit.UnitDimension;
 import tech.units.indriya.unit.Units;
 
 public class AbsSystemOfUnitsTest {
@@ -51,4 +67,72 @@ public class AbsSystemOfUnitsTest {
 		assertNotNull(sut.getUnits());
 		assertEquals(NUM_OF_UNITS, sut.getUnits().size());
 	}
+
+	@Test
+	public void testUnitsOfDimension() {
+		assertTrue(sut.getUnits(UnitDimension.TIME).contains(Units.SECOND));
+		assertTrue(sut.getUnits(UnitDimension.TIME).contains(Units.WEEK));
+		assertEquals(sut.getUnits().stream().filter(u -> UnitDimension.LENGTH.equals(u.getDimension())).count(),
+				sut.getUnits(UnitDimension.LENGTH).size());
+	}
+
+	@Test
+	public void testUnitLookups() {
+		assertEquals(Units.NEWTON, sut.getUnit("N"));
+		assertEquals(Units.NEWTON, sut.getUnit("N", SYMBOL));
+		assertEquals(Units.NEWTON, sut.getUnit("newton", NAME, true));
+		assertEquals(Units.SECOND, sut.getUnit("s", SYMBOL, true));
+		assertEquals(Units.SIEMENS, sut.getUnit("S", SYMBOL, true));
+		assertNull(sut.getUnit("newton", NAME));
+		assertNull(sut.getUnit("xyz"));
+	}
+
+	@Test
+	public void testUnitLookupAfterLabelChange() {
+		final Unit<Length> link = new TransformedUnit<>(Units.METRE, MultiplyConverter.of(0.201168));
+		final AbstractSystemOfUnits system = new TestSystem();
+		system.units.add(link);
+		SimpleUnitFormat.getInstance().label(link, "lnk");
+		assertEquals(link, system.getUnit("lnk"));
+		SimpleUnitFormat.getInstance().label(link, "lnk2");
+		assertEquals(link, system.getUnit("lnk2"));
+		assertNull(system.getUnit("lnk"));
+	}
+
+	@Test
+	public void testSymbolLookupAfterRemovingUnitWithSameSymbol() {
+		final Unit<Length> link = new TransformedUnit<>("lk", Units.METRE, MultiplyConverter.of(0.201168));
+		final Unit<Length> tick = new TransformedUnit<>("lk", Units.METRE, MultiplyConverter.of(0.0213));
+		final AbstractSystemOfUnits system = new TestSystem();
+		system.units.add(link);
+		system.units.add(tick);
+		system.units.remove(system.getUnit("lk", SYMBOL));
+		assertEquals(1, system.getUnits().size());
+		assertEquals(system.getUnits().iterator().next(), system.getUnit("lk", SYMBOL));
+		assertEquals(system.getUnits().iterator().next(), system.getUnit("LK", SYMBOL, true));
+	}
+
+	@Test
+	public void testAddUnitLeavesOtherPrefixedUnitsUnchanged() {
+		final Unit<Length> other = KILO(Units.METRE);
+		final String name = other.getName();
+		final String symbol = other.getSymbol();
+		final Unit<Length> added = AbstractSystemOfUnits.Helper.addUnit(new HashSet<>(), KILO(Units.METRE), "Kilometre",
+				"kmx", NAME_AND_SYMBOL);
+		assertEquals("Kilometre", added.getName());
+		assertEquals("kmx", added.getSymbol());
+		assertNotSame(added, KILO(Units.METRE));
+		assertEquals(name, other.getName());
+		assertEquals(symbol, other.getSymbol());
+		assertEquals(name, KILO(Units.METRE).getName());
+		assertEquals(symbol, KILO(Units.METRE).getSymbol());
+		assertEquals("km", KILO(Units.METRE).toString());
+	}
+
+	private static final class TestSystem extends AbstractSystemOfUnits {
+		@Override
+		public String getName() {
+			return "Test";
+		}
+	}
 }
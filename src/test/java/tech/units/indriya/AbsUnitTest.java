@@ -30,15 +30,19 @@
 package tech.units.indriya;
 
 import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.Quantity.Scale.ABSOLUTE;
+import static javax.measure.Quantity.Scale.RELATIVE;
 import static javax.measure.MetricPrefix.MILLI;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.units.indriya.unit.Units.CELSIUS;
 import static tech.units.indriya.unit.Units.GRAM;
+import static tech.units.indriya.unit.Units.KELVIN;
 import static tech.units.indriya.unit.Units.KILOGRAM;
 import static tech.units.indriya.unit.Units.METRE;
 import static tech.units.indriya.unit.Units.WATT;
@@ -438,4 +442,24 @@ public class AbsUnitTest {
 		assertEquals("kg", ((TransformedUnit<Mass>) GRAM).getParentUnit().getSymbol());
 	}
 
+	@SuppressWarnings({ "unchecked", "rawtypes", "deprecation" })
+	@Test
+	public void testGetConverterToWithScale() {
+		final AbstractUnit celsiusMetre = (AbstractUnit) CELSIUS.multiply(METRE);
+		final Unit kelvinMetre = KELVIN.multiply(METRE);
+		final UnitConverter relative = celsiusMetre.getConverterTo(kelvinMetre, RELATIVE);
+		assertNotNull(relative);
+		assertSame(relative, celsiusMetre.getConverterTo(kelvinMetre, RELATIVE));
+		assertEquals(ABSOLUTE, celsiusMetre.scale);
+		assertThrows(UnsupportedOperationException.class, () -> celsiusMetre.getConverterTo(kelvinMetre, ABSOLUTE));
+		assertThrows(UnsupportedOperationException.class, () -> celsiusMetre.getConverterTo(kelvinMetre));
+	}
+
+	@Test
+	public void testGetConverterToShared() throws Exception {
+		final UnitConverter converter = ((AbstractUnit<Length>) KILO(METRE)).getConverterTo(MILLI(METRE));
+		assertSame(converter, KILO(METRE).getConverterTo(MILLI(METRE)));
+		assertEquals(converter, KILO(METRE).getConverterToAny(MILLI(METRE)));
+		assertSame(KILO(METRE).getConverterToAny(MILLI(METRE)), KILO(METRE).getConverterToAny(MILLI(METRE)));
+	}
 }
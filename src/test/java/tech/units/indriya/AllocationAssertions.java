@@ -0,0 +1,127 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assumptions;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Assertions on the bytes allocated per call of an operation, measured with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} after the operation has been compiled by the JIT.
+ * <p>
+ * The budgets are recorded in <code>allocation-budgets.properties</code>, in bytes per call. When an operation allocates
+ * less than it used to, lower its budget, so that the improvement is kept.
+ * </p>
+ */
+public class AllocationAssertions {
+
+    private static final String BUDGETS = "/allocation-budgets.properties";
+
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 20_000;
+    private static final int ROUNDS = 5;
+
+    private static final Properties budgets = loadBudgets();
+
+    /**
+     * Prevents the JIT from eliminating the measured operation.
+     */
+    private static volatile Object sink;
+
+    private static Properties loadBudgets() {
+        final Properties properties = new Properties();
+        try (InputStream in = AllocationAssertions.class.getResourceAsStream(BUDGETS)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+
+    /**
+     * <em>Asserts</em> that {@code operation} allocates at most the budget recorded for {@code name}, per call. The
+     * assertion is skipped if the JVM does not measure allocations per thread.
+     *
+     * @param name
+     *            the name of the operation in the budgets file.
+     * @param operation
+     *            the operation.
+     */
+    public static void assertWithinBudget(String name, Supplier<?> operation) {
+        final long allocated = allocatedBytesPerCall(operation);
+        final String budget = budgets.getProperty(name);
+        if (budget == null) {
+            throw new AssertionFailedError(String.format("No allocation budget for %s, measured %d bytes per call", name, allocated));
+        }
+        if (allocated > Long.parseLong(budget.trim())) {
+            throw new AssertionFailedError(
+                    String.format("%s allocates %d bytes per call, exceeding its budget of %s bytes", name, allocated, budget.trim()));
+        }
+    }
+
+    /**
+     * Returns the bytes allocated per call of {@code operation} by the current thread, the lowest of several rounds to
+     * leave out allocations of the JIT or other code running in between.
+     *
+     * @param operation
+     *            the operation.
+     * @return the bytes per call.
+     */
+    public static long allocatedBytesPerCall(Supplier<?> operation) {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "allocated bytes per thread not supported");
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                "allocated bytes per thread not enabled");
+        final long thread = Thread.currentThread().getId();
+        run(operation, WARMUP_CALLS);
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            final long before = threads.getThreadAllocatedBytes(thread);
+            run(operation, MEASURED_CALLS);
+            final long after = threads.getThreadAllocatedBytes(thread);
+            lowest = Math.min(lowest, (after - before) / MEASURED_CALLS);
+        }
+        return lowest;
+    }
+
+    private static void run(Supplier<?> operation, int calls) {
+        for (int i = 0; i < calls; i++) {
+            sink = operation.get();
+        }
+    }
+}
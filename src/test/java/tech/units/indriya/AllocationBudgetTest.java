@@ -0,0 +1,129 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya;
+
+import static javax.measure.MetricPrefix.KILO;
+import static tech.units.indriya.AllocationAssertions.assertWithinBudget;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.measure.Quantity;
+import javax.measure.UnitConverter;
+import javax.measure.format.UnitFormat;
+import javax.measure.quantity.Length;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.format.SimpleQuantityFormat;
+import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.internal.format.NumberWriter;
+import tech.units.indriya.internal.function.ScaleHelper;
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Keeps the bytes allocated per call of core operations within the budgets recorded in
+ * <code>allocation-budgets.properties</code>.
+ */
+public class AllocationBudgetTest {
+
+    private static final Quantity<Length> METRES = Quantities.getQuantity(1200, Units.METRE);
+    private static final Quantity<Length> OTHER_METRES = Quantities.getQuantity(34, Units.METRE);
+    private static final Quantity<Length> DOUBLE_METRES = Quantities.getQuantity(1200.5, Units.METRE);
+
+    @Test
+    public void testNumberQuantityAdd() {
+        assertWithinBudget("NumberQuantity.add", () -> METRES.add(OTHER_METRES));
+    }
+
+    @Test
+    public void testNumberQuantityAddDouble() {
+        assertWithinBudget("NumberQuantity.add.double", () -> DOUBLE_METRES.add(OTHER_METRES));
+    }
+
+    @Test
+    public void testScaleHelperConvertTo() {
+        assertWithinBudget("ScaleHelper.convertTo", () -> ScaleHelper.convertTo(METRES, KILO(Units.METRE)));
+    }
+
+    @Test
+    public void testConverterConvertDouble() {
+        final UnitConverter converter = Units.KILOMETRE_PER_HOUR.getConverterTo(Units.METRE_PER_SECOND);
+        assertWithinBudget("AbstractConverter.convert.double", () -> converter.convert(36.0));
+    }
+
+    @Test
+    public void testSimpleUnitFormatParse() {
+        final UnitFormat format = SimpleUnitFormat.getInstance();
+        assertWithinBudget("SimpleUnitFormat.parse", () -> format.parse("km"));
+    }
+
+    @Test
+    public void testSimpleUnitFormatParseProduct() {
+        final UnitFormat format = SimpleUnitFormat.getInstance();
+        assertWithinBudget("SimpleUnitFormat.parse.product", () -> format.parse("kg·m/s²"));
+    }
+
+    @Test
+    public void testNumberWriterAppendDouble() {
+        final StringBuilder dest = new StringBuilder(64);
+        assertWithinBudget("NumberWriter.append.double", () -> {
+            dest.setLength(0);
+            try {
+                return NumberWriter.append(1200.5, dest);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Test
+    public void testSimpleQuantityFormatFormat() {
+        final SimpleQuantityFormat format = SimpleQuantityFormat.getInstance();
+        final StringBuilder dest = new StringBuilder(64);
+        assertWithinBudget("SimpleQuantityFormat.format", () -> {
+            dest.setLength(0);
+            try {
+                return format.format(DOUBLE_METRES, dest);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Test
+    public void testRationalNumberMultiply() {
+        final RationalNumber a = RationalNumber.of(2, 3);
+        final RationalNumber b = RationalNumber.of(9, 4);
+        assertWithinBudget("RationalNumber.multiply", () -> a.multiply(b));
+    }
+}
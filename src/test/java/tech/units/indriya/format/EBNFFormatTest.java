@@ -34,7 +34,9 @@ import static javax.measure.MetricPrefix.MILLI;
 import static javax.measure.MetricPrefix.GIGA;
 import static javax.measure.MetricPrefix.NANO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static tech.units.indriya.unit.Units.*;
 
@@ -212,4 +214,34 @@ public class EBNFFormatTest {
 		final Unit<?> mtr = privateFormat.parse("e");
 		assertEquals(mtr, METRE);
 	}
+
+	@Test
+	public void testParseCache() {
+		final EBNFUnitFormat privateFormat = EBNFUnitFormat.getNewInstance();
+		privateFormat.setParseCacheSize(16);
+		final Unit<?> unit = privateFormat.parse("kW·h");
+		assertEquals(unit, privateFormat.parse("kW·h")); // parsed again, the alias invalidated the cache
+		assertEquals(1, privateFormat.getParseCacheHits());
+		assertEquals(1, privateFormat.getParseCacheMisses());
+
+		assertThrows(MeasurementParseException.class, () -> privateFormat.parse("wh"));
+		privateFormat.alias(unit, "wh");
+		assertEquals(unit, privateFormat.parse("wh"));
+		assertEquals(unit, privateFormat.parse("kW·h")); // parsed again, the alias invalidated the cache
+	}
+
+	@Test
+	public void testTryParse() {
+		final EBNFUnitFormat privateFormat = EBNFUnitFormat.getNewInstance();
+		assertEquals(METRE.divide(SECOND), privateFormat.tryParse("m/s").get());
+
+		final ParseResult<Unit<?>> unknown = privateFormat.tryParse("m/xyz");
+		assertFalse(unknown.isSuccess());
+		assertEquals(2, unknown.getErrorIndex());
+
+		final ParseResult<Unit<?>> lexical = privateFormat.tryParse("m s");
+		assertFalse(lexical.isSuccess());
+		assertEquals(1, lexical.getErrorIndex());
+		assertThrows(IllegalArgumentException.class, () -> privateFormat.parse("m s"));
+	}
 }
@@ -30,6 +30,8 @@
 package tech.units.indriya.format;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static javax.measure.MetricPrefix.*;
 import static tech.units.indriya.unit.Units.*;
@@ -208,4 +210,23 @@ public class LocalUnitFormatTest {
 		String s = format.format(YEAR);
 		assertEquals("jr", s);
 	}
+
+	@Test
+	public void testFormatAfterLabel() {
+		final UnitFormat format = LocalUnitFormat.getInstance(Locale.ENGLISH);
+		final Unit<?> unit = METRE.multiply(SECOND);
+		assertEquals("m·s", format.format(unit));
+		assertEquals("m·s", format.format(unit));
+		format.label(unit, "ms_");
+		assertEquals("ms_", format.format(unit));
+	}
+
+	@Test
+	public void testInstancesAreCachedPerLocale() {
+		final LocalUnitFormat german = LocalUnitFormat.getInstance(Locale.GERMAN);
+		assertSame(german, LocalUnitFormat.getInstance(Locale.GERMAN));
+		assertSame(german, LocalUnitFormat.getInstance(Locale.GERMANY));
+		assertNotSame(german, LocalUnitFormat.getInstance(Locale.FRENCH));
+		assertEquals(KILO(METRE), german.parse("km"));
+	}
 }
@@ -33,6 +33,7 @@ import static javax.measure.MetricPrefix.CENTI;
 import static javax.measure.MetricPrefix.KILO;
 import static javax.measure.MetricPrefix.MEGA;
 import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -44,8 +45,14 @@ import static tech.units.indriya.unit.Units.METRE;
 
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
+import java.text.NumberFormat;
 import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -281,4 +288,86 @@ public class QuantityFormatTest {
         assertNumberEquals(2L, parsed1.getValue(), 1E-12);
         assertEquals(METRE, parsed1.getUnit());
     }
+
+    @Test
+    public void testTryParse() {
+        NumberDelimiterQuantityFormat format1 = NumberDelimiterQuantityFormat.getInstance(DecimalFormat.getInstance(Locale.ROOT),
+                SimpleUnitFormat.getInstance());
+        ParseResult<Quantity<?>> valid = format1.tryParse("1.5 m");
+        assertTrue(valid.isSuccess());
+        assertEquals(METRE, valid.get().getUnit());
+        assertNumberEquals(1.5, valid.get().getValue(), 1E-12);
+
+        ParseResult<Quantity<?>> noNumber = format1.tryParse("m");
+        assertFalse(noNumber.isSuccess());
+        assertEquals(0, noNumber.getErrorIndex());
+        assertFalse(format1.tryParse("1").isSuccess());
+
+        ParseResult<Quantity<?>> noUnit = format1.tryParse("1 xyz");
+        assertFalse(noUnit.isSuccess());
+        assertEquals(2, noUnit.getErrorIndex());
+
+        assertFalse(SimpleQuantityFormat.getInstance().tryParse("1 xyz").isSuccess());
+    }
+
+    @Test
+    public void testParseErrorWithoutStackTrace() {
+        QuantityFormat format1 = NumberDelimiterQuantityFormat.getInstance(DecimalFormat.getInstance(Locale.ROOT),
+                SimpleUnitFormat.getInstance());
+        IllegalArgumentException noNumber = assertThrows(IllegalArgumentException.class, () -> format1.parse("m"));
+        assertEquals("Number cannot be parsed", noNumber.getMessage());
+        assertEquals(0, noNumber.getStackTrace().length);
+        IllegalArgumentException noUnit = assertThrows(IllegalArgumentException.class, () -> format1.parse("12"));
+        assertEquals("No Unit found", noUnit.getMessage());
+        assertEquals(0, noUnit.getStackTrace().length);
+    }
+
+    @Test
+    public void testFormatLeavesNumberFormatUntouched() {
+        final DecimalFormat numberFormat = (DecimalFormat) DecimalFormat.getInstance(Locale.ROOT);
+        final int maxFractionDigits = numberFormat.getMaximumFractionDigits();
+        final NumberDelimiterQuantityFormat format1 = NumberDelimiterQuantityFormat.getInstance(numberFormat,
+                SimpleUnitFormat.getInstance());
+        assertEquals("1.23456 m", format1.format(Quantities.getQuantity(1.23456, METRE)));
+        assertEquals(maxFractionDigits, numberFormat.getMaximumFractionDigits());
+        numberFormat.setMaximumFractionDigits(0);
+        assertEquals("1.5 m", format1.format(Quantities.getQuantity(1.5, METRE)));
+    }
+
+    @Test
+    public void testFormatLargeValues() {
+        final NumberFormat numberFormat = DecimalFormat.getInstance(Locale.ROOT);
+        final NumberDelimiterQuantityFormat format1 = NumberDelimiterQuantityFormat.getInstance(numberFormat,
+                SimpleUnitFormat.getInstance());
+        assertEquals(numberFormat.format(6.02214076E23) + " m", format1.format(Quantities.getQuantity(6.02214076E23, METRE)));
+        assertEquals(numberFormat.format(-1e300) + " m", format1.format(Quantities.getQuantity(-1e300, METRE)));
+        assertEquals("1,234,567 m", format1.format(Quantities.getQuantity(1234567, METRE)));
+    }
+
+    @Test
+    public void testConcurrentFormatAndParse() throws Exception {
+        final NumberDelimiterQuantityFormat format1 = NumberDelimiterQuantityFormat.getInstance(DecimalFormat.getInstance(Locale.ROOT),
+                SimpleUnitFormat.getInstance());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        final double value = i + (i % 7) / 8d;
+                        final String text = format1.format(Quantities.getQuantity(value, METRE));
+                        if (value != format1.parse(text).getValue().doubleValue()) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,220 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.units.indriya.unit.Units.CELSIUS;
+import static tech.units.indriya.unit.Units.KELVIN;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.VOLT;
+import static tech.units.indriya.unit.Units.WATT;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.measure.UnconvertibleException;
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.AbstractUnit;
+
+/**
+ * Tests {@link QuantityReader} against {@link SimpleQuantityFormat}.
+ */
+public class QuantityReaderTest {
+
+    private static final String CSV = "time,power,voltage\n" + "2026-01-01T00:00Z,12.5 kW,230 V\n"
+            + "2026-01-01T00:15Z,1500 W,231.5 V\r\n" + "\n" + "2026-01-01T00:30Z,\"0.5 MW\",-1E2 V\n"
+            + "2026-01-01T00:45Z, 7 kW ,5÷2 V";
+
+    private static QuantityReader.Builder csvBuilder() {
+        return new QuantityReader.Builder().setSkipLines(1).addColumn(1, WATT).addColumn(2);
+    }
+
+    @Test
+    public void testReadValues() throws IOException {
+        try (QuantityReader reader = csvBuilder().open(new StringReader(CSV))) {
+            assertTrue(reader.next());
+            assertEquals(2, reader.getLineNumber());
+            assertEquals(12500, reader.getValue(1));
+            assertEquals(230, reader.getValue(2));
+            assertEquals(WATT, reader.getColumnUnit(1));
+            assertEquals(VOLT, reader.getColumnUnit(2));
+            assertTrue(reader.next());
+            assertEquals(1500, reader.getValue(1));
+            assertEquals(231.5, reader.getValue(2));
+            assertTrue(reader.next());
+            assertEquals(5, reader.getLineNumber());
+            assertEquals(500000, reader.getValue(1));
+            assertEquals(-100, reader.getValue(2));
+            assertTrue(reader.next());
+            assertEquals(7000, reader.getValue(1));
+            assertEquals(2.5, reader.getValue(2));
+            assertFalse(reader.next());
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    public void testReadQuantitiesLikeSimpleQuantityFormat() throws IOException {
+        try (QuantityReader reader = csvBuilder().open(new StringReader(CSV))) {
+            for (String[] cells : new String[][] { { "12.5 kW", "230 V" }, { "1500 W", "231.5 V" },
+                    { "0.5 MW", "-1E2 V" }, { "7 kW", "5÷2 V" } }) {
+                assertTrue(reader.next());
+                assertEquals(SimpleQuantityFormat.getInstance().parse(cells[0]), reader.getQuantity(1));
+                assertEquals(SimpleQuantityFormat.getInstance().parse(cells[1]), reader.getQuantity(2));
+            }
+        }
+    }
+
+    @Test
+    public void testParseEachUnitOnce() throws IOException {
+        try (QuantityReader reader = new QuantityReader.Builder().addColumn(0)
+                .open(new StringReader("1 km\n2 km\n3 m\n4 km\n5"))) {
+            assertTrue(reader.next());
+            final Object kilometre = reader.getUnit(0);
+            assertTrue(reader.next());
+            assertSame(kilometre, reader.getUnit(0));
+            assertTrue(reader.next());
+            assertEquals(METRE, reader.getUnit(0));
+            assertEquals(0.003, reader.getValue(0));
+            assertTrue(reader.next());
+            assertSame(kilometre, reader.getUnit(0));
+            assertTrue(reader.next());
+            assertEquals(AbstractUnit.ONE, reader.getUnit(0));
+            assertEquals(5, reader.getQuantity(0).getValue());
+            assertThrows(UnconvertibleException.class, () -> reader.getValue(0));
+        }
+    }
+
+    @Test
+    public void testConvertOffsetUnits() throws IOException {
+        try (QuantityReader reader = new QuantityReader.Builder().addColumn(0, KELVIN)
+                .open(new StringReader("20 ℃\n300 K"))) {
+            assertTrue(reader.next());
+            assertEquals(293.15, reader.getValue(0), 1E-9);
+            assertEquals(CELSIUS, reader.getUnit(0));
+            assertTrue(reader.next());
+            assertEquals(300, reader.getValue(0));
+        }
+    }
+
+    @Test
+    public void testReadColumnBuffers() throws IOException {
+        final double[][] values = new double[2][6];
+        try (QuantityReader reader = csvBuilder().open(new StringReader(CSV))) {
+            assertEquals(3, reader.read(values, 1, 3));
+            assertEquals(1, reader.read(values, 4, 2));
+            assertEquals(-1, reader.read(values, 0, 6));
+        }
+        assertArrayEquals(new double[] { 0, 12500, 1500, 500000, 7000, 0 }, values[0]);
+        assertArrayEquals(new double[] { 0, 230, 231.5, -100, 2.5, 0 }, values[1]);
+    }
+
+    @Test
+    public void testReadLargeInput() throws IOException {
+        final StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            csv.append(i).append(";\"").append(i).append(".25 ").append(i % 2 == 0 ? "m" : "km").append("\"\n");
+        }
+        final double[][] values = new double[1][100_000];
+        try (QuantityReader reader = new QuantityReader.Builder().setDelimiter(';').addColumn(1, METRE)
+                .open(new StringReader(csv.toString()))) {
+            assertEquals(100_000, reader.read(values, 0, 100_000));
+            assertFalse(reader.next());
+        }
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i % 2 == 0 ? i + 0.25 : (i + 0.25) * 1000, values[0][i], 1E-6);
+        }
+    }
+
+    @Test
+    public void testReadFilesAndChannels() throws IOException {
+        final Path path = Files.createTempFile("quantities", ".csv");
+        try {
+            Files.write(path, CSV.getBytes(StandardCharsets.UTF_8));
+            final double[][] expected = new double[2][4];
+            try (QuantityReader reader = csvBuilder().open(new StringReader(CSV))) {
+                reader.read(expected, 0, 4);
+            }
+            for (boolean memoryMapped : new boolean[] { false, true }) {
+                final double[][] values = new double[2][4];
+                try (QuantityReader reader = csvBuilder().setMemoryMapped(memoryMapped).open(path)) {
+                    assertEquals(4, reader.read(values, 0, 4));
+                }
+                assertArrayEquals(expected, values);
+            }
+            final double[][] values = new double[2][4];
+            try (QuantityReader reader = csvBuilder().open(Channels.newChannel(Files.newInputStream(path)))) {
+                assertEquals(4, reader.read(values, 0, 4));
+            }
+            assertArrayEquals(expected, values);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testErrors() throws IOException {
+        try (QuantityReader reader = new QuantityReader.Builder().addColumn(1)
+                .open(new StringReader("a,1 m\nb,1.2.3 m\nc,2 foo\nd\ne,\nf,3 s"))) {
+            assertTrue(reader.next());
+            assertThrows(IllegalArgumentException.class, () -> reader.getValue(0));
+            assertEquals(1, reader.getValue(1));
+            assertTrue(reader.next());
+            MeasurementParseException e = assertThrows(MeasurementParseException.class, () -> reader.getValue(1));
+            assertEquals("b,1.2.3 m", e.getParsedString());
+            assertEquals(2, e.getPosition());
+            assertTrue(e.getMessage().startsWith("Line 2:"), e.getMessage());
+            assertThrows(MeasurementParseException.class, () -> reader.getQuantity(1));
+            assertTrue(reader.next());
+            e = assertThrows(MeasurementParseException.class, () -> reader.getValue(1));
+            assertEquals(4, e.getPosition());
+            assertTrue(reader.next());
+            assertThrows(MeasurementParseException.class, () -> reader.getValue(1));
+            assertTrue(reader.next());
+            assertThrows(MeasurementParseException.class, () -> reader.getValue(1));
+            assertTrue(reader.next());
+            assertThrows(UnconvertibleException.class, () -> reader.getValue(1));
+        }
+        assertThrows(IllegalStateException.class, () -> new QuantityReader.Builder().open(new StringReader("")));
+        assertThrows(IllegalArgumentException.class, () -> new QuantityReader.Builder().addColumn(-1));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.VOLT;
+import static tech.units.indriya.unit.Units.WATT;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Tests {@link QuantityWriter} against {@link SimpleQuantityFormat} and {@link QuantityReader}.
+ */
+public class QuantityWriterTest {
+
+    private static final Unit<?> KILOWATT = MetricPrefix.KILO(WATT);
+
+    @Test
+    public void testWriteCsvLikeSimpleQuantityFormat() throws IOException {
+        final Quantity<?>[] quantities = { Quantities.getQuantity(12.5, KILOWATT), Quantities.getQuantity(1500, WATT),
+                Quantities.getQuantity(new BigDecimal("0.1234567"), VOLT), Quantities.getQuantity(6.02214076E23, METRE),
+                Quantities.getQuantity(RationalNumber.of(5, 2), METRE), Quantities.getQuantity(3L, AbstractUnit.ONE),
+                Quantities.getQuantity(-0.0, Units.CELSIUS), Quantities.getQuantity(1.5f, Units.SECOND) };
+        final StringWriter out = new StringWriter();
+        final StringBuilder expected = new StringBuilder();
+        try (QuantityWriter writer = new QuantityWriter.Builder().open(out)) {
+            for (Quantity<?> quantity : quantities) {
+                writer.writeQuantity(quantity).endRecord();
+                expected.append(SimpleQuantityFormat.getInstance().format(quantity)).append('\n');
+            }
+        }
+        assertEquals(expected.toString(), out.toString());
+    }
+
+    @Test
+    public void testWriteCsv() throws IOException {
+        final StringWriter out = new StringWriter();
+        try (QuantityWriter writer = new QuantityWriter.Builder().setDelimiter(';').open(out)) {
+            writer.writeText("time").writeText("a;b").writeText("say \"hi\"").endRecord();
+            writer.writeText("2026-01-01T00:00Z").writeValue(12.5, KILOWATT).writeValue(230L, VOLT).endRecord();
+            writer.writeColumns(new double[][] { { 1, 2, 3 }, { 0.1, Double.NaN, 1E-7 } },
+                    new Unit<?>[] { METRE, AbstractUnit.ONE }, 1, 2);
+            writer.writeValue(7, KILOWATT);
+        }
+        assertEquals("time;\"a;b\";\"say \"\"hi\"\"\"\n" + "2026-01-01T00:00Z;12.5 kW;230 V\n" + "2.0 m;NaN\n"
+                + "3.0 m;1.0E-7\n" + "7 kW\n", out.toString());
+    }
+
+    @Test
+    public void testWriteJson() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (QuantityWriter writer = new QuantityWriter.Builder().setSyntax(QuantityWriter.Syntax.JSON).open(out)) {
+            writer.writeText("2026-01-01T00:00Z\t\"µ\"\u0001").writeValue(12.5, KILOWATT)
+                    .writeQuantity(Quantities.getQuantity(RationalNumber.of(5, 2), VOLT)).endRecord();
+            writer.endRecord();
+            writer.writeColumns(new double[][] { { Double.POSITIVE_INFINITY, 1E21 } },
+                    new Unit<?>[] { Units.CELSIUS }, 0, 2);
+            writer.writeQuantity(Quantities.getQuantity(1.5f, METRE));
+        }
+        assertEquals("[\n"
+                + "[\"2026-01-01T00:00Z\\t\\\"µ\\\"\\u0001\",{\"value\":12.5,\"unit\":\"kW\"},{\"value\":2.5,\"unit\":\"V\"}],\n"
+                + "[],\n" + "[{\"value\":null,\"unit\":\"℃\"}],\n" + "[{\"value\":1.0E21,\"unit\":\"℃\"}],\n"
+                + "[{\"value\":1.5,\"unit\":\"m\"}]\n" + "]\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        final StringWriter empty = new StringWriter();
+        new QuantityWriter.Builder().setSyntax(QuantityWriter.Syntax.JSON).open(empty).close();
+        assertEquals("[]\n", empty.toString());
+    }
+
+    @Test
+    public void testRoundTripThroughQuantityReader() throws IOException {
+        final Random random = new Random(42);
+        final int records = 50_000;
+        final double[][] values = new double[2][records];
+        for (int i = 0; i < records; i++) {
+            values[0][i] = random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+            values[1][i] = random.nextLong();
+        }
+        final StringWriter out = new StringWriter();
+        try (QuantityWriter writer = new QuantityWriter.Builder().open(out)) {
+            writer.writeColumns(values, new Unit<?>[] { KILOWATT, VOLT }, 0, records);
+        }
+        final double[][] read = new double[2][records];
+        try (QuantityReader reader = new QuantityReader.Builder().addColumn(0, KILOWATT).addColumn(1, VOLT)
+                .open(new StringReader(out.toString()))) {
+            assertEquals(records, reader.read(read, 0, records));
+            assertFalse(reader.next());
+        }
+        assertArrayEquals(values[0], read[0]);
+        assertArrayEquals(values[1], read[1]);
+        assertTrue(out.toString().startsWith(Double.toString(values[0][0]) + " kW,"));
+    }
+}
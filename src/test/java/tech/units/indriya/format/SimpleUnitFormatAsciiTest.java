@@ -335,4 +335,12 @@ public class SimpleUnitFormatAsciiTest {
 		logger.log(LOG_LEVEL, format.format(MONTH)); 
 		assertEquals(MONTH, format.parse("mo"));
 	}
+
+    @Test
+    public void testParseAsciiPrefixes() {
+        assertEquals(MICRO(GRAM), format.parse("microg"));
+        assertEquals(MILLI(OHM), format.parse("mOhm"));
+        assertEquals("KiOhm", format.format(KIBI(OHM)));
+        assertEquals(KIBI(OHM), format.parse("KiOhm"));
+    }
 }
@@ -32,6 +32,7 @@ package tech.units.indriya.format;
 import static javax.measure.BinaryPrefix.KIBI;
 import static javax.measure.BinaryPrefix.TEBI;
 import static javax.measure.MetricPrefix.CENTI;
+import static javax.measure.MetricPrefix.DECA;
 import static javax.measure.MetricPrefix.GIGA;
 import static javax.measure.MetricPrefix.KILO;
 import static javax.measure.MetricPrefix.MEGA;
@@ -39,10 +40,13 @@ import static javax.measure.MetricPrefix.MICRO;
 import static javax.measure.MetricPrefix.MILLI;
 import static javax.measure.MetricPrefix.NANO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.units.indriya.format.SimpleUnitFormat.Flavor.ASCII;
 import static tech.units.indriya.unit.Units.CANDELA;
 import static tech.units.indriya.unit.Units.GRAM;
@@ -484,4 +488,98 @@ public class SimpleUnitFormatTest {
 			assertNull(newFormat.parse("cn"));
 		});
 	}
+
+	@Test
+	public void testParseCache() {
+		final SimpleUnitFormat newFormat = SimpleUnitFormat.getNewInstance();
+		newFormat.setParseCacheSize(16);
+		final Unit<?> unit = newFormat.parse("N·m/s²");
+		assertSame(unit, newFormat.parse("N·m/s²"));
+		assertEquals(1, newFormat.getParseCacheHits());
+		assertEquals(1, newFormat.getParseCacheMisses());
+
+		newFormat.alias(CANDELA, "cn");
+		assertEquals(CANDELA, newFormat.parse("cn"));
+		newFormat.removeAliases(CANDELA);
+		assertThrows(MeasurementParseException.class, () -> newFormat.parse("cn"));
+
+		newFormat.setParseCacheSize(0);
+		assertEquals(0, newFormat.getParseCacheHits());
+	}
+
+	@Test
+	public void testFormatAfterLabel() {
+		final SimpleUnitFormat newFormat = SimpleUnitFormat.getNewInstance();
+		final Unit<?> unit = METRE.multiply(CANDELA);
+		assertEquals("m·cd", newFormat.format(unit));
+		assertEquals("m·cd", newFormat.format(unit));
+		newFormat.label(unit, "mcd_");
+		assertEquals("mcd_", newFormat.format(unit));
+		newFormat.removeLabel(unit);
+		assertEquals("m·cd", newFormat.format(unit));
+	}
+
+	@Test
+	public void testTryParse() {
+		final SimpleUnitFormat format = SimpleUnitFormat.getInstance();
+		final ParseResult<Unit<?>> valid = format.tryParse("m/s");
+		assertTrue(valid.isSuccess());
+		assertEquals(METRE_PER_SECOND, valid.get());
+		assertEquals(-1, valid.getErrorIndex());
+
+		final ParseResult<Unit<?>> invalid = format.tryParse("m/xyz");
+		assertFalse(invalid.isSuccess());
+		assertEquals(2, invalid.getErrorIndex());
+		assertNotNull(invalid.getReason());
+		assertNull(invalid.orElse(null));
+		assertThrows(MeasurementParseException.class, invalid::get);
+
+		final MeasurementParseException e = assertThrows(MeasurementParseException.class, () -> format.parse("m/xyz"));
+		assertEquals(0, e.getStackTrace().length);
+	}
+
+	@Test
+	public void testParseBinaryPrefixes() {
+		assertEquals(KIBI(GRAM), format.parse("Kig"));
+		assertEquals(TEBI(HERTZ), format.parse("TiHz"));
+		assertEquals(KIBI(Units.WATT), format.parse("KiW"));
+		assertEquals("KiW", format.format(KIBI(Units.WATT)));
+	}
+
+	@Test
+	public void testParseMicroVariants() {
+		assertEquals(MICRO(GRAM), format.parse("µg"));
+		assertEquals(MICRO(GRAM), format.parse("μg"));
+		assertEquals(MICRO(OHM), format.parse("µΩ"));
+		assertEquals(MICRO(OHM), format.parse("μ\u2126"));
+		assertEquals("μΩ", format.format(format.parse("µOhm")));
+	}
+
+	@Test
+	public void testParseLongestPrefix() {
+		assertEquals(Units.PASCAL, format.parse("Pa"));
+		assertEquals(Units.MINUTE, format.parse("min"));
+		assertEquals(MILLI(Units.MOLE), format.parse("mmol"));
+		assertEquals(DECA(METRE), format.parse("dam"));
+		assertThrows(MeasurementParseException.class, () -> format.parse("kmin"));
+	}
+
+	@Test
+	public void testLabelWhileParsing() throws InterruptedException {
+		final SimpleUnitFormat labelled = SimpleUnitFormat.getNewInstance();
+		final Thread writer = new Thread(() -> {
+			for (int i = 1; i <= 200; i++) {
+				labelled.label(METRE.multiply(i), "u" + i);
+			}
+		});
+		writer.start();
+		while (writer.isAlive()) {
+			assertEquals(KILO(METRE), labelled.parse("km"));
+			assertEquals(METRE_PER_SECOND, labelled.parse("m/s"));
+		}
+		writer.join();
+		for (int i = 1; i <= 200; i++) {
+			assertEquals(METRE.multiply(i), labelled.parse("u" + i));
+		}
+	}
 }
@@ -30,10 +30,13 @@
 package tech.units.indriya.format;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.Locale;
 import java.util.ResourceBundle;
 
+import javax.measure.BinaryPrefix;
 import javax.measure.MetricPrefix;
 import javax.measure.Unit;
 
@@ -86,4 +89,29 @@ public class SymbolMapTest {
     
     assertEquals(MetricPrefix.DEKA(Units.GRAM), u2);
   }
+
+  @Test
+  public void testResolvesUnitsAndPrefixes() {
+    SymbolMap symbols = SymbolMap.of(ResourceBundle.getBundle(BUNDLE_NAME, Locale.ROOT));
+    assertEquals(Units.METRE, symbols.getUnit("m"));
+    assertEquals("m", symbols.getSymbol(Units.METRE));
+    assertEquals(MetricPrefix.KILO, symbols.getPrefix(MetricPrefix.KILO.getSymbol() + "m"));
+    assertEquals(BinaryPrefix.KIBI, symbols.getPrefix("Kim"));
+    assertEquals("Ki", symbols.getSymbol(BinaryPrefix.KIBI));
+  }
+
+  @Test
+  public void testLabelPublishesNewMappings() {
+    SymbolMap symbols = SymbolMap.of(ResourceBundle.getBundle(BUNDLE_NAME, Locale.ROOT));
+    final long version = symbols.getVersion();
+    final Unit<?> furlong = Units.METRE.multiply(201.168);
+    assertNull(symbols.getUnit("fur"));
+    symbols.label(furlong, "fur");
+    symbols.alias(furlong, "furlong");
+    assertNotEquals(version, symbols.getVersion());
+    assertEquals(furlong, symbols.getUnit("fur"));
+    assertEquals(furlong, symbols.getUnit("furlong"));
+    assertEquals("fur", symbols.getSymbol(furlong));
+    assertEquals(Units.METRE, symbols.getUnit("m"));
+  }
 }
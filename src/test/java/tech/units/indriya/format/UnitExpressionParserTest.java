@@ -0,0 +1,129 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+import java.io.StringReader;
+import java.text.ParsePosition;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Prefix;
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import tech.units.indriya.format.UnitFormatRoundtripUtil.NonPrefixedUnits;
+import tech.units.indriya.internal.format.UnitExpressionParser;
+import tech.units.indriya.internal.format.UnitFormatParser;
+
+/**
+ * Differential test of {@link UnitExpressionParser} against the generated {@link UnitFormatParser}.
+ */
+public class UnitExpressionParserTest {
+
+  private static final EBNFUnitFormat FORMAT = EBNFUnitFormat.getInstance();
+
+  @ParameterizedTest(name = "{index} => unit=''{0}''")
+  @EnumSource(NonPrefixedUnits.class)
+  public void testRoundtripCorpus(NonPrefixedUnits candidate) {
+    assertSameResult(FORMAT.format(candidate.unit));
+    for (Prefix prefix : MetricPrefix.values()) {
+      assertSameResult(FORMAT.format(candidate.unit.prefix(prefix)));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "m", "km", "m/s", "m·s", "m*s", "m/s²", "m²·s⁻¹", "m^2", "m^-2", "m^+3", "m^(1/2)",
+      "m^(-3/2)", "m¹⁰", "(m/s)^2", "m/(s·kg)", "kg·m/s²", "2·m", "0.5·m", "1.5e3·m", "m·1000", "m+2", "m-2.5",
+      "273.15+K", "1-m", "log(m)", "log2(m)", "ln(m)", "2^m", "e^m", "e", "e·m", "m·e", "m:s", "m::",
+      "((m))", "K+273.15", "°C", "%", "m/s/s", "MV·A", "µs", "μm",
+      // invalid
+      "", "m/", "/m", "m^", "m^x", "m^(2", "m)", "(m", "m s", "m..s", "1.", ".", "xyz", "kxyz", "m·*s", "m¹²",
+      "99999999999999999999·m", "m^99999999999", "log(m", "ln m", "e^", "2e", "+m", "m+" })
+  public void testExpressions(String expression) {
+    assertSameResult(expression);
+  }
+
+  @Test
+  public void testErrorIndex() {
+    MeasurementParseException e = assertThrows(MeasurementParseException.class, () -> parse("m·/s"));
+    assertEquals(2, e.getPosition());
+    e = assertThrows(MeasurementParseException.class, () -> parse("m/xyz"));
+    assertEquals(2, e.getPosition());
+    final ParsePosition pos = new ParsePosition(3);
+    assertThrows(IllegalArgumentException.class, () -> FORMAT.parse("ab m s", pos));
+    assertEquals(4, pos.getErrorIndex());
+  }
+
+  @Test
+  public void testRange() {
+    final UnitExpressionParser parser = new UnitExpressionParser(FORMAT.getSymbols(), "(m/s)", 1, 4);
+    assertEquals(METRE.divide(SECOND), parser.parseUnit());
+    assertEquals(-1, parser.getErrorIndex());
+  }
+
+  private static Unit<?> parse(String expression) {
+    return new UnitExpressionParser(FORMAT.getSymbols(), expression, 0, expression.length()).parseUnit();
+  }
+
+  private static void assertSameResult(String expression) {
+    Unit<?> expected = null;
+    Throwable expectedError = null;
+    try {
+      expected = new UnitFormatParser(FORMAT.getSymbols(), new StringReader(expression)).parseUnit();
+    } catch (RuntimeException | TokenMgrError e) {
+      expectedError = e;
+    }
+    Unit<?> actual = null;
+    try {
+      actual = parse(expression);
+    } catch (RuntimeException e) {
+      if (expectedError == null) {
+        fail("'" + expression + "' failed but is accepted by the generated parser: " + e);
+      }
+      return;
+    }
+    assertNotNull(actual);
+    if (expectedError != null) {
+      fail("'" + expression + "' parsed to " + actual + " but is rejected by the generated parser: " + expectedError);
+    }
+    assertEquals(expected, actual, expression);
+  }
+}
@@ -45,4 +45,13 @@ public class CalculusTest {
 		assertNotNull(availableNumberSystems);
 		assertFalse(availableNumberSystems.isEmpty());
 	}
+
+	@Test
+	public void testGetNumberSystem() {
+		final NumberSystem system = Calculus.getNumberSystem(DefaultNumberSystem.class.getName());
+		assertSame(system, Calculus.getNumberSystem(DefaultNumberSystem.class.getName()));
+		assertThrows(IllegalArgumentException.class, () -> Calculus.getNumberSystem("NoSuchNumberSystem"));
+		Calculus.reloadNumberSystems();
+		assertEquals(DefaultNumberSystem.class, Calculus.getNumberSystem(DefaultNumberSystem.class.getName()).getClass());
+	}
 }
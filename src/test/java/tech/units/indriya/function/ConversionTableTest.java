@@ -0,0 +1,145 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.units.indriya.NumberAssertions.assertNumberEquals;
+import static tech.units.indriya.unit.Units.CELSIUS;
+import static tech.units.indriya.unit.Units.GRAM;
+import static tech.units.indriya.unit.Units.KILOGRAM;
+import static tech.units.indriya.unit.Units.KILOMETRE_PER_HOUR;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.METRE_PER_SECOND;
+
+import java.lang.ref.WeakReference;
+
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.AbstractSystemOfUnits;
+import tech.units.indriya.unit.Units;
+
+public class ConversionTableTest {
+  private final ConversionTable table = ConversionTable.of(Units.getInstance());
+
+  @Test
+  public void testCached() {
+    assertSame(table, ConversionTable.of(Units.getInstance()));
+  }
+
+  @Test
+  public void testRecomputedWhenUnitsChange() {
+    final TestSystem system = new TestSystem(METRE, GRAM);
+    final ConversionTable before = ConversionTable.of(system);
+    assertSame(before, ConversionTable.of(system));
+    system.remove(GRAM);
+    system.add(KILOGRAM); // same number of units
+    final ConversionTable after = ConversionTable.of(system);
+    assertNotSame(before, after);
+    assertEquals(ConversionTable.NO_ID, after.idOf(GRAM));
+    assertTrue(after.idOf(KILOGRAM) >= 0);
+  }
+
+  @Test
+  public void testDoesNotRetainSystem() throws InterruptedException {
+    TestSystem system = new TestSystem(METRE);
+    ConversionTable.of(system);
+    final WeakReference<TestSystem> reference = new WeakReference<>(system);
+    system = null;
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertNull(reference.get());
+  }
+
+  @Test
+  public void testIds() {
+    final int id = table.idOf(METRE);
+    assertTrue(id >= 0);
+    assertEquals(METRE, table.unitOf(id));
+    assertEquals(ConversionTable.NO_ID, table.idOf(CELSIUS));
+  }
+
+  @Test
+  public void testFactor() {
+    final int kmh = table.idOf(KILOMETRE_PER_HOUR);
+    final int ms = table.idOf(METRE_PER_SECOND);
+    assertEquals(KILOMETRE_PER_HOUR.getConverterTo(METRE_PER_SECOND).convert(1d), table.factor(kmh, ms), 1E-15);
+    assertEquals(3.6, table.factor(ms, kmh), 1E-15);
+    assertEquals(RationalNumber.of(5, 18), table.exactFactor(kmh, ms));
+    assertNumberEquals(1000, table.exactFactor(table.idOf(KILOGRAM), table.idOf(GRAM)), 1E-30);
+  }
+
+  @Test
+  public void testConvertArray() {
+    final double[] values = { 0, 36, 72 };
+    table.convert(table.idOf(KILOMETRE_PER_HOUR), table.idOf(METRE_PER_SECOND), values);
+    assertArrayEquals(new double[] { 0, 10, 20 }, values, 1E-12);
+  }
+
+  @Test
+  public void testIncompatible() {
+    final int m = table.idOf(METRE);
+    final int kg = table.idOf(KILOGRAM);
+    assertFalse(table.isConvertible(m, kg));
+    assertThrows(UnconvertibleException.class, () -> table.factor(m, kg));
+  }
+
+  private static final class TestSystem extends AbstractSystemOfUnits {
+    TestSystem(Unit<?>... units) {
+      for (Unit<?> unit : units) {
+        add(unit);
+      }
+    }
+
+    void add(Unit<?> unit) {
+      units.add(unit);
+    }
+
+    void remove(Unit<?> unit) {
+      units.remove(unit);
+    }
+
+    @Override
+    public String getName() {
+      return "Test";
+    }
+  }
+}
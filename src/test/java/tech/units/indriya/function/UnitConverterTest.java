@@ -34,6 +34,7 @@ import static javax.measure.MetricPrefix.KILO;
 import static javax.measure.MetricPrefix.MICRO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static tech.units.indriya.NumberAssertions.assertNumberEquals;
 import static tech.units.indriya.unit.Units.CELSIUS;
 import static tech.units.indriya.unit.Units.GRAM;
@@ -95,4 +96,15 @@ public class UnitConverterTest {
   public void testChainedOps() {
     assertEquals(MICRO(GRAM).getConverterTo(GRAM.divide(1000).divide(1000)), GRAM.divide(1000).divide(1000).getConverterTo(MICRO(GRAM)));
   }
+
+  @Test
+  public void testConcatenateMemoized() {
+    final UnitConverter shift = new AddConverter(273.15);
+    final UnitConverter scale = MultiplyConverter.ofRational(9, 5);
+    final UnitConverter composed = scale.concatenate(shift);
+    assertSame(composed, scale.concatenate(shift));
+    assertSame(composed, MultiplyConverter.ofRational(9, 5).concatenate(new AddConverter(273.15)));
+    assertEquals(composed, new AbstractConverter.Pair(scale, shift));
+    assertNumberEquals(491.67, composed.convert(RationalNumber.ZERO), 1E-12);
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedFileReader}, with regions small enough for characters to span them.
+ */
+public class MappedFileReaderTest {
+
+    private static String readAll(Reader reader, int chunk) throws IOException {
+        final StringBuilder text = new StringBuilder();
+        final char[] buffer = new char[chunk];
+        for (int count; (count = reader.read(buffer, 0, chunk)) >= 0;) {
+            text.append(buffer, 0, count);
+        }
+        return text.toString();
+    }
+
+    @Test
+    public void testDecodeAcrossRegions() throws IOException {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            text.append(i).append(" µm, ").append(i).append(" ℃, ").append(i).append(" 𝄞\n");
+        }
+        final Path path = Files.createTempFile("mapped", ".txt");
+        try {
+            for (Charset charset : new Charset[] { StandardCharsets.UTF_8, StandardCharsets.UTF_16LE }) {
+                Files.write(path, text.toString().getBytes(charset));
+                for (long regionSize : new long[] { 16, 17, 31, 1 << 20 }) {
+                    for (int chunk : new int[] { 1, 7, 8192 }) {
+                        try (Reader reader = new MappedFileReader(path, charset, regionSize)) {
+                            assertEquals(text.toString(), readAll(reader, chunk), charset + " " + regionSize + " " + chunk);
+                        }
+                    }
+                }
+            }
+            Files.write(path, new byte[0]);
+            try (Reader reader = new MappedFileReader(path, StandardCharsets.UTF_8)) {
+                assertEquals(-1, reader.read(new char[4], 0, 4));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares {@link NumberScanner} with the {@link NumberFormat} and {@link BigDecimal} parsing it replaces.
+ */
+public class NumberScannerTest {
+
+    private static final String[] NUMBERS = { "0", "-0", "0.0", "-0.0", "1", "12.5", "-12.5", "12.5 km", "1,234.5",
+            "1,234,567", "1,2,3", "1,", "1,.5", "1.2.3", "1.,2", ".5", "-.5", "00012", "0.000123", "1E3", "1.5E3",
+            "1.5E-3", "-2.5E-3m", "1E", "1E-", "1E+3", "2E0", "1e3", "123456789012345678", "1234567890123456789",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+            "12345678901234567890123", "0.1", "0.3", "3.141592653589793238462643383279", "1.7976931348623157E308",
+            "4.9E-324", "1E400", "1E-400", "123456789E-30", "9007199254740993", "100000000000000000000E-3",
+            "1000000000000000000000", "1E19", "9.223372036854775807E18", "∞", "-∞", "NaN", "", "-", "x", "-x", "m",
+            "1'000", "1\u2019000", "\u0661\u0662", "\u0e51\u0e52.\u0e55", "12 345", "12\u00a0345", "12\u202f345" };
+
+    @Test
+    public void testParseLikeDecimalFormat() {
+        for (Locale locale : new Locale[] { Locale.ROOT, Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("de", "CH"),
+                new Locale("th", "TH", "TH") }) {
+            final NumberFormat format = NumberFormat.getInstance(locale);
+            final NumberScanner scanner = NumberScanner.of(format);
+            assertNotNull(scanner, locale.toString());
+            for (String number : NUMBERS) {
+                for (int start : new int[] { 0, 1 }) {
+                    final String text = " " + number;
+                    final ParsePosition expectedPos = new ParsePosition(start);
+                    final ParsePosition actualPos = new ParsePosition(start);
+                    final Number expected = format.parse(text, expectedPos);
+                    final Number actual = scanner.parse(text, actualPos);
+                    final String message = locale + ": '" + text + "' at " + start;
+                    assertEquals(expected, actual, message);
+                    assertEquals(expectedPos.getIndex(), actualPos.getIndex(), message);
+                    assertEquals(expectedPos.getErrorIndex(), actualPos.getErrorIndex(), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUnsupportedFormats() {
+        assertNull(NumberScanner.of(NumberFormat.getPercentInstance(Locale.US)));
+        assertNull(NumberScanner.of(NumberFormat.getCurrencyInstance(Locale.US)));
+        assertNull(NumberScanner.of(NumberFormat.getIntegerInstance(Locale.US)));
+        final DecimalFormat bigDecimalFormat = new DecimalFormat("#,##0.###");
+        bigDecimalFormat.setParseBigDecimal(true);
+        assertNull(NumberScanner.of(bigDecimalFormat));
+    }
+
+    private static final String[] LITERALS = { "0", "-0", "+0", "1", "+1", "-1", "12.5", "12.50", "-12.5", "1.", ".5",
+            ".", "-", "+", "", "1E3", "1e3", "1.5E+3", "1.5E-3", "1E", "1E+", "1E3.5", "1.2.3", "12a", "a12", "1,5",
+            "123456789012345678", "1234567890123456789", "12345678901234567890.123", "0.000000000000000000001",
+            "1E999999999", "1E9999999999", "١٢", "9007199254740993", "0.1", "1E22", "1E23", "1E-22", "1E-23",
+            "1.7976931348623157E308", "4.9E-324", "1E400", "1E-400", "1d", "NaN", "Infinity", "0x10" };
+
+    @Test
+    public void testParseLiteralLikeBigDecimal() {
+        for (String literal : LITERALS) {
+            BigDecimal expected;
+            try {
+                expected = new BigDecimal(literal);
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            final String text = "x" + literal + "y";
+            assertEquals(expected, NumberScanner.parseLiteral(text, 1, text.length() - 1), literal);
+        }
+    }
+
+    @Test
+    public void testParseDoubleLiteralLikeDoubleParseDouble() {
+        for (String literal : LITERALS) {
+            Double expected;
+            try {
+                final BigDecimal value = new BigDecimal(literal);
+                // Double.parseDouble keeps the sign of zero, but does not know all the digits BigDecimal does
+                expected = value.signum() == 0 ? Double.parseDouble(literal) : value.doubleValue();
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            final String text = "x" + literal + "y";
+            if (expected == null) {
+                assertThrows(NumberFormatException.class, () -> NumberScanner.parseDoubleLiteral(text, 1, text.length() - 1), literal);
+            } else {
+                assertEquals(expected, NumberScanner.parseDoubleLiteral(text, 1, text.length() - 1), literal);
+            }
+        }
+        final Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            final String literal = random.nextBoolean() ? Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20))
+                    : BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(50) - 25).toString();
+            assertEquals(Double.parseDouble(literal), NumberScanner.parseDoubleLiteral(literal, 0, literal.length()), literal);
+        }
+    }
+}
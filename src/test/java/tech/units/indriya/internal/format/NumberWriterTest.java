@@ -0,0 +1,195 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.function.RationalNumber;
+
+/**
+ * Tests {@link NumberWriter} against {@link Double#toString(double)}, {@link Number#toString()} and
+ * {@link NumberFormat}.
+ */
+public class NumberWriterTest {
+
+    private static String write(double value) throws IOException {
+        return NumberWriter.append(value, new StringBuilder()).toString();
+    }
+
+    @Test
+    public void testDoubles() throws IOException {
+        assertEquals("0.0", write(0.0));
+        assertEquals("-0.0", write(-0.0));
+        assertEquals("1.0", write(1));
+        assertEquals("-12.5", write(-12.5));
+        assertEquals("0.1", write(0.1));
+        assertEquals("100.0", write(100));
+        assertEquals("9999999.0", write(9999999));
+        assertEquals("1.0E7", write(1e7));
+        assertEquals("0.001", write(0.001));
+        assertEquals("9.99E-4", write(0.000999));
+        assertEquals("1.0E23", write(1e23));
+        assertEquals("2.0E23", write(2e23));
+        assertEquals("4.9E-324", write(Double.MIN_VALUE));
+        assertEquals("2.2250738585072014E-308", write(Double.MIN_NORMAL));
+        assertEquals("1.7976931348623157E308", write(Double.MAX_VALUE));
+        assertEquals("3.141592653589793", write(Math.PI));
+        assertEquals("NaN", write(Double.NaN));
+        assertEquals("Infinity", write(Double.POSITIVE_INFINITY));
+        assertEquals("-Infinity", write(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    public void testShortestRoundTrip() throws IOException {
+        final Random random = new Random(385);
+        for (int i = 0; i < 20_000; i++) {
+            assertShortestRoundTrip(Double.longBitsToDouble(random.nextLong()));
+            assertShortestRoundTrip(random.nextInt(1_000_000) / 1000d);
+        }
+        for (int e = -1074; e <= 1023; e++) {
+            assertShortestRoundTrip(Math.scalb(1.0, e));
+        }
+    }
+
+    private static void assertShortestRoundTrip(double value) throws IOException {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        final String text = write(value);
+        assertEquals(value, Double.parseDouble(text), text);
+        assertEquals(Double.toString(value).contains("E"), text.contains("E"), text);
+        final String digits = new BigDecimal(text).unscaledValue().abs().toString().replaceAll("0+$", "");
+        if (digits.length() > 2) {
+            // no decimal with one digit less rounds to the value
+            final BigDecimal exact = new BigDecimal(value);
+            final MathContext shorter = new MathContext(digits.length() - 1, RoundingMode.FLOOR);
+            assertFalse(exact.round(shorter).doubleValue() == value, text);
+            assertFalse(exact.round(new MathContext(digits.length() - 1, RoundingMode.CEILING)).doubleValue() == value,
+                    text);
+        }
+    }
+
+    @Test
+    public void testFractionDigits() {
+        assertEquals(0, NumberWriter.fractionDigits(0));
+        assertEquals(0, NumberWriter.fractionDigits(12));
+        assertEquals(1, NumberWriter.fractionDigits(-12.5));
+        assertEquals(5, NumberWriter.fractionDigits(1.23456));
+        assertEquals(3, NumberWriter.fractionDigits(0.001));
+        assertEquals(6, NumberWriter.fractionDigits(0.000999));
+        assertEquals(1, NumberWriter.fractionDigits(0.1));
+        assertEquals(17, NumberWriter.fractionDigits(0.30000000000000004));
+        assertEquals(0, NumberWriter.fractionDigits(6.02214076E23));
+        assertEquals(0, NumberWriter.fractionDigits(-1e300));
+        assertEquals(0, NumberWriter.fractionDigits(Double.NaN));
+        assertEquals(0, NumberWriter.fractionDigits(Double.NEGATIVE_INFINITY));
+        assertEquals(325, NumberWriter.fractionDigits(Double.MIN_VALUE));
+    }
+
+    @Test
+    public void testPowersOfTen() {
+        final BigInteger mask = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+        for (int k = PowersOfTen.K_MIN; k <= PowersOfTen.K_MAX; k++) {
+            final int r = 125 - NumberWriter.flog2pow10(-k);
+            final BigInteger g = k <= 0
+                    ? BigInteger.TEN.pow(-k).shiftLeft(r).add(BigInteger.ONE)
+                    : BigInteger.ONE.shiftLeft(r).divide(BigInteger.TEN.pow(k)).add(BigInteger.ONE);
+            assertEquals(g.shiftRight(63).longValue(), PowersOfTen.g1(k), "g1 " + k);
+            assertEquals(g.and(mask).longValue(), PowersOfTen.g0(k), "g0 " + k);
+        }
+    }
+
+    @Test
+    public void testNumbersLikeToString() throws IOException {
+        final Number[] numbers = { 0, -7, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, (short) 12, (byte) -3,
+                BigInteger.TEN.pow(30).negate(), BigInteger.valueOf(Long.MIN_VALUE), new BigDecimal("12.50"),
+                new BigDecimal("1E+3"), RationalNumber.of(6, 3), RationalNumber.of(-5, 4), RationalNumber.ZERO, 1.5f };
+        for (Number number : numbers) {
+            assertEquals(number.toString(), NumberWriter.append(number, new StringBuilder()).toString());
+            assertEquals(number.toString(), NumberWriter.append(number, new StringWriter()).toString());
+        }
+    }
+
+    @Test
+    public void testIntegersLikeNumberFormat() throws IOException {
+        final Number[] numbers = { 0, 1, -1, 999, 1000, -1234567, Long.MAX_VALUE, Long.MIN_VALUE, 12.0, -1e15,
+                BigInteger.valueOf(123456789) };
+        for (Locale locale : new Locale[] { Locale.ROOT, Locale.GERMANY, Locale.FRANCE, new Locale("th", "TH", "TH") }) {
+            final NumberFormat format = NumberFormat.getInstance(locale);
+            final NumberWriter writer = NumberWriter.of(format);
+            assertNotNull(writer, locale.toString());
+            for (Number number : numbers) {
+                final StringBuilder dest = new StringBuilder();
+                assertTrue(writer.appendInteger(number, dest));
+                assertEquals(format.format(number), dest.toString(), locale + ": " + number);
+            }
+            for (Number number : new Number[] { 1.5, -0.0, Double.NaN, 1e16, new BigDecimal("2"), 2.5f }) {
+                assertFalse(writer.appendInteger(number, new StringBuilder()), number.toString());
+            }
+        }
+        final NumberFormat format = NumberFormat.getInstance(Locale.ROOT);
+        format.setGroupingUsed(false);
+        final StringBuilder dest = new StringBuilder();
+        NumberWriter.of(format).appendInteger(-1234567, dest);
+        assertEquals("-1234567", dest.toString());
+        assertNull(NumberWriter.of(NumberFormat.getPercentInstance(Locale.ROOT)));
+        assertNull(NumberWriter.of(NumberFormat.getCurrencyInstance(Locale.US)));
+    }
+
+    @Test
+    public void testToCharsAtOffset() {
+        final char[] chars = new char[3 + NumberWriter.MAX_DOUBLE_CHARS];
+        for (long value : new long[] { 0, 9, -10, 1234567890L, Long.MAX_VALUE, Long.MIN_VALUE }) {
+            final int end = NumberWriter.toChars(value, chars, 3);
+            assertEquals(Long.toString(value), new String(chars, 3, end - 3));
+        }
+        for (double value : new double[] { 0.0, -0.0, 12.5, 1E-7, 6.02214076E23, -Double.MIN_VALUE, Double.NaN,
+                Double.NEGATIVE_INFINITY, -2.2250738585072014E-308 }) {
+            final int end = NumberWriter.toChars(value, chars, 3);
+            assertEquals(Double.toString(value), new String(chars, 3, end - 3));
+        }
+    }
+}
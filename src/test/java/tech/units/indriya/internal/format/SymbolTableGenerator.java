@@ -0,0 +1,166 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Generates {@link SymbolTable} from the root <code>messages.properties</code> resource bundle.
+ * <p>
+ * Run {@link #main(String[])} from the project directory after changing <code>messages.properties</code>;
+ * {@link SymbolTableTest} fails the build while the generated class is out of date.
+ * </p>
+ */
+public final class SymbolTableGenerator {
+
+    static final Path BUNDLE = Paths.get("src/main/resources/tech/units/indriya/format/messages.properties");
+    static final Path TABLE = Paths.get("src/main/java/tech/units/indriya/internal/format/SymbolTable.java");
+
+    private static final String[][] CLASSES = { { "javax.measure.BinaryPrefix", "BinaryPrefix" },
+            { "javax.measure.MetricPrefix", "MetricPrefix" }, { "tech.units.indriya.unit.Units", "Units" } };
+
+    private SymbolTableGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Files.write(TABLE, generate().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String generate() throws IOException {
+        final Properties bundle = new Properties();
+        try (InputStream in = Files.newInputStream(BUNDLE)) {
+            bundle.load(in);
+        }
+        final TreeSet<String> keys = new TreeSet<>(bundle.stringPropertyNames());
+        final StringBuilder source = new StringBuilder();
+        try (Reader header = Files.newBufferedReader(TABLE, StandardCharsets.UTF_8)) {
+            // keeps the license header of the existing file
+            final char[] buffer = new char[8192];
+            final StringBuilder existing = new StringBuilder();
+            for (int n; (n = header.read(buffer)) > 0;) {
+                existing.append(buffer, 0, n);
+            }
+            source.append(existing, 0, existing.indexOf("package "));
+        }
+        source.append("package tech.units.indriya.internal.format;\n\n");
+        source.append("import static org.apiguardian.api.API.Status.INTERNAL;\n\n");
+        source.append("import java.util.Arrays;\n\n");
+        source.append("import javax.measure.BinaryPrefix;\n");
+        source.append("import javax.measure.MetricPrefix;\n\n");
+        source.append("import org.apiguardian.api.API;\n\n");
+        source.append("import tech.units.indriya.unit.Units;\n\n");
+        source.append("/**\n");
+        source.append(" * The entries of the root <code>tech.units.indriya.format.messages</code> resource bundle, with the unit and prefix\n");
+        source.append(" * constants their keys name, so the default symbol maps are built without reading the bundle or reflection.\n");
+        source.append(" * <p>\n");
+        source.append(" * Generated from <code>messages.properties</code> by <code>SymbolTableGenerator</code>, do not edit.\n");
+        source.append(" * <code>SymbolTableTest</code> fails the build when this class is out of date.\n");
+        source.append(" * </p>\n");
+        source.append(" *\n");
+        source.append(" * @version 1.0, October 19, 2026\n");
+        source.append(" * @since 2.2.3\n");
+        source.append(" */\n");
+        source.append("@API(status = INTERNAL)\n");
+        source.append("public final class SymbolTable {\n\n");
+        source.append("  /**\n   * Holds the resource bundle keys, sorted.\n   */\n");
+        source.append("  private static final String[] KEYS = {\n");
+        for (String key : keys) {
+            source.append("      ").append(literal(key)).append(",\n");
+        }
+        source.append("  };\n\n");
+        source.append("  /**\n   * Holds the symbols, by key index.\n   */\n");
+        source.append("  private static final String[] SYMBOLS = {\n");
+        for (String key : keys) {
+            source.append("      ").append(literal(bundle.getProperty(key))).append(",\n");
+        }
+        source.append("  };\n\n");
+        source.append("  /**\n   * Holds the constants named by the keys, by key index.\n   */\n");
+        source.append("  private static final Object[] CONSTANTS = {\n");
+        for (String key : keys) {
+            source.append("      ").append(constant(key)).append(",\n");
+        }
+        source.append("  };\n\n");
+        source.append("  private SymbolTable() {\n  }\n\n");
+        source.append("  /**\n   * Returns the number of entries.\n   *\n   * @return the number of entries.\n   */\n");
+        source.append("  public static int size() {\n    return KEYS.length;\n  }\n\n");
+        source.append("  /**\n   * Returns the index of the specified resource bundle key.\n   *\n");
+        source.append("   * @param key\n   *          the key.\n   * @return the index, or a negative value if the table does not hold the key.\n   */\n");
+        source.append("  public static int indexOf(String key) {\n    return Arrays.binarySearch(KEYS, key);\n  }\n\n");
+        source.append("  /**\n   * Returns the symbol of the entry at the specified index.\n   *\n");
+        source.append("   * @param index\n   *          the index.\n   * @return the symbol.\n   */\n");
+        source.append("  public static String symbol(int index) {\n    return SYMBOLS[index];\n  }\n\n");
+        source.append("  /**\n   * Returns the unit or prefix named by the key at the specified index.\n   *\n");
+        source.append("   * @param index\n   *          the index.\n   * @return the unit or prefix.\n   */\n");
+        source.append("  public static Object constant(int index) {\n    return CONSTANTS[index];\n  }\n\n");
+        source.append("  /**\n   * Returns whether the entry at the specified index is an alias, its key ending with a dot and a number.\n   *\n");
+        source.append("   * @param index\n   *          the index.\n   * @return <code>true</code> for an alias, <code>false</code> for a label.\n   */\n");
+        source.append("  public static boolean isAlias(int index) {\n");
+        source.append("    final String key = KEYS[index];\n");
+        source.append("    return Character.isDigit(key.charAt(key.lastIndexOf('.') + 1));\n  }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private static String constant(String key) {
+        String field = key;
+        if (Character.isDigit(field.charAt(field.lastIndexOf('.') + 1))) {
+            field = field.substring(0, field.lastIndexOf('.'));
+        }
+        for (String[] c : CLASSES) {
+            if (field.startsWith(c[0] + '.')) {
+                return c[1] + field.substring(c[0].length());
+            }
+        }
+        throw new IllegalArgumentException("No constant class for " + key);
+    }
+
+    private static String literal(String text) {
+        final StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04X", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
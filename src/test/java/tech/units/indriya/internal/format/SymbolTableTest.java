@@ -0,0 +1,78 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * Tests that the generated {@link SymbolTable} matches the root <code>messages.properties</code> resource bundle.
+ */
+public class SymbolTableTest {
+
+    @Test
+    public void testGeneratedTableIsUpToDate() throws IOException {
+        assertEquals(SymbolTableGenerator.generate(), new String(Files.readAllBytes(SymbolTableGenerator.TABLE), StandardCharsets.UTF_8),
+                "SymbolTable is out of date, run SymbolTableGenerator");
+    }
+
+    @Test
+    public void testMatchesBundle() {
+        final ResourceBundle bundle = ResourceBundle.getBundle("tech.units.indriya.format.messages", Locale.ROOT);
+        assertEquals(Collections.list(bundle.getKeys()).size(), SymbolTable.size());
+        for (String key : Collections.list(bundle.getKeys())) {
+            final int index = SymbolTable.indexOf(key);
+            assertTrue(index >= 0, key);
+            assertEquals(bundle.getString(key), SymbolTable.symbol(index), key);
+        }
+    }
+
+    @Test
+    public void testEntries() {
+        final int celsius = SymbolTable.indexOf("tech.units.indriya.unit.Units.CELSIUS");
+        assertEquals(Units.CELSIUS, SymbolTable.constant(celsius));
+        assertEquals(false, SymbolTable.isAlias(celsius));
+        final int alias = SymbolTable.indexOf("tech.units.indriya.unit.Units.CELSIUS.1");
+        assertEquals(Units.CELSIUS, SymbolTable.constant(alias));
+        assertEquals(true, SymbolTable.isAlias(alias));
+        assertTrue(SymbolTable.indexOf("tech.units.indriya.unit.Units.FOO") < 0);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SymbolTrie}.
+ */
+public class SymbolTrieTest {
+
+    private static SymbolTrie<String> trie(String... symbols) {
+        final SymbolTrie<String> trie = new SymbolTrie<>();
+        for (String symbol : symbols) {
+            trie.put(symbol, symbol);
+        }
+        return trie;
+    }
+
+    @Test
+    public void testGet() {
+        final SymbolTrie<String> trie = trie("m", "mol", "min", "Pa");
+        assertEquals(4, trie.size());
+        assertEquals("mol", trie.get("mol"));
+        assertEquals("m", trie.get("m"));
+        assertNull(trie.get("mo"));
+        assertNull(trie.get("moles"));
+        assertNull(trie.get(""));
+        assertEquals("Pa", trie.get("12 Pa/s", 3, 5));
+    }
+
+    @Test
+    public void testPutReplaces() {
+        final SymbolTrie<String> trie = trie("m");
+        assertEquals("m", trie.put("m", "metre"));
+        assertEquals(1, trie.size());
+        assertEquals("metre", trie.get("m"));
+    }
+
+    @Test
+    public void testLongestPrefix() {
+        final SymbolTrie<String> trie = trie("d", "da", "m", "micro");
+        assertEquals(2, trie.longestPrefix("dam", 0, 3));
+        assertEquals(1, trie.longestPrefix("dam", 0, 1));
+        assertEquals(5, trie.longestPrefix("microg", 0, 6));
+        assertEquals(1, trie.longestPrefix("micrg", 0, 5));
+        assertEquals(-1, trie.longestPrefix("kg", 0, 2));
+        assertEquals(-1, trie.longestPrefix("dam", 0, 0));
+    }
+
+    @Test
+    public void testNormalizesMicroOhmAndKelvinSigns() {
+        final SymbolTrie<String> trie = trie("\u00b5g", "\u03a9", "K");
+        assertEquals("\u00b5g", trie.get("\u03bcg"));
+        assertEquals("\u03a9", trie.get("\u2126"));
+        assertEquals("K", trie.get("\u212a"));
+        assertEquals("\u00b5g", trie.put("\u03bcg", "micro"));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void testRemove() {
+        final SymbolTrie<String> trie = trie("m", "mol", "cd", "kd");
+        assertEquals("mol", trie.remove("mol"));
+        assertNull(trie.remove("mol"));
+        assertNull(trie.remove("mo"));
+        assertNull(trie.get("mol"));
+        assertEquals("m", trie.get("m"));
+        trie.removeIf((symbol, value) -> symbol.endsWith("d"));
+        assertNull(trie.get("cd"));
+        assertNull(trie.get("kd"));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        final SymbolTrie<String> trie = trie("m", "mol");
+        final SymbolTrie<String> copy = trie.copy();
+        copy.put("cd", "cd");
+        copy.remove("mol");
+        assertEquals("mol", trie.get("mol"));
+        assertNull(trie.get("cd"));
+        assertEquals(2, trie.size());
+        assertEquals("cd", copy.get("cd"));
+        assertNull(copy.get("mol"));
+        assertEquals(2, copy.size());
+    }
+}
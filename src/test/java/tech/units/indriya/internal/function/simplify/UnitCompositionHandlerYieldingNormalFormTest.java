@@ -0,0 +1,76 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.function.simplify;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.function.AbstractConverter;
+import tech.units.indriya.function.AddConverter;
+import tech.units.indriya.function.MultiplyConverter;
+
+/**
+ * Tests the memoization of {@link UnitCompositionHandlerYieldingNormalForm}.
+ */
+public class UnitCompositionHandlerYieldingNormalFormTest {
+
+    private static final BiPredicate<AbstractConverter, AbstractConverter> CAN_REDUCE = (a, b) -> false;
+    private static final BinaryOperator<AbstractConverter> DO_REDUCE = (a, b) -> {
+        throw new UnsupportedOperationException();
+    };
+
+    private final UnitCompositionHandlerYieldingNormalForm handler = new UnitCompositionHandlerYieldingNormalForm();
+
+    private AbstractConverter compose(AbstractConverter a, AbstractConverter b) {
+        return handler.compose(a, b, CAN_REDUCE, DO_REDUCE);
+    }
+
+    @Test
+    public void testCachesAfterBeingFull() {
+        final AbstractConverter multiply = (AbstractConverter) MultiplyConverter.of(2.5);
+        final AbstractConverter first = compose(new AddConverter(0.5), multiply);
+        assertSame(first, compose(new AddConverter(0.5), multiply));
+        for (int i = 0; i <= UnitCompositionHandlerYieldingNormalForm.MAX_CACHED_COMPOSITIONS; i++) {
+            compose(new AddConverter(1000 + i), multiply);
+        }
+        final AbstractConverter recomputed = compose(new AddConverter(0.5), multiply);
+        assertNotSame(first, recomputed, "started over");
+        assertEquals(first, recomputed);
+
+        final AbstractConverter next = compose(new AddConverter(-0.5), multiply);
+        assertSame(next, compose(new AddConverter(-0.5), multiply));
+    }
+}
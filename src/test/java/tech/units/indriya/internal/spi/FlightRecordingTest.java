@@ -0,0 +1,200 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import tech.units.indriya.format.EBNFUnitFormat;
+import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.function.AddConverter;
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.MultiplyConverter;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Tests the Java 11 {@link FlightRecording}, which emits the events of <code>tech.units.indriya.internal.jfr</code>.
+ * <p>
+ * The tests run on the class directories rather than on the multi-release jar, so the library is loaded once more with
+ * the Java 11 classes in front, like the jar does on Java 11 and later. The recording lowers the thresholds to zero so
+ * that every event is kept.
+ * </p>
+ */
+@EnabledForJreRange(min = JRE.JAVA_11)
+public class FlightRecordingTest {
+
+    private static final String[] EVENTS = { "Conversion", "NormalForm", "Parse", "Widening" };
+
+    private static List<RecordedEvent> events;
+
+    /**
+     * Loads the library classes, including this test, by itself with the Java 11 classes in front, and everything else
+     * from its parent.
+     */
+    private static final class MultiReleaseLoader extends URLClassLoader {
+
+        MultiReleaseLoader(URL[] urls, ClassLoader parent) {
+            super(urls, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith("tech.units.indriya.")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null) {
+                    type = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(type);
+                }
+                return type;
+            }
+        }
+    }
+
+    /**
+     * Performs each operation emitting an event, when loaded by a {@link MultiReleaseLoader}.
+     */
+    public static final class Scenario implements Runnable {
+
+        @Override
+        public void run() {
+            Units.KILOMETRE_PER_HOUR.getConverterTo(Units.METRE_PER_SECOND);
+            new AddConverter(1.5).concatenate(MultiplyConverter.of(2.5));
+            SimpleUnitFormat.getInstance().parse("km/h");
+            try {
+                SimpleUnitFormat.getInstance().parse("m/#");
+            } catch (MeasurementParseException e) {
+                // recorded as failed
+            }
+            EBNFUnitFormat.getInstance().parse("m/s");
+            Calculus.currentNumberSystem().multiply(Long.MAX_VALUE, 2L);
+        }
+    }
+
+    @BeforeAll
+    public static void record(@TempDir Path dir) throws Exception {
+        final URL classes = FlightRecording.class.getProtectionDomain().getCodeSource().getLocation();
+        final URL testClasses = FlightRecordingTest.class.getProtectionDomain().getCodeSource().getLocation();
+        final URL[] urls = { new URL(classes, "META-INF/versions/11/"), classes, testClasses };
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        try (MultiReleaseLoader loader = new MultiReleaseLoader(urls, FlightRecordingTest.class.getClassLoader());
+                Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable("tech.units.indriya." + event).withThreshold(Duration.ZERO);
+            }
+            thread.setContextClassLoader(loader); // for the service providers of the library
+            recording.start();
+            ((Runnable) loader.loadClass(Scenario.class.getName()).getConstructor().newInstance()).run();
+            recording.stop();
+            final Path file = dir.resolve("indriya.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static List<RecordedEvent> events(String name, Predicate<RecordedEvent> filter) {
+        return events.stream().filter(e -> e.getEventType().getName().equals("tech.units.indriya." + name)).filter(filter)
+                .collect(Collectors.toList());
+    }
+
+    private static RecordedEvent event(String name, Predicate<RecordedEvent> filter) {
+        final List<RecordedEvent> found = events(name, filter);
+        assertEquals(1, found.size(), () -> name + " events: " + found);
+        return found.get(0);
+    }
+
+    @Test
+    public void testConversion() {
+        final RecordedEvent event = event("Conversion", e -> "km/h".equals(e.getString("source")));
+        assertEquals("m/s", event.getString("target"));
+        assertFalse(event.getDuration().isNegative());
+    }
+
+    @Test
+    public void testNormalForm() {
+        final RecordedEvent event = event("NormalForm", e -> e.getString("steps").contains("x + 1.5"));
+        assertEquals(2, event.getInt("stepCount"));
+        assertEquals("[Add(x -> x + 1.5), Rational(x -> x * 2.5)]", event.getString("steps"));
+        assertTrue(event.getString("normalForm").startsWith("Pair("), event.getString("normalForm"));
+    }
+
+    @Test
+    public void testParse() {
+        final RecordedEvent parsed = event("Parse", e -> "km/h".equals(e.getString("text")));
+        assertEquals(SimpleUnitFormat.getInstance().getClass().getName(), parsed.getString("format"));
+        assertEquals("km/h", parsed.getString("unit"));
+        assertFalse(parsed.getBoolean("failed"));
+
+        final RecordedEvent failed = event("Parse", e -> "m/#".equals(e.getString("text")));
+        assertNull(failed.getString("unit"));
+        assertTrue(failed.getBoolean("failed"));
+
+        final RecordedEvent ebnf = event("Parse", e -> "m/s".equals(e.getString("text")));
+        assertEquals(EBNFUnitFormat.class.getName(), ebnf.getString("format"));
+        assertEquals("m/s", ebnf.getString("unit"));
+    }
+
+    @Test
+    public void testWidening() {
+        final RecordedEvent event = event("Widening", e -> "multiply".equals(e.getString("operation")));
+        assertEquals("Long " + Long.MAX_VALUE, event.getString("x"));
+        assertEquals("Long 2", event.getString("y"));
+        assertEquals("java.math.BigInteger", event.getClass("resultType").getName());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.spi;
+
+import static javax.measure.MetricPrefix.KILO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.function.AddConverter;
+import tech.units.indriya.function.Calculus;
+import tech.units.indriya.function.MultiplyConverter;
+import tech.units.indriya.spi.Instrumentation;
+import tech.units.indriya.spi.Instrumentation.Event;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Tests {@link Instrumentations}.
+ */
+public class InstrumentationsTest {
+
+    private static class Recording implements Instrumentation {
+        private final Map<Event, LongAdder> counters = new EnumMap<>(Event.class);
+        private final Map<Event, LongAdder> timers = new EnumMap<>(Event.class);
+
+        Recording() {
+            for (Event event : Event.values()) {
+                counters.put(event, new LongAdder());
+                timers.put(event, new LongAdder());
+            }
+        }
+
+        @Override
+        public void increment(Event event) {
+            counters.get(event).increment();
+        }
+
+        @Override
+        public void record(Event event, long nanos) {
+            timers.get(event).increment();
+        }
+
+        long count(Event event) {
+            return counters.get(event).sum();
+        }
+
+        long timed(Event event) {
+            return timers.get(event).sum();
+        }
+    }
+
+    private Instrumentation previous;
+    private Recording recording;
+
+    @BeforeEach
+    public void setUp() {
+        previous = Instrumentations.get();
+        recording = new Recording();
+        Instrumentations.set(recording);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Instrumentations.set(previous);
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Instrumentations.reload();
+        assertFalse(Instrumentations.isEnabled());
+        assertEquals(0L, Instrumentations.start());
+        Instrumentations.increment(Event.PARSE_FAILURE); // must not fail
+    }
+
+    @Test
+    public void testNumberWidening() {
+        Calculus.currentNumberSystem().add(1L, 2L);
+        assertEquals(0, recording.count(Event.NUMBER_WIDENING));
+        Calculus.currentNumberSystem().multiply(Long.MAX_VALUE, 2L);
+        assertEquals(1, recording.count(Event.NUMBER_WIDENING));
+        Calculus.currentNumberSystem().divide(1, 3);
+        assertEquals(2, recording.count(Event.NUMBER_WIDENING));
+    }
+
+    @Test
+    public void testParseFailure() {
+        assertThrows(MeasurementParseException.class, () -> SimpleUnitFormat.getInstance().parse("m/§"));
+        assertEquals(1, recording.count(Event.PARSE_FAILURE));
+    }
+
+    @Test
+    public void testConverterComposition() {
+        new AddConverter(123.25).concatenate(MultiplyConverter.of(7.5));
+        assertEquals(1, recording.count(Event.COMPOSITION_CACHE_MISS));
+        assertEquals(1, recording.timed(Event.CONVERTER_COMPOSITION));
+        new AddConverter(123.25).concatenate(MultiplyConverter.of(7.5));
+        assertEquals(1, recording.count(Event.COMPOSITION_CACHE_HIT));
+    }
+
+    @Test
+    public void testConverterCache() {
+        Units.METRE.getConverterTo(KILO(Units.METRE));
+        Units.METRE.getConverterTo(KILO(Units.METRE));
+        assertTrue(recording.count(Event.CONVERTER_CACHE_HIT) >= 1);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.measure.spi.FormatService;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.inject.Named;
+import tech.units.indriya.format.DefaultFormatService;
+import tech.uom.lib.common.function.IntPrioritySupplier;
+
+/**
+ * Tests {@link ServiceIndex}.
+ */
+public class ServiceIndexTest {
+
+    private static class Low implements IntPrioritySupplier {
+        @Override
+        public int getPriority() {
+            return 10;
+        }
+    }
+
+    @Named("top")
+    private static class High implements IntPrioritySupplier {
+        @Override
+        public int getPriority() {
+            return 100;
+        }
+    }
+
+    private static class Plain {
+    }
+
+    @Test
+    public void testOrdersByPriority() {
+        final Object low = new Low();
+        final Object high = new High();
+        final Object plain = new Plain();
+        final ServiceIndex<Object> index = ServiceIndex.of(Arrays.asList(plain, low, high));
+        assertEquals(Arrays.asList(high, low, plain), index.list());
+        assertSame(high, index.first());
+        assertThrows(UnsupportedOperationException.class, () -> index.list().clear());
+    }
+
+    @Test
+    public void testGetByName() {
+        final Object high = new High();
+        final ServiceIndex<Object> index = ServiceIndex.of(Arrays.asList(new Low(), high));
+        assertSame(high, index.get("top"));
+        assertSame(high, index.get("High"));
+        assertSame(high, index.get(High.class.getName()));
+        assertNull(index.get("Plain"));
+    }
+
+    @Test
+    public void testEmpty() {
+        final ServiceIndex<Object> index = ServiceIndex.of(Collections.emptyList());
+        assertNull(index.first());
+        assertNull(index.get("any"));
+    }
+
+    @Test
+    public void testLoad() {
+        final ServiceIndex<FormatService> index = ServiceIndex.load(FormatService.class, null);
+        assertFalse(index.list().isEmpty());
+        assertEquals(DefaultFormatService.class, index.get("DefaultFormatService").getClass());
+    }
+}
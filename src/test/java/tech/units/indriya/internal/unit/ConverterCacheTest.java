@@ -0,0 +1,66 @@
+/*
+ * Units of Measurement Reference Implementation
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Indriya nor the names of their contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package tech.units.indriya.internal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.measure.Quantity.Scale;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.unit.Units;
+
+/**
+ * Tests {@link ConverterCache}.
+ */
+public class ConverterCacheTest {
+
+    @Test
+    public void testCachesAfterBeingFull() {
+        final Unit<Length> first = Units.METRE.multiply(3.0625);
+        final UnitConverter converter = first.getConverterTo(Units.METRE);
+        assertSame(converter, ConverterCache.get(first, Units.METRE, Scale.ABSOLUTE, false));
+        for (int i = 0; i <= ConverterCache.MAX_SIZE; i++) {
+            final Unit<Length> unit = Units.METRE.multiply(1000 + i);
+            ConverterCache.put(unit, Units.METRE, Scale.ABSOLUTE, false, unit.getConverterTo(Units.METRE));
+        }
+        assertNull(ConverterCache.get(first, Units.METRE, Scale.ABSOLUTE, false), "started over");
+
+        final Unit<Length> next = Units.METRE.multiply(5.0625);
+        final UnitConverter nextConverter = next.getConverterTo(Units.METRE);
+        assertNotNull(ConverterCache.get(next, Units.METRE, Scale.ABSOLUTE, false));
+        assertSame(nextConverter, next.getConverterTo(Units.METRE));
+    }
+}
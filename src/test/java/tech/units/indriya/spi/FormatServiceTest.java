@@ -31,7 +31,12 @@ package tech.units.indriya.spi;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static javax.measure.spi.FormatService.FormatType.*;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import javax.measure.format.QuantityFormat;
 import javax.measure.format.UnitFormat;
@@ -40,6 +45,8 @@ import javax.measure.spi.ServiceProvider;
 
 import org.junit.jupiter.api.Test;
 
+import tech.units.indriya.format.DefaultFormatService;
+
 /**
  * Tests for services provided via {@link ServiceProvider}.
  */
@@ -161,6 +168,37 @@ public class FormatServiceTest {
     assertEquals(4, fs.getAvailableFormatNames(UNIT_FORMAT).size());
   }
 
+  @Test
+  public void testGetUnitFormatMaterializedOnce() throws Exception {
+    final DefaultFormatService fs = new DefaultFormatService();
+    final Map<?, ?> unitFormats = materialized(fs, "unitFormats");
+    final Map<?, ?> quantityFormats = materialized(fs, "quantityFormats");
+    assertEquals(4, fs.getAvailableFormatNames(UNIT_FORMAT).size());
+    assertEquals(QUANTITY_FORMAT_COUNT, fs.getAvailableFormatNames(QUANTITY_FORMAT).size());
+    assertTrue(unitFormats.isEmpty(), "no unit format before the first lookup");
+    assertTrue(quantityFormats.isEmpty(), "no quantity format before the first lookup");
+
+    final UnitFormat uf = fs.getUnitFormat("Local");
+    assertNotNull(uf);
+    assertEquals(new HashSet<>(Arrays.asList("LOCAL")), unitFormats.keySet());
+    assertTrue(quantityFormats.isEmpty());
+    assertSame(uf, fs.getUnitFormat("LOCAL"));
+    assertSame(fs.getUnitFormat("Simple", "ASCII"), fs.getUnitFormat("ASCII"));
+    assertEquals(new HashSet<>(Arrays.asList("LOCAL", "SIMPLE_ASCII")), unitFormats.keySet());
+
+    assertSame(fs.getQuantityFormat("NumberDelimiter"), fs.getQuantityFormat("NumberSpace"));
+    assertEquals(new HashSet<>(Arrays.asList("NUMBERDELIMITER")), quantityFormats.keySet());
+  }
+
+  /**
+   * Returns the formats the given service has materialized so far, by name.
+   */
+  private static Map<?, ?> materialized(DefaultFormatService fs, String field) throws ReflectiveOperationException {
+    final Field formats = DefaultFormatService.class.getDeclaredField(field);
+    formats.setAccessible(true);
+    return (Map<?, ?>) formats.get(fs);
+  }
+
   @Test
   public void testGetQuantityFormatFound() throws Exception {
     final FormatService fs = ServiceProvider.current().getFormatService();
@@ -31,6 +31,7 @@ package tech.units.indriya.spi;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -90,4 +91,15 @@ public class ServiceTest {
             ServiceProvider provider = ServiceProvider.of("ThisServiceProviderWontExistHere");
         });
     }
+
+    @Test
+    public void testReload() throws Exception {
+        final AbstractServiceProvider provider = (AbstractServiceProvider) ServiceProvider.current();
+        final FormatService fs = provider.getFormatService();
+        assertEquals(fs, provider.getService(FormatService.class, "DefaultFormatService"));
+        provider.reload();
+        final FormatService reloaded = provider.getFormatService();
+        assertNotSame(fs, reloaded);
+        assertNotNull(reloaded.getUnitFormat());
+    }
 }
@@ -41,11 +41,14 @@ import javax.measure.Quantity;
 import javax.measure.UnconvertibleException;
 import javax.measure.Unit;
 import javax.measure.UnitConverter;
+import javax.measure.format.MeasurementParseException;
 import javax.measure.quantity.ElectricCurrent;
 import javax.measure.quantity.Length;
 
 import org.junit.jupiter.api.Test;
 
+import tech.units.indriya.format.SimpleUnitFormat;
+
 /**
  * Test for alternate units 
  * @author Werner
@@ -372,4 +375,14 @@ class AlternateUnitTest {
 	public void actualUnitIsNotEqualToShift() {
 		assertNotEquals(ALTERNATE_UNIT.getParentUnit().shift(10), ALTERNATE_UNIT.shift(10));
 	}
+
+	/**
+	 * Verifies that the symbol of an alternate unit without a label is not
+	 * parsed.
+	 */
+	@Test
+	public void unlabeledSymbolIsNotParsed() {
+		new AlternateUnit<>(PARENT_UNIT, "Xalt");
+		assertThrows(MeasurementParseException.class, () -> SimpleUnitFormat.getInstance().parse("Xalt"));
+	}
 }
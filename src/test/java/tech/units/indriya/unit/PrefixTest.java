@@ -54,6 +54,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.units.indriya.NumberAssertions.assertNumberEquals;
 import static tech.units.indriya.unit.Units.GRAM;
@@ -74,7 +76,9 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.MultiplyConverter;
 import tech.units.indriya.function.RationalNumber;
+import tech.units.indriya.internal.unit.PrefixTable;
 import tech.units.indriya.quantity.Quantities;
 
 public class PrefixTest {
@@ -303,4 +307,24 @@ public class PrefixTest {
 	public void testPrefixMethod() {
 		assertEquals(CENTI(METRE), METRE.prefix(CENTI));
 	}
+
+	@Test
+	public void testPrefixConvertersShared() {
+		assertNotSame(KILO(METRE), METRE.prefix(KILO));
+		assertEquals(KILO(METRE), METRE.prefix(KILO));
+		assertSame(PrefixTable.converterOf(KILO), PrefixTable.converterOf(KILO));
+		assertSame(PrefixTable.converterOf(KIBI), PrefixTable.converterOf(KIBI));
+		assertEquals(KIBI(GRAM), GRAM.prefix(KIBI));
+		assertEquals("km", KILO(METRE).toString());
+	}
+
+	@Test
+	public void testPrefixedUnitsOfEqualUnitsWithDifferentSymbols() {
+		// other tests label FOOT, hence a factor no labelled unit uses
+		final Unit<Length> span = new TransformedUnit<>("sp", METRE, MultiplyConverter.of(0.2286));
+		final Unit<Length> empan = new TransformedUnit<>("empan", METRE, MultiplyConverter.of(0.2286));
+		assertEquals(span, empan);
+		assertEquals("ksp", span.prefix(KILO).toString());
+		assertEquals("kempan", empan.prefix(KILO).toString());
+	}
 }